@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.bpmn.converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Process;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts a {@link BpmnModel} to a binary snapshot and back, as a faster alternative for parsing the BPMN XML again.
+ * <p>
+ * A snapshot starts with a header containing the snapshot format version and a compatibility tag (e.g. the engine version),
+ * followed by the Java serialized model. A snapshot with another format version or compatibility tag, or one that was
+ * written with incompatible model classes, is not read: {@link #convertToBpmnModel(byte[], String)} returns null in that case,
+ * so the caller can fall back to the XML.
+ * <p>
+ * The links between flow elements (incoming and outgoing flows, attached boundary events) are not part of the snapshot,
+ * they are restored based on the element references when reading it, the same way as when the XML is parsed.
+ */
+public class BpmnModelSnapshotConverter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnModelSnapshotConverter.class);
+
+    public static final int SNAPSHOT_FORMAT_VERSION = 1;
+
+    protected static final int SNAPSHOT_MAGIC = 0x464c424d;
+
+    public byte[] convertToSnapshot(BpmnModel model, String compatibilityTag) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+            dataOutputStream.writeInt(SNAPSHOT_MAGIC);
+            dataOutputStream.writeInt(SNAPSHOT_FORMAT_VERSION);
+            dataOutputStream.writeUTF(compatibilityTag != null ? compatibilityTag : "");
+
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(dataOutputStream);
+            objectOutputStream.writeObject(model);
+            objectOutputStream.close();
+            return outputStream.toByteArray();
+
+        } catch (IOException e) {
+            throw new XMLException("Error writing BPMN model snapshot", e);
+        }
+    }
+
+    public BpmnModel convertToBpmnModel(byte[] snapshot, String compatibilityTag) {
+        try {
+            DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(snapshot));
+            if (dataInputStream.readInt() != SNAPSHOT_MAGIC) {
+                throw new XMLException("Not a BPMN model snapshot");
+            }
+
+            int formatVersion = dataInputStream.readInt();
+            String snapshotCompatibilityTag = dataInputStream.readUTF();
+            if (formatVersion != SNAPSHOT_FORMAT_VERSION || !snapshotCompatibilityTag.equals(compatibilityTag != null ? compatibilityTag : "")) {
+                LOGGER.debug("Ignoring BPMN model snapshot with format version {} and compatibility tag {}", formatVersion, snapshotCompatibilityTag);
+                return null;
+            }
+
+            BpmnModel model;
+            try (ObjectInputStream objectInputStream = new BpmnModelObjectInputStream(dataInputStream)) {
+                model = (BpmnModel) objectInputStream.readObject();
+            }
+
+            BpmnXMLConverter xmlConverter = new BpmnXMLConverter();
+            for (Process process : model.getProcesses()) {
+                xmlConverter.processFlowElements(process.getFlowElements(), process);
+            }
+            return model;
+
+        } catch (InvalidClassException e) {
+            LOGGER.debug("Ignoring BPMN model snapshot written with incompatible model classes", e);
+            return null;
+
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new XMLException("Error reading BPMN model snapshot", e);
+        }
+    }
+
+    /**
+     * Only resolves the classes that can be part of a {@link BpmnModel}, so a snapshot can't be used to instantiate arbitrary classes.
+     */
+    protected static class BpmnModelObjectInputStream extends ObjectInputStream {
+
+        public BpmnModelObjectInputStream(InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            // Strips the array prefix, e.g. '[Ljava.lang.String;' becomes 'java.lang.String;' and '[I' becomes 'I'
+            String className = desc.getName().replaceFirst("^\\[+L?", "");
+            if (className.length() > 1
+                    && !className.startsWith("org.flowable.bpmn.model.")
+                    && !className.startsWith("java.lang.")
+                    && !className.startsWith("java.util.")) {
+                throw new InvalidClassException(desc.getName(), "Class is not allowed in a BPMN model snapshot");
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+}
@@ -39,8 +39,9 @@ import org.flowable.bpmn.model.ValuedDataObject;
  */
 public class ValuedDataObjectXMLConverter extends BaseBpmnXMLConverter {
 
+    private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+
     private final Pattern xmlChars = Pattern.compile("[<>&]");
-    private SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
     protected boolean didWriteExtensionStartElement;
 
     @Override
@@ -101,7 +102,7 @@ public class ValuedDataObjectXMLConverter extends BaseBpmnXMLConverter {
                 if (StringUtils.isNotEmpty(valueElement.getElementText())) {
                     if (dataObject instanceof DateDataObject) {
                         try {
-                            dataObject.setValue(sdf.parse(valueElement.getElementText()));
+                            dataObject.setValue(new SimpleDateFormat(DATE_FORMAT).parse(valueElement.getElementText()));
                         } catch (Exception e) {
                             LOGGER.error("Error converting {}; message={}", dataObject.getName(), e.getMessage());
                         }
@@ -141,7 +142,7 @@ public class ValuedDataObjectXMLConverter extends BaseBpmnXMLConverter {
             if (dataObject.getValue() != null) {
                 String value = null;
                 if (dataObject instanceof DateDataObject) {
-                    value = sdf.format(dataObject.getValue());
+                    value = new SimpleDateFormat(DATE_FORMAT).format(dataObject.getValue());
                 } else {
                     value = dataObject.getValue().toString();
                 }
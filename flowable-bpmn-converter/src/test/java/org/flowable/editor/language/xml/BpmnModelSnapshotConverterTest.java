@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.flowable.bpmn.converter.BpmnModelSnapshotConverter;
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Test;
+
+public class BpmnModelSnapshotConverterTest extends AbstractConverterTest {
+
+    @Test
+    public void convertSnapshotToModel() throws Exception {
+        BpmnModel bpmnModel = readXMLFile();
+        BpmnModelSnapshotConverter snapshotConverter = new BpmnModelSnapshotConverter();
+        BpmnModel restoredModel = snapshotConverter.convertToBpmnModel(snapshotConverter.convertToSnapshot(bpmnModel, "6.4.0"), "6.4.0");
+
+        assertNotNull(restoredModel);
+        assertEquals(bpmnModel.getProcesses().size(), restoredModel.getProcesses().size());
+        assertEquals(bpmnModel.getLocationMap().keySet(), restoredModel.getLocationMap().keySet());
+
+        FlowElement flowElement = restoredModel.getMainProcess().getFlowElement("userTask1");
+        assertTrue(flowElement instanceof UserTask);
+        assertSame(restoredModel.getMainProcess(), flowElement.getParentContainer());
+
+        SubProcess subProcess = (SubProcess) restoredModel.getMainProcess().getFlowElement("subprocess");
+        assertNotNull(subProcess.getFlowElement("receiveTask"));
+
+        // The links between the flow elements are restored
+        for (FlowElement originalElement : bpmnModel.getMainProcess().getFlowElements()) {
+            FlowElement restoredElement = restoredModel.getMainProcess().getFlowElement(originalElement.getId());
+            if (originalElement instanceof FlowNode) {
+                assertEquals(((FlowNode) originalElement).getIncomingFlows().size(), ((FlowNode) restoredElement).getIncomingFlows().size());
+                assertEquals(((FlowNode) originalElement).getOutgoingFlows().size(), ((FlowNode) restoredElement).getOutgoingFlows().size());
+
+            } else if (originalElement instanceof SequenceFlow) {
+                SequenceFlow sequenceFlow = (SequenceFlow) restoredElement;
+                assertSame(restoredModel.getMainProcess().getFlowElement(sequenceFlow.getSourceRef()), sequenceFlow.getSourceFlowElement());
+                assertSame(restoredModel.getMainProcess().getFlowElement(sequenceFlow.getTargetRef()), sequenceFlow.getTargetFlowElement());
+            }
+        }
+    }
+
+    @Test
+    public void convertSnapshotWithOtherCompatibilityTag() throws Exception {
+        BpmnModelSnapshotConverter snapshotConverter = new BpmnModelSnapshotConverter();
+        byte[] snapshot = snapshotConverter.convertToSnapshot(readXMLFile(), "6.4.0");
+
+        assertNull(snapshotConverter.convertToBpmnModel(snapshot, "6.5.0"));
+    }
+
+    @Test(expected = XMLException.class)
+    public void convertInvalidSnapshot() {
+        new BpmnModelSnapshotConverter().convertToBpmnModel("<definitions/>".getBytes(), "6.4.0");
+    }
+
+    @Override
+    protected String getResource() {
+        return "completemodel.bpmn";
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,10 +28,15 @@ public abstract class Activity extends FlowNode {
     protected IOSpecification ioSpecification;
     protected List<DataAssociation> dataInputAssociations = new ArrayList<>();
     protected List<DataAssociation> dataOutputAssociations = new ArrayList<>();
-    protected List<BoundaryEvent> boundaryEvents = new ArrayList<>();
+    protected transient List<BoundaryEvent> boundaryEvents = new ArrayList<>();
     protected String failedJobRetryTimeCycleValue;
     protected List<MapExceptionEntry> mapExceptions = new ArrayList<>();
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        boundaryEvents = new ArrayList<>();
+    }
+
     public String getFailedJobRetryTimeCycleValue() {
         return failedJobRetryTimeCycleValue;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -22,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 /**
  * @author Tijs Rademakers
  */
-public abstract class BaseElement implements HasExtensionAttributes {
+public abstract class BaseElement implements HasExtensionAttributes, Serializable {
 
     protected String id;
     protected int xmlRowNumber;
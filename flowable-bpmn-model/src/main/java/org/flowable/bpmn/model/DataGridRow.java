@@ -12,13 +12,14 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * @author Tijs Rademakers
  */
-public class DataGridRow {
+public class DataGridRow implements Serializable {
 
     protected int index;
     protected List<DataGridField> fields = new ArrayList<>();
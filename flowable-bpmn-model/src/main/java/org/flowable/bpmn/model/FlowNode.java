@@ -12,6 +12,8 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,16 +28,23 @@ public abstract class FlowNode extends FlowElement {
     protected boolean asynchronous;
     protected boolean notExclusive;
 
-    protected List<SequenceFlow> incomingFlows = new ArrayList<>();
-    protected List<SequenceFlow> outgoingFlows = new ArrayList<>();
+    // Not serialized (to avoid deep recursion on large models), the flows are linked again based on their source and target refs
+    protected transient List<SequenceFlow> incomingFlows = new ArrayList<>();
+    protected transient List<SequenceFlow> outgoingFlows = new ArrayList<>();
 
     @JsonIgnore
-    protected Object behavior;
+    protected transient Object behavior;
 
     public FlowNode() {
 
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        incomingFlows = new ArrayList<>();
+        outgoingFlows = new ArrayList<>();
+    }
+
     public boolean isAsynchronous() {
         return asynchronous;
     }
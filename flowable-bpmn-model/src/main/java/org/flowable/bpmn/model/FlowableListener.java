@@ -32,7 +32,7 @@ public class FlowableListener extends BaseElement {
     protected String customPropertiesResolverImplementation;
 
     @JsonIgnore
-    protected Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
+    protected transient Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
     
     public FlowableListener() {
         // Always generate a random identifier to look up the listener while executing the logic
@@ -31,10 +31,10 @@ public class SequenceFlow extends FlowElement {
     // Actual flow elements that match the source and target ref
     // Set during process definition parsing
     @JsonIgnore
-    protected FlowElement sourceFlowElement;
+    protected transient FlowElement sourceFlowElement;
 
     @JsonIgnore
-    protected FlowElement targetFlowElement;
+    protected transient FlowElement targetFlowElement;
 
     /**
      * Graphical information: a list of waypoints: x1, y1, x2, y2, x3, y3, ..
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.delegate.event;
+
+import java.util.List;
+
+/**
+ * Base class for {@link FlowableAsyncEventListener}s, passing every event of a batch to {@link #onEvent(FlowableEvent)}.
+ */
+public abstract class AbstractFlowableAsyncEventListener extends AbstractFlowableEventListener implements FlowableAsyncEventListener {
+
+    protected int queueCapacity = 10000;
+    protected int maxBatchSize = 100;
+    protected OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+    @Override
+    public void onEvents(List<FlowableEvent> events) {
+        for (FlowableEvent event : events) {
+            onEvent(event);
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+}
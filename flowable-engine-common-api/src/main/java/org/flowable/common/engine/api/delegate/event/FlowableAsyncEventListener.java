@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.delegate.event;
+
+import java.util.List;
+
+/**
+ * A {@link FlowableEventListener} that receives its events asynchronously, in batches, on a thread of the event dispatcher
+ * instead of on the thread that dispatches the event.
+ * <p>
+ * Dispatching an event to such a listener only puts the event on a bounded queue of the listener. The listener is therefore not part
+ * of the transaction of the command that fired the event: exceptions thrown by the listener are logged and never fail that command,
+ * regardless of {@link #isFailOnException()}.
+ * <p>
+ * When {@link #isFireOnTransactionLifecycleEvent()} is true, the event is only queued when the transaction reaches the state
+ * returned by {@link #getOnTransaction()}, e.g. <code>committed</code> to only get the events of committed transactions.
+ */
+public interface FlowableAsyncEventListener extends FlowableEventListener {
+
+    /**
+     * Called with a batch of events, in the order in which they were queued.
+     * 
+     * @param events the events, at most {@link #getMaxBatchSize()}
+     */
+    void onEvents(List<FlowableEvent> events);
+
+    /**
+     * @return the maximum number of events that are queued for this listener.
+     */
+    int getQueueCapacity();
+
+    /**
+     * @return the maximum number of events passed to one {@link #onEvents(List)} call.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * @return what to do with an event when the queue of this listener is full.
+     */
+    OverflowPolicy getOverflowPolicy();
+
+    enum OverflowPolicy {
+
+        /**
+         * The event that doesn't fit in the queue is dropped.
+         */
+        DROP_NEWEST,
+
+        /**
+         * The oldest queued event is dropped to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * The event is passed to the listener on the dispatching thread, outside of the queue (and thus out of order).
+         */
+        CALLER_RUNS
+
+    }
+
+}
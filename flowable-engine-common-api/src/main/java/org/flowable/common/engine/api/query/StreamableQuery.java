@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.stream.Stream;
+
+/**
+ * Describes the methods for streaming over the results of a query, for result sets that are too large to be fetched with {@link Query#list()}.
+ * <p>
+ * The results of a stream are read-only snapshots: they are not added to the entity cache of the command context
+ * and changes made to them are never persisted. The results are always ordered by id, so no ordering can be specified on the query.
+ * <p>
+ * When the stream is created within a command, the results are read from a single database cursor that stays open until
+ * the stream is closed or the command ends. The rows are fetched from the cursor in chunks of the query cursor fetch size
+ * of the engine configuration; on MySQL this needs {@code useCursorFetch=true} in the JDBC url, otherwise the driver loads the whole result set.
+ * Outside a command, the results are fetched in batches, each in a separate command,
+ * using the id of the last result of the previous batch as starting point (keyset pagination), which is memory-bounded on every database.
+ */
+public interface StreamableQuery<U extends Object> {
+
+    /**
+     * Executes the query and returns a lazily fetched stream over its results.
+     */
+    Stream<U> stream();
+
+    /**
+     * Executes the query and returns a lazily fetched stream over its results,
+     * fetching at most the given number of results per database round-trip when not executed within a command.
+     */
+    Stream<U> stream(int batchSize);
+
+}
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -54,6 +55,7 @@ import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
+import org.flowable.common.engine.impl.db.CursorFetchSizePlugin;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
@@ -71,10 +73,16 @@ import org.flowable.common.engine.impl.interceptor.DefaultCommandInvoker;
 import org.flowable.common.engine.impl.interceptor.LogInterceptor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
+import org.flowable.common.engine.impl.metrics.InMemoryMetricsRecorder;
+import org.flowable.common.engine.impl.metrics.MetricsCommandInterceptor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheInvalidationPublisher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
@@ -179,6 +187,77 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
+    /**
+     * If set to true, enables batch update (sending the sql updates of the same statement as one jdbc batch). Default false.
+     * <p>
+     * The optimistic locking checks are done on the update counts returned for the batch, so this should only be enabled
+     * when the jdbc driver returns the actual number of updated rows for every statement in a batch. When the driver
+     * doesn't report them (for example older Oracle drivers), the transaction of the first batch update fails and batch
+     * updates are disabled from then on.
+     * <p>
+     * Only consecutive updates of the same entity type are batched, the updates are still flushed in the order they were done.
+     */
+    protected boolean isBatchUpdateEnabled;
+
+    /**
+     * The maximum number of update statements that are sent to the database in one jdbc batch. Only used when {@link #isBatchUpdateEnabled} is true.
+     * <p>
+     * By default: 100
+     */
+    protected int maxNrOfStatementsInBatchUpdate = 100;
+
+    /**
+     * If set to true, entities of the {@link #sharedEntityCacheClasses} that are fetched by id are kept in a {@link SharedEntityCache}
+     * shared by all commands of the engine, instead of being selected again by every command. Default false.
+     * <p>
+     * The cache is invalidated by the changes of this engine only. When several engines use the same database (e.g. a cluster),
+     * the other engines keep serving the cached entities for up to the {@link #sharedEntityCacheTimeToLive}: for example, a process definition
+     * suspended on one node can still be started on another node during that window. Configure a {@link #sharedEntityCacheInvalidationPublisher}
+     * to invalidate the caches of the other nodes, or only enable the cache when such a delay is acceptable.
+     */
+    protected boolean isSharedEntityCacheEnabled;
+
+    /**
+     * The entity classes that are kept in the shared entity cache. These should be entities that rarely or never change.
+     * When not set, the {@link #getDefaultSharedEntityCacheClasses()} of the engine are used.
+     */
+    protected Set<Class<? extends Entity>> sharedEntityCacheClasses;
+
+    /**
+     * The time in milliseconds an entity is kept in the shared entity cache. Changes done through this engine invalidate the cached entities immediately,
+     * but changes done by other engines on the same database (e.g. other nodes of a cluster) are only seen after this time.
+     * A value of zero or less disables the expiration, which is only safe when one engine uses the database.
+     * <p>
+     * By default: 60000 (one minute)
+     */
+    protected long sharedEntityCacheTimeToLive = 60000L;
+
+    /**
+     * The maximum number of entities per entity class in the shared entity cache. By default: 1000
+     */
+    protected int sharedEntityCacheMaxEntriesPerClass = 1000;
+
+    protected SharedEntityCache sharedEntityCache;
+
+    /**
+     * Publishes the shared entity cache invalidations of this engine to the other engines using the same database, see {@link SharedEntityCacheInvalidationPublisher}.
+     * Not set by default.
+     */
+    protected SharedEntityCacheInvalidationPublisher sharedEntityCacheInvalidationPublisher;
+
+    /**
+     * If set to true, command execution times, entity cache accesses, flushed entity operations and async job timings are recorded
+     * in the {@link #metricsRecorder}, an {@link InMemoryMetricsRecorder} unless another one is set. Default false.
+     * Setting a {@link #metricsRecorder} enables the metrics as well.
+     */
+    protected boolean isMetricsEnabled;
+
+    /**
+     * The recorder of the engine metrics; metrics are recorded when it is set. When {@link #isMetricsEnabled} is true
+     * and none is set, an {@link InMemoryMetricsRecorder} is used.
+     */
+    protected MetricsRecorder metricsRecorder;
+
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
     protected List<Interceptor> customMybatisInterceptors;
@@ -270,6 +349,15 @@ public abstract class AbstractEngineConfiguration {
      */
     protected boolean enableLogSqlExecutionTime;
 
+    /**
+     * The JDBC fetch size of the queries that are read through a cursor, e.g. when streaming query results within a command (see {@link CursorFetchSizePlugin}).
+     * Without a fetch size, most drivers load the whole result set when the query is executed. Zero or less keeps the fetch size of the driver.
+     * On MySQL, the fetch size is only used with {@code useCursorFetch=true} in the JDBC url.
+     * <p>
+     * By default: 1000
+     */
+    protected int queryCursorFetchSize = 1000;
+
     protected Properties databaseTypeMappings = getDefaultDatabaseTypeMappings();
 
     protected List<EngineDeployer> customPreDeployers;
@@ -483,6 +571,7 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void initCommandExecutors() {
+        initMetricsRecorder();
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
@@ -491,6 +580,12 @@ public abstract class AbstractEngineConfiguration {
     }
 
 
+    public void initMetricsRecorder() {
+        if (isMetricsEnabled && metricsRecorder == null) {
+            metricsRecorder = new InMemoryMetricsRecorder();
+        }
+    }
+
     public void initDefaultCommandConfig() {
         if (defaultCommandConfig == null) {
             defaultCommandConfig = new CommandConfig();
@@ -526,6 +621,9 @@ public abstract class AbstractEngineConfiguration {
     public Collection<? extends CommandInterceptor> getDefaultCommandInterceptors() {
         if (defaultCommandInterceptors == null) {
             List<CommandInterceptor> interceptors = new ArrayList<>();
+            if (metricsRecorder != null) {
+                interceptors.add(new MetricsCommandInterceptor(metricsRecorder));
+            }
             interceptors.add(new LogInterceptor());
 
             if (DATABASE_TYPE_COCKROACHDB.equals(databaseType)) {
@@ -651,12 +749,37 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setMaxNrOfStatementsInBatchUpdate(maxNrOfStatementsInBatchUpdate);
+
+        if (isSharedEntityCacheEnabled) {
+            initSharedEntityCache();
+        }
+        dbSqlSessionFactory.setMetricsRecorder(metricsRecorder);
 
         initDbSqlSessionFactoryEntitySettings();
 
         addSessionFactory(dbSqlSessionFactory);
     }
 
+    public void initSharedEntityCache() {
+        if (sharedEntityCache == null) {
+            sharedEntityCache = new SharedEntityCacheImpl(sharedEntityCacheTimeToLive, sharedEntityCacheMaxEntriesPerClass);
+        }
+        if (sharedEntityCacheClasses == null) {
+            sharedEntityCacheClasses = getDefaultSharedEntityCacheClasses();
+        }
+        dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
+        dbSqlSessionFactory.setSharedEntityCacheInvalidationPublisher(sharedEntityCacheInvalidationPublisher);
+        dbSqlSessionFactory.getSharedEntityCacheableEntityClasses().addAll(sharedEntityCacheClasses);
+    }
+
+    /**
+     * The entity classes kept in the shared entity cache when no {@link #sharedEntityCacheClasses} are configured.
+     */
+    protected Set<Class<? extends Entity>> getDefaultSharedEntityCacheClasses() {
+        return new HashSet<>();
+    }
+
     public DbSqlSessionFactory createDbSqlSessionFactory() {
         return new DbSqlSessionFactory(usePrefixId);
     }
@@ -671,6 +794,10 @@ public abstract class AbstractEngineConfiguration {
                 if (isBulkInsertEnabled) {
                     dbSqlSessionFactory.getBulkInserteableEntityClasses().add(clazz);
                 }
+
+                if (isBatchUpdateEnabled) {
+                    dbSqlSessionFactory.getBatchUpdateableEntityClasses().add(clazz);
+                }
             }
         }
 
@@ -755,6 +882,9 @@ public abstract class AbstractEngineConfiguration {
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
+        if (queryCursorFetchSize > 0) {
+            initMyBatisCursorFetchSizePlugin(configuration);
+        }
 
         configuration = parseMybatisConfiguration(parser);
         return configuration;
@@ -784,6 +914,10 @@ public abstract class AbstractEngineConfiguration {
         configuration.addInterceptor(new LogSqlExecutionTimePlugin());
     }
 
+    public void initMyBatisCursorFetchSizePlugin(Configuration configuration) {
+        configuration.addInterceptor(new CursorFetchSizePlugin(queryCursorFetchSize));
+    }
+
     public Configuration parseMybatisConfiguration(XMLConfigBuilder parser) {
         Configuration configuration = parser.parse();
 
@@ -1325,6 +1459,96 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdateEnabled() {
+        return isBatchUpdateEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdateEnabled(boolean isBatchUpdateEnabled) {
+        this.isBatchUpdateEnabled = isBatchUpdateEnabled;
+        return this;
+    }
+
+    public int getMaxNrOfStatementsInBatchUpdate() {
+        return maxNrOfStatementsInBatchUpdate;
+    }
+
+    public AbstractEngineConfiguration setMaxNrOfStatementsInBatchUpdate(int maxNrOfStatementsInBatchUpdate) {
+        this.maxNrOfStatementsInBatchUpdate = maxNrOfStatementsInBatchUpdate;
+        return this;
+    }
+
+    public boolean isSharedEntityCacheEnabled() {
+        return isSharedEntityCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheEnabled(boolean isSharedEntityCacheEnabled) {
+        this.isSharedEntityCacheEnabled = isSharedEntityCacheEnabled;
+        return this;
+    }
+
+    public Set<Class<? extends Entity>> getSharedEntityCacheClasses() {
+        return sharedEntityCacheClasses;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheClasses(Set<Class<? extends Entity>> sharedEntityCacheClasses) {
+        this.sharedEntityCacheClasses = sharedEntityCacheClasses;
+        return this;
+    }
+
+    public long getSharedEntityCacheTimeToLive() {
+        return sharedEntityCacheTimeToLive;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheTimeToLive(long sharedEntityCacheTimeToLive) {
+        this.sharedEntityCacheTimeToLive = sharedEntityCacheTimeToLive;
+        return this;
+    }
+
+    public int getSharedEntityCacheMaxEntriesPerClass() {
+        return sharedEntityCacheMaxEntriesPerClass;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheMaxEntriesPerClass(int sharedEntityCacheMaxEntriesPerClass) {
+        this.sharedEntityCacheMaxEntriesPerClass = sharedEntityCacheMaxEntriesPerClass;
+        return this;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+        return this;
+    }
+
+    public SharedEntityCacheInvalidationPublisher getSharedEntityCacheInvalidationPublisher() {
+        return sharedEntityCacheInvalidationPublisher;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheInvalidationPublisher(SharedEntityCacheInvalidationPublisher sharedEntityCacheInvalidationPublisher) {
+        this.sharedEntityCacheInvalidationPublisher = sharedEntityCacheInvalidationPublisher;
+        return this;
+    }
+
+    public boolean isMetricsEnabled() {
+        return isMetricsEnabled;
+    }
+
+    public AbstractEngineConfiguration setMetricsEnabled(boolean isMetricsEnabled) {
+        this.isMetricsEnabled = isMetricsEnabled;
+        return this;
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public AbstractEngineConfiguration setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -1508,6 +1732,15 @@ public abstract class AbstractEngineConfiguration {
         this.enableLogSqlExecutionTime = enableLogSqlExecutionTime;
     }
 
+    public int getQueryCursorFetchSize() {
+        return queryCursorFetchSize;
+    }
+
+    public AbstractEngineConfiguration setQueryCursorFetchSize(int queryCursorFetchSize) {
+        this.queryCursorFetchSize = queryCursorFetchSize;
+        return this;
+    }
+
     public Map<Class<?>, SessionFactory> getSessionFactories() {
         return sessionFactories;
     }
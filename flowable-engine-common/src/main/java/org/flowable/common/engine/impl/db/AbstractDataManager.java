@@ -23,6 +23,8 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.EntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
@@ -106,9 +108,22 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     @SuppressWarnings("unchecked")
     protected EntityImpl getEntity(String selectQuery, Object parameter, SingleCachedEntityMatcher<EntityImpl> cachedEntityMatcher, boolean checkDatabase) {
         // Cache
-        for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
-            if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
-                return cachedEntity;
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            Collection<CachedEntity> cachedObjects = findInCacheAsCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter);
+            if (cachedObjects != null) {
+                for (CachedEntity cachedObject : cachedObjects) {
+                    EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
+                    if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
+                        return cachedEntity;
+                    }
+                }
+            }
+
+        } else {
+            for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
+                if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
+                    return cachedEntity;
+                }
             }
         }
 
@@ -154,6 +169,8 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
             if ((cachedObjects != null && cachedObjects.size() > 0) || getManagedEntitySubClasses() != null) {
 
+                Collection<CachedEntity> candidateCachedObjects = findInCacheAsCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter);
+
                 HashMap<String, EntityImpl> entityMap = new HashMap<>(result.size());
 
                 // Database entities
@@ -162,8 +179,8 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
                 }
 
                 // Cache entities
-                if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                if (candidateCachedObjects != null && cachedEntityMatcher != null) {
+                    for (CachedEntity cachedObject : candidateCachedObjects) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -173,7 +190,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                        Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                        Collection<CachedEntity> subclassCachedObjects = findInCacheAsCachedObjects(entitySubClass, cachedEntityMatcher, parameter);
                         if (subclassCachedObjects != null) {
                             for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -210,7 +227,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
     @SuppressWarnings("unchecked")
     protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter, boolean includeDeletedEntities) {
-        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+        Collection<CachedEntity> cachedObjects = findInCacheAsCachedObjects(getManagedEntityClass(), entityMatcher, parameter);
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
@@ -227,7 +244,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         if (getManagedEntitySubClasses() != null && entityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                Collection<CachedEntity> subclassCachedObjects = findInCacheAsCachedObjects(entitySubClass, entityMatcher, parameter);
                 if (subclassCachedObjects != null) {
                     for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -262,10 +279,10 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     }
 
     protected void deleteCachedEntities(DbSqlSession dbSqlSession,  CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
-        deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass()), cachedEntityMatcher, parameter);
+        deleteCachedEntities(dbSqlSession, findInCacheAsCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter), cachedEntityMatcher, parameter);
         if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(entitySubClass), cachedEntityMatcher, parameter);
+                deleteCachedEntities(dbSqlSession, findInCacheAsCachedObjects(entitySubClass, cachedEntityMatcher, parameter), cachedEntityMatcher, parameter);
             }
         }
     }
@@ -287,6 +304,19 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         }
     }
     
+    /**
+     * Returns the cached entities of the given class that can match the given matcher.
+     * When the matcher is an {@link IndexedCachedEntityMatcher}, these are looked up in its {@link EntityIndex}, otherwise all cached entities of the class are returned.
+     */
+    protected Collection<CachedEntity> findInCacheAsCachedObjects(Class<?> entityClass, Object cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<?> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<?>) cachedEntityMatcher;
+            return getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher.getEntityIndex(),
+                    indexedCachedEntityMatcher.getEntityIndexKey(parameter));
+        }
+        return getEntityCache().findInCacheAsCachedObjects(entityClass);
+    }
+
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
         Class<?> executionEntityClass = dbSqlSession.getDbSqlSessionFactory().getLogicalNameToClassMapping().get(entityLogicalName);
         return executionEntityClass != null && dbSqlSession.isEntityInserted(executionEntityClass, entityId);
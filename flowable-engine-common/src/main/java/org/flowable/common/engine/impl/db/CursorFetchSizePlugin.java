@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * Sets a fetch size on the statements that are read through a cursor (see {@link DbSqlSession#selectCursor(String, ListQueryParameterObject)}),
+ * so the JDBC driver fetches the rows in chunks instead of loading the whole result set in memory when the statement is executed.
+ * Statements that have a fetch size in their mapping keep it, and statements read as a list are not changed.
+ * <p>
+ * PostgreSQL only uses the fetch size within a transaction (auto-commit off), which is the case within a command.
+ * MySQL only uses it with {@code useCursorFetch=true} in the JDBC url: the streaming mode of the driver ({@code Integer.MIN_VALUE})
+ * is not used, as it doesn't allow other statements on the connection while the cursor is open.
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = { Statement.class })
+})
+public class CursorFetchSizePlugin implements Interceptor {
+
+    protected int fetchSize;
+
+    public CursorFetchSizePlugin(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Statement statement = (Statement) invocation.getArgs()[0];
+        if (statement.getFetchSize() <= 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return invocation.proceed();
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+}
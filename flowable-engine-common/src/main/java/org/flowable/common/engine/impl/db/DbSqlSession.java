@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,14 +25,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheInvalidationTransactionListener;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
@@ -49,6 +61,7 @@ public class DbSqlSession implements Session {
 
     protected EntityCache entityCache;
     protected SqlSession sqlSession;
+    protected SqlSession batchSqlSession;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected String connectionMetadataDefaultCatalog;
     protected String connectionMetadataDefaultSchema;
@@ -58,6 +71,8 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    protected SharedEntityCacheInvalidationTransactionListener sharedEntityCacheInvalidations;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -106,6 +121,17 @@ public class DbSqlSession implements Session {
         return getSqlSession().update(updateStatement, parameters);
     }
 
+    /**
+     * Executes an update statement that changes rows of the given entity class. Use this variant for entities that can be
+     * kept in the {@link SharedEntityCache}, as the cached entities of that class are invalidated.
+     */
+    public int update(String statement, Object parameters, Class<? extends Entity> entityClass) {
+        if (dbSqlSessionFactory.isSharedEntityCacheable(entityClass)) {
+            getSharedEntityCacheInvalidations().invalidate(entityClass);
+        }
+        return update(statement, parameters);
+    }
+
     // delete
     // ///////////////////////////////////////////////////////////////////
 
@@ -207,6 +233,15 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Executes the statement and returns a cursor over the results. The results are not added to the entity cache,
+     * nor are they taken from it. The cursor needs to be closed when not fully consumed.
+     */
+    public <T> Cursor<T> selectCursor(String statement, ListQueryParameterObject parameter) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        return sqlSession.selectCursor(dbSqlSessionFactory.mapStatement(statement), parameter);
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -225,13 +260,29 @@ public class DbSqlSession implements Session {
     public <T extends Entity> T selectById(Class<T> entityClass, String id, boolean useCache) {
         T entity = null;
 
+        MetricsRecorder metricsRecorder = dbSqlSessionFactory.getMetricsRecorder();
         if (useCache) {
             entity = entityCache.findInCache(entityClass, id);
+            if (metricsRecorder != null) {
+                metricsRecorder.recordEntityCacheAccess(entityClass, entity != null);
+            }
             if (entity != null) {
                 return entity;
             }
         }
 
+        SharedEntityCache sharedEntityCache = null;
+        long sharedEntityCacheLoadStamp = 0L;
+        if (useCache && dbSqlSessionFactory.isSharedEntityCacheable(entityClass) && !isSharedEntityCacheInvalidated(entityClass)) {
+            sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+            entity = sharedEntityCache.get(entityClass, id);
+            if (entity != null) {
+                entityCache.put(entity, true);
+                return entity;
+            }
+            sharedEntityCacheLoadStamp = sharedEntityCache.getLoadStamp(entityClass);
+        }
+
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
         entity = (T) sqlSession.selectOne(selectStatement, id);
@@ -239,10 +290,54 @@ public class DbSqlSession implements Session {
             return null;
         }
 
+        if (sharedEntityCache != null) {
+            sharedEntityCache.putFromLoad(entity, sharedEntityCacheLoadStamp);
+        }
+
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
         return entity;
     }
 
+    // shared entity cache
+    // ///////////////////////////////////////////////////
+
+    /**
+     * Entities changed in this transaction are not read from or put into the {@link SharedEntityCache} anymore, as the cache has the committed state.
+     */
+    protected boolean isSharedEntityCacheInvalidated(Class<? extends Entity> entityClass) {
+        return sharedEntityCacheInvalidations != null && sharedEntityCacheInvalidations.isInvalidated(entityClass);
+    }
+
+    protected void invalidateSharedEntityCache(Entity entity) {
+        if (dbSqlSessionFactory.isSharedEntityCacheable(entity.getClass())) {
+            getSharedEntityCacheInvalidations().invalidate(entity.getClass(), entity.getId());
+        }
+    }
+
+    /**
+     * The cached version of an entity that was updated concurrently is stale (possibly changed on another node),
+     * so it is removed from the {@link SharedEntityCache} right away: the transaction is rolled back, hence the invalidation
+     * on commit never happens, and a retry would otherwise read the same stale version again.
+     */
+    protected FlowableOptimisticLockingException createOptimisticLockingException(Object entity) {
+        if (entity instanceof Entity && dbSqlSessionFactory.isSharedEntityCacheable(((Entity) entity).getClass())) {
+            dbSqlSessionFactory.getSharedEntityCache().invalidate(((Entity) entity).getClass(), ((Entity) entity).getId());
+        }
+        return new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+    }
+
+    protected SharedEntityCacheInvalidationTransactionListener getSharedEntityCacheInvalidations() {
+        if (sharedEntityCacheInvalidations == null) {
+            sharedEntityCacheInvalidations = new SharedEntityCacheInvalidationTransactionListener(dbSqlSessionFactory.getSharedEntityCache(),
+                    dbSqlSessionFactory.getSharedEntityCacheInvalidationPublisher());
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, sharedEntityCacheInvalidations);
+            }
+        }
+        return sharedEntityCacheInvalidations;
+    }
+
     // internal session cache
     // ///////////////////////////////////////////////////
 
@@ -288,9 +383,43 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        // The operations are counted upfront, as flushing clears them
+        MetricsRecorder metricsRecorder = dbSqlSessionFactory.getMetricsRecorder();
+        Map<Class<?>, int[]> entityOperationCounts = metricsRecorder != null ? countEntityOperations() : null;
+        long start = System.nanoTime();
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (metricsRecorder != null) {
+            metricsRecorder.recordFlush(System.nanoTime() - start);
+            for (Map.Entry<Class<?>, int[]> entityOperationCount : entityOperationCounts.entrySet()) {
+                int[] counts = entityOperationCount.getValue();
+                metricsRecorder.recordEntityOperations(entityOperationCount.getKey(), counts[0], counts[1], counts[2]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of inserts, updates and deletes per entity class that will be flushed.
+     */
+    protected Map<Class<?>, int[]> countEntityOperations() {
+        Map<Class<?>, int[]> counts = new HashMap<>();
+        for (Map.Entry<Class<? extends Entity>, Map<String, Entity>> inserted : insertedObjects.entrySet()) {
+            if (!inserted.getValue().isEmpty()) {
+                counts.computeIfAbsent(inserted.getKey(), entityClass -> new int[3])[0] += inserted.getValue().size();
+            }
+        }
+        for (Entity updatedObject : updatedObjects) {
+            counts.computeIfAbsent(updatedObject.getClass(), entityClass -> new int[3])[1]++;
+        }
+        for (Map.Entry<Class<? extends Entity>, Map<String, Entity>> deleted : deletedObjects.entrySet()) {
+            if (!deleted.getValue().isEmpty()) {
+                counts.computeIfAbsent(deleted.getKey(), entityClass -> new int[3])[2] += deleted.getValue().size();
+            }
+        }
+        return counts;
     }
 
     /**
@@ -490,7 +619,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
+        // Consecutive updates with the same batch updateable statement are sent as one batch.
+        // The updates are flushed in the order they were registered, so they are never reordered across entity types.
+        List<Entity> batchUpdate = null;
+        String batchUpdateStatement = null;
         for (Entity updatedObject : updatedObjects) {
+            invalidateSharedEntityCache(updatedObject);
+
             String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
             updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
 
@@ -498,20 +633,112 @@ public class DbSqlSession implements Session {
                 throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
             }
 
-            LOGGER.debug("updating: {}", updatedObject);
+            if (batchUpdate != null && !updateStatement.equals(batchUpdateStatement)) {
+                flushUpdates(batchUpdate, batchUpdateStatement);
+                batchUpdate = null;
+            }
+
+            if (updatedObjects.size() > 1 && dbSqlSessionFactory.isBatchUpdateable(updatedObject.getClass())) {
+                if (batchUpdate == null) {
+                    batchUpdate = new ArrayList<>();
+                    batchUpdateStatement = updateStatement;
+                }
+                batchUpdate.add(updatedObject);
+
+            } else {
+                flushRegularUpdate(updatedObject, updateStatement);
 
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+            }
+        }
+
+        if (batchUpdate != null) {
+            flushUpdates(batchUpdate, batchUpdateStatement);
+        }
+
+        updatedObjects.clear();
+    }
+
+    protected void flushUpdates(List<Entity> updatedObjects, String updateStatement) {
+        if (updatedObjects.size() == 1) {
+            flushRegularUpdate(updatedObjects.get(0), updateStatement);
+        } else {
+            flushBatchUpdate(updatedObjects, updateStatement);
+        }
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject, String updateStatement) {
+        LOGGER.debug("updating: {}", updatedObject);
+
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw createOptimisticLockingException(updatedObject);
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
+
+    /**
+     * Sends the updates for the given entities (which all use the same update statement) as jdbc batches of at most
+     * {@link DbSqlSessionFactory#getMaxNrOfStatementsInBatchUpdate()} statements.
+     * The optimistic locking check is done on the update count the jdbc driver returns for each entity in the batch.
+     * <p>
+     * When the driver doesn't report the update counts ({@link Statement#SUCCESS_NO_INFO}), the optimistic locking can't be verified:
+     * batch updates are then disabled on the {@link DbSqlSessionFactory}, so all following updates use one statement per entity,
+     * and the current transaction is rolled back with an exception.
+     */
+    protected void flushBatchUpdate(List<Entity> updatedObjects, String updateStatement) {
+        SqlSession batchSqlSession = getBatchSqlSession();
+        int maxNrOfStatementsInBatchUpdate = dbSqlSessionFactory.getMaxNrOfStatementsInBatchUpdate();
+
+        for (int fromIndex = 0; fromIndex < updatedObjects.size(); fromIndex += maxNrOfStatementsInBatchUpdate) {
+            List<Entity> subList = updatedObjects.subList(fromIndex, Math.min(fromIndex + maxNrOfStatementsInBatchUpdate, updatedObjects.size()));
+            for (Entity updatedObject : subList) {
+                LOGGER.debug("batch updating: {}", updatedObject);
+                batchSqlSession.update(updateStatement, updatedObject);
+            }
+
+            List<BatchResult> batchResults = batchSqlSession.flushStatements();
+            for (BatchResult batchResult : batchResults) {
+                int[] updateCounts = batchResult.getUpdateCounts();
+                List<Object> parameterObjects = batchResult.getParameterObjects();
+                for (int i = 0; i < updateCounts.length; i++) {
+                    if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                        dbSqlSessionFactory.disableBatchUpdate();
+                        LOGGER.warn("The jdbc driver doesn't report the number of rows updated by a batch statement, batch updates are disabled");
+                        throw new FlowableException("Could not verify the optimistic locking of " + parameterObjects.get(i)
+                                + ", the jdbc driver didn't report the number of updated rows of the batch update");
+                    }
+                    if (updateCounts[i] == 0 || updateCounts[i] == Statement.EXECUTE_FAILED) {
+                        throw createOptimisticLockingException(parameterObjects.get(i));
+                    }
+                }
             }
 
             // See https://activiti.atlassian.net/browse/ACT-1290
-            if (updatedObject instanceof HasRevision) {
-                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            for (Entity updatedObject : subList) {
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
             }
+        }
 
+        // The updates didn't go through the regular session, so its local cache needs to be invalidated manually
+        sqlSession.clearCache();
+    }
+
+    /**
+     * Returns a {@link SqlSession} using a {@link ExecutorType#BATCH} executor on the same connection (and thus transaction) as the regular session.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = sqlSession.getConfiguration();
+            Executor executor = configuration.newExecutor(new SharedConnectionTransaction(sqlSession), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, executor, false);
         }
-        updatedObjects.clear();
+        return batchSqlSession;
     }
 
     protected void flushDeletes() {
@@ -549,6 +776,9 @@ public class DbSqlSession implements Session {
     protected void flushBulkDeletes(Class<? extends Entity> entityClass, List<BulkDeleteOperation> deleteOperations) {
         // Bulk deletes
         if (deleteOperations != null) {
+            if (dbSqlSessionFactory.isSharedEntityCacheable(entityClass)) {
+                getSharedEntityCacheInvalidations().invalidate(entityClass);
+            }
             for (BulkDeleteOperation bulkDeleteOperation : deleteOperations) {
                 bulkDeleteOperation.execute(sqlSession, entityClass);
             }
@@ -557,6 +787,8 @@ public class DbSqlSession implements Session {
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
         for (Entity entity : entitiesToDelete) {
+            invalidateSharedEntityCache(entity);
+
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
             if (deleteStatement == null) {
@@ -568,7 +800,7 @@ public class DbSqlSession implements Session {
             if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
-                    throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                    throw createOptimisticLockingException(entity);
                 }
             } else {
                 sqlSession.delete(deleteStatement, entity);
@@ -578,6 +810,9 @@ public class DbSqlSession implements Session {
 
     @Override
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
@@ -19,7 +19,10 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheInvalidationPublisher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 import java.sql.SQLException;
@@ -57,6 +60,16 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected Set<Class<? extends Entity>> batchUpdateableEntityClasses = new HashSet<>();
+
+    protected int maxNrOfStatementsInBatchUpdate = 100;
+    protected volatile boolean batchUpdateDisabled;
+
+    protected SharedEntityCache sharedEntityCache;
+    protected SharedEntityCacheInvalidationPublisher sharedEntityCacheInvalidationPublisher;
+    protected Set<Class<? extends Entity>> sharedEntityCacheableEntityClasses = new HashSet<>();
+    protected MetricsRecorder metricsRecorder;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -198,6 +211,73 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchUpdateable(Class<? extends Entity> entityClass) {
+        return !batchUpdateDisabled && batchUpdateableEntityClasses != null && batchUpdateableEntityClasses.contains(entityClass);
+    }
+
+    /**
+     * Disables batch updates for all following flushes, when the jdbc driver turns out not to report the update counts of a batch.
+     */
+    public void disableBatchUpdate() {
+        batchUpdateDisabled = true;
+    }
+
+    public boolean isBatchUpdateDisabled() {
+        return batchUpdateDisabled;
+    }
+
+    public Set<Class<? extends Entity>> getBatchUpdateableEntityClasses() {
+        return batchUpdateableEntityClasses;
+    }
+
+    public void setBatchUpdateableEntityClasses(Set<Class<? extends Entity>> batchUpdateableEntityClasses) {
+        this.batchUpdateableEntityClasses = batchUpdateableEntityClasses;
+    }
+
+    public int getMaxNrOfStatementsInBatchUpdate() {
+        return maxNrOfStatementsInBatchUpdate;
+    }
+
+    public void setMaxNrOfStatementsInBatchUpdate(int maxNrOfStatementsInBatchUpdate) {
+        this.maxNrOfStatementsInBatchUpdate = maxNrOfStatementsInBatchUpdate;
+    }
+
+    public boolean isSharedEntityCacheable(Class<? extends Entity> entityClass) {
+        return sharedEntityCache != null && sharedEntityCacheableEntityClasses != null && sharedEntityCacheableEntityClasses.contains(entityClass);
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
+    public SharedEntityCacheInvalidationPublisher getSharedEntityCacheInvalidationPublisher() {
+        return sharedEntityCacheInvalidationPublisher;
+    }
+
+    public void setSharedEntityCacheInvalidationPublisher(SharedEntityCacheInvalidationPublisher sharedEntityCacheInvalidationPublisher) {
+        this.sharedEntityCacheInvalidationPublisher = sharedEntityCacheInvalidationPublisher;
+    }
+
+    public Set<Class<? extends Entity>> getSharedEntityCacheableEntityClasses() {
+        return sharedEntityCacheableEntityClasses;
+    }
+
+    public void setSharedEntityCacheableEntityClasses(Set<Class<? extends Entity>> sharedEntityCacheableEntityClasses) {
+        this.sharedEntityCacheableEntityClasses = sharedEntityCacheableEntityClasses;
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Connection;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.transaction.Transaction;
+
+/**
+ * A MyBatis {@link Transaction} that runs on the connection of another {@link SqlSession}.
+ * Committing, rolling back and closing the connection is left to the owner of that session,
+ * so all operations that would touch the connection state are no-ops here.
+ */
+public class SharedConnectionTransaction implements Transaction {
+
+    protected SqlSession sqlSession;
+
+    public SharedConnectionTransaction(SqlSession sqlSession) {
+        this.sqlSession = sqlSession;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return sqlSession.getConnection();
+    }
+
+    @Override
+    public void commit() {
+        // Done by the owning session
+    }
+
+    @Override
+    public void rollback() {
+        // Done by the owning session
+    }
+
+    @Override
+    public void close() {
+        // Done by the owning session
+    }
+
+    @Override
+    public Integer getTimeout() {
+        return null;
+    }
+
+}
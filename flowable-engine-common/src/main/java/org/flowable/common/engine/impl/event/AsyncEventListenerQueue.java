@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableAsyncEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The bounded queue of one {@link FlowableAsyncEventListener}.
+ * <p>
+ * Queued events are delivered in batches by a task on the given executor. At most one such task runs per queue,
+ * so the listener gets its events in the order in which they were queued and is never called concurrently
+ * (except for events delivered on the dispatching thread with {@link FlowableAsyncEventListener.OverflowPolicy#CALLER_RUNS}).
+ */
+public class AsyncEventListenerQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventListenerQueue.class);
+
+    protected final FlowableAsyncEventListener listener;
+    protected final Executor executor;
+    protected final BlockingQueue<FlowableEvent> queue;
+    protected final int maxBatchSize;
+    protected final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+    protected final AtomicLong droppedEventCount = new AtomicLong();
+
+    public AsyncEventListenerQueue(FlowableAsyncEventListener listener, Executor executor) {
+        if (listener.getQueueCapacity() <= 0 || listener.getMaxBatchSize() <= 0) {
+            throw new FlowableIllegalArgumentException("Queue capacity and max batch size of an async event listener must be positive");
+        }
+        this.listener = listener;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(listener.getQueueCapacity());
+        this.maxBatchSize = listener.getMaxBatchSize();
+    }
+
+    public void addEvent(FlowableEvent event) {
+        if (!queue.offer(event)) {
+            handleOverflow(event);
+        }
+        scheduleDelivery();
+    }
+
+    protected void handleOverflow(FlowableEvent event) {
+        FlowableAsyncEventListener.OverflowPolicy overflowPolicy = listener.getOverflowPolicy();
+        if (overflowPolicy == FlowableAsyncEventListener.OverflowPolicy.CALLER_RUNS) {
+            deliverEvents(Collections.singletonList(event));
+
+        } else if (overflowPolicy == FlowableAsyncEventListener.OverflowPolicy.DROP_OLDEST) {
+            while (!queue.offer(event)) {
+                if (queue.poll() != null) {
+                    eventDropped();
+                }
+            }
+
+        } else {
+            eventDropped();
+        }
+    }
+
+    protected void eventDropped() {
+        long droppedEvents = droppedEventCount.incrementAndGet();
+        if (droppedEvents == 1 || droppedEvents % 10000 == 0) {
+            LOGGER.warn("Event queue of async event listener {} is full, {} events dropped so far", listener, droppedEvents);
+        }
+    }
+
+    protected void scheduleDelivery() {
+        if (deliveryScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::deliverNextBatch);
+            } catch (RejectedExecutionException e) {
+                deliveryScheduled.set(false);
+                LOGGER.warn("Could not schedule the delivery of events to async event listener {}", listener, e);
+            }
+        }
+    }
+
+    /**
+     * Delivers one batch of queued events and reschedules itself when more events are queued,
+     * so a busy listener doesn't hold on to a thread that other listeners are waiting for.
+     */
+    protected void deliverNextBatch() {
+        try {
+            List<FlowableEvent> events = new ArrayList<>(Math.min(maxBatchSize, queue.size()));
+            queue.drainTo(events, maxBatchSize);
+            if (!events.isEmpty()) {
+                deliverEvents(events);
+            }
+        } finally {
+            deliveryScheduled.set(false);
+        }
+
+        if (!queue.isEmpty()) {
+            scheduleDelivery();
+        }
+    }
+
+    protected void deliverEvents(List<FlowableEvent> events) {
+        try {
+            listener.onEvents(events);
+        } catch (Throwable t) {
+            // The command that fired the events is already done (or at least not waiting for this listener), so there's nothing to fail
+            LOGGER.warn("Exception while executing async event-listener {} for {} events, which was ignored", listener, events.size(), t);
+        }
+    }
+
+    /**
+     * Delivers all queued events in the calling thread.
+     */
+    public void flush() {
+        List<FlowableEvent> events = new ArrayList<>(maxBatchSize);
+        while (queue.drainTo(events, maxBatchSize) > 0) {
+            deliverEvents(events);
+            events = new ArrayList<>(maxBatchSize);
+        }
+    }
+
+    public FlowableAsyncEventListener getListener() {
+        return listener;
+    }
+
+    public int getQueuedEventCount() {
+        return queue.size();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+}
@@ -12,16 +12,26 @@
  */
 package org.flowable.common.engine.impl.event;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableAsyncEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.slf4j.Logger;
@@ -29,6 +39,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
+ * <p>
+ * The listeners for each event type (the global listeners followed by the typed listeners) are resolved when listeners
+ * are added or removed, so dispatching an event only needs one lookup by event type.
+ * <p>
+ * {@link FlowableAsyncEventListener}s get their own bounded {@link AsyncEventListenerQueue}: dispatching an event to them only
+ * queues the event, the events are delivered in batches on a thread of this class.
  * 
  * @author Frederik Heremans
  */
@@ -39,6 +55,18 @@ public class FlowableEventSupport {
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
+    /**
+     * The listeners of each event type that has typed listeners, rebuilt on every listener change.
+     * Event types without an entry only go to the global listeners.
+     */
+    protected volatile Map<FlowableEventType, FlowableEventListener[]> eventListenersByType = Collections.emptyMap();
+    protected volatile FlowableEventListener[] globalEventListeners = new FlowableEventListener[0];
+
+    protected Map<FlowableEventListener, AsyncEventListenerQueue> asyncEventListenerQueues = new ConcurrentHashMap<>();
+    protected int asyncEventListenerThreadCount = 2;
+    protected String asyncEventListenerThreadNamingPattern = "flowable-async-event-listener-%d";
+    protected ExecutorService asyncEventListenerExecutor;
+
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
         typedListeners = new HashMap<>();
@@ -50,6 +78,8 @@ public class FlowableEventSupport {
         }
         if (!eventListeners.contains(listenerToAdd)) {
             eventListeners.add(listenerToAdd);
+            registerAsyncEventListener(listenerToAdd);
+            updateEventListenersByType();
         }
     }
 
@@ -65,15 +95,20 @@ public class FlowableEventSupport {
             for (FlowableEventType type : types) {
                 addTypedEventListener(listenerToAdd, type);
             }
+            updateEventListenersByType();
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+
+        // Events that are already queued are still delivered
+        asyncEventListenerQueues.remove(listenerToRemove);
+        updateEventListenersByType();
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -85,30 +120,39 @@ public class FlowableEventSupport {
             throw new FlowableIllegalArgumentException("Event type cannot be null.");
         }
 
-        // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        // Global listeners first, followed by the typed listeners, if any
+        FlowableEventListener[] listeners = eventListenersByType.get(event.getType());
+        if (listeners == null) {
+            listeners = globalEventListeners;
         }
-
-        // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : listeners) {
+            dispatchEvent(event, listener);
         }
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
-        if (listener.isFireOnTransactionLifecycleEvent()) {
+        if (listener instanceof FlowableAsyncEventListener) {
+            dispatchAsyncEventListener(event, listener);
+        } else if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
         } else {
             dispatchNormalEventListener(event, listener);
         }
     }
 
+    protected void dispatchAsyncEventListener(FlowableEvent event, FlowableEventListener listener) {
+        AsyncEventListenerQueue eventListenerQueue = getAsyncEventListenerQueue(listener);
+        if (eventListenerQueue == null) {
+            return; // removed concurrently
+        }
+
+        if (listener.isFireOnTransactionLifecycleEvent()) {
+            addTransactionListener(listener, new QueueEventTransactionListener(eventListenerQueue, event));
+        } else {
+            eventListenerQueue.addEvent(event);
+        }
+    }
+
     protected void dispatchNormalEventListener(FlowableEvent event, FlowableEventListener listener) {
         try {
             listener.onEvent(event);
@@ -124,12 +168,15 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchTransactionEventListener(FlowableEvent event, FlowableEventListener listener) {
+        addTransactionListener(listener, new ExecuteEventListenerTransactionListener(listener, event));
+    }
+
+    protected void addTransactionListener(FlowableEventListener listener, TransactionListener transactionListener) {
         TransactionContext transactionContext = Context.getTransactionContext();
         if (transactionContext == null) {
             return;
         }
         
-        ExecuteEventListenerTransactionListener transactionListener = new ExecuteEventListenerTransactionListener(listener, event); 
         if (listener.getOnTransaction().equalsIgnoreCase(TransactionState.COMMITTING.name())) {
             transactionContext.addTransactionListener(TransactionState.COMMITTING, transactionListener);
             
@@ -157,6 +204,95 @@ public class FlowableEventSupport {
 
         if (!listeners.contains(listener)) {
             listeners.add(listener);
+            registerAsyncEventListener(listener);
+        }
+    }
+
+    protected synchronized void updateEventListenersByType() {
+        FlowableEventListener[] globalListeners = eventListeners.toArray(new FlowableEventListener[0]);
+        Map<FlowableEventType, FlowableEventListener[]> listenersByType = new HashMap<>();
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> entry : typedListeners.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                List<FlowableEventListener> listeners = new ArrayList<>(globalListeners.length + entry.getValue().size());
+                Collections.addAll(listeners, globalListeners);
+                listeners.addAll(entry.getValue());
+                listenersByType.put(entry.getKey(), listeners.toArray(new FlowableEventListener[0]));
+            }
+        }
+
+        globalEventListeners = globalListeners;
+        eventListenersByType = listenersByType;
+    }
+
+    protected synchronized void registerAsyncEventListener(FlowableEventListener listener) {
+        if (listener instanceof FlowableAsyncEventListener && !asyncEventListenerQueues.containsKey(listener)) {
+            asyncEventListenerQueues.put(listener, new AsyncEventListenerQueue((FlowableAsyncEventListener) listener, getAsyncEventListenerExecutor()));
         }
     }
+
+    protected AsyncEventListenerQueue getAsyncEventListenerQueue(FlowableEventListener listener) {
+        return asyncEventListenerQueues.get(listener);
+    }
+
+    protected synchronized ExecutorService getAsyncEventListenerExecutor() {
+        if (asyncEventListenerExecutor == null) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                    .namingPattern(asyncEventListenerThreadNamingPattern)
+                    .daemon(true)
+                    .build();
+            // Idle threads time out, so event supports that are no longer used (e.g. of evicted process definitions) don't keep threads around
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(asyncEventListenerThreadCount, asyncEventListenerThreadCount,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            asyncEventListenerExecutor = threadPoolExecutor;
+        }
+        return asyncEventListenerExecutor;
+    }
+
+    /**
+     * Stops the threads of the async event listeners and delivers the events that are still queued in the calling thread.
+     */
+    public void shutdown() {
+        ExecutorService executorService;
+        synchronized (this) {
+            executorService = asyncEventListenerExecutor;
+        }
+        if (executorService == null) {
+            return;
+        }
+
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(10L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (AsyncEventListenerQueue eventListenerQueue : asyncEventListenerQueues.values()) {
+            eventListenerQueue.flush();
+        }
+    }
+
+    /**
+     * @return the async event listener queues, e.g. to monitor how many events are queued or dropped.
+     */
+    public Map<FlowableEventListener, AsyncEventListenerQueue> getAsyncEventListenerQueues() {
+        return Collections.unmodifiableMap(asyncEventListenerQueues);
+    }
+
+    public int getAsyncEventListenerThreadCount() {
+        return asyncEventListenerThreadCount;
+    }
+
+    public void setAsyncEventListenerThreadCount(int asyncEventListenerThreadCount) {
+        this.asyncEventListenerThreadCount = asyncEventListenerThreadCount;
+    }
+
+    public String getAsyncEventListenerThreadNamingPattern() {
+        return asyncEventListenerThreadNamingPattern;
+    }
+
+    public void setAsyncEventListenerThreadNamingPattern(String asyncEventListenerThreadNamingPattern) {
+        this.asyncEventListenerThreadNamingPattern = asyncEventListenerThreadNamingPattern;
+    }
 }
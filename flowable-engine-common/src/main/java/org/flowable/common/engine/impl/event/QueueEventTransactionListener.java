@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Queues an event for an async event listener when the transaction reaches the state the listener was registered for.
+ */
+public class QueueEventTransactionListener implements TransactionListener {
+
+    protected AsyncEventListenerQueue eventListenerQueue;
+    protected FlowableEvent flowableEvent;
+
+    public QueueEventTransactionListener(AsyncEventListenerQueue eventListenerQueue, FlowableEvent flowableEvent) {
+        this.eventListenerQueue = eventListenerQueue;
+        this.flowableEvent = flowableEvent;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        eventListenerQueue.addEvent(flowableEvent);
+    }
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of one entity type in an {@link InMemoryMetricsRecorder}.
+ */
+public class EntityMetrics {
+
+    protected final LongAdder cacheHitCount = new LongAdder();
+    protected final LongAdder cacheMissCount = new LongAdder();
+    protected final LongAdder insertCount = new LongAdder();
+    protected final LongAdder updateCount = new LongAdder();
+    protected final LongAdder deleteCount = new LongAdder();
+
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMissCount.sum();
+    }
+
+    public long getInsertCount() {
+        return insertCount.sum();
+    }
+
+    public long getUpdateCount() {
+        return updateCount.sum();
+    }
+
+    public long getDeleteCount() {
+        return deleteCount.sum();
+    }
+
+    public void reset() {
+        cacheHitCount.reset();
+        cacheMissCount.reset();
+        insertCount.reset();
+        updateCount.reset();
+        deleteCount.reset();
+    }
+
+}
@@ -0,0 +1,180 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The default {@link MetricsRecorder}, which keeps all measurements in lock-free counters and {@link LatencyHistogram}s.
+ * <p>
+ * The measurements are read through the getters, so they can be exported periodically to a monitoring system
+ * (for example by registering gauges and function counters in Micrometer) without adding a dependency to the engine.
+ * The number of metrics is bounded by the number of command classes, entity types and job handler types.
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    protected final ConcurrentMap<String, LatencyHistogram> commandExecutions = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, EntityMetrics> entityMetrics = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, LatencyHistogram> jobAcquisitions = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, LongAdder> acquiredJobs = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, LatencyHistogram> jobExecutions = new ConcurrentHashMap<>();
+    protected final LatencyHistogram flushes = new LatencyHistogram();
+    protected final AtomicInteger inFlightJobs = new AtomicInteger();
+    protected final AtomicInteger maxInFlightJobs = new AtomicInteger();
+    protected final LongAdder rejectedJobSubmissions = new LongAdder();
+    protected final LatencyHistogram jobStartDelays = new LatencyHistogram();
+
+    @Override
+    public void recordCommandExecution(String commandName, long durationNanos, boolean successful) {
+        getOrCreate(commandExecutions, commandName, name -> new LatencyHistogram()).record(durationNanos, successful);
+    }
+
+    @Override
+    public void recordEntityCacheAccess(Class<?> entityClass, boolean hit) {
+        EntityMetrics metrics = getOrCreate(entityMetrics, entityClass.getName(), name -> new EntityMetrics());
+        if (hit) {
+            metrics.cacheHitCount.increment();
+        } else {
+            metrics.cacheMissCount.increment();
+        }
+    }
+
+    @Override
+    public void recordEntityOperations(Class<?> entityClass, int inserts, int updates, int deletes) {
+        EntityMetrics metrics = getOrCreate(entityMetrics, entityClass.getName(), name -> new EntityMetrics());
+        metrics.insertCount.add(inserts);
+        metrics.updateCount.add(updates);
+        metrics.deleteCount.add(deletes);
+    }
+
+    @Override
+    public void recordFlush(long durationNanos) {
+        flushes.record(durationNanos, true);
+    }
+
+    @Override
+    public void recordJobAcquisition(String acquisitionType, int acquiredJobsCount, long durationNanos) {
+        getOrCreate(jobAcquisitions, acquisitionType, name -> new LatencyHistogram()).record(durationNanos, true);
+        getOrCreate(acquiredJobs, acquisitionType, name -> new LongAdder()).add(acquiredJobsCount);
+    }
+
+    @Override
+    public void recordJobExecution(String jobHandlerType, long durationNanos, boolean successful) {
+        getOrCreate(jobExecutions, jobHandlerType != null ? jobHandlerType : "unknown", name -> new LatencyHistogram()).record(durationNanos, successful);
+    }
+
+    @Override
+    public void recordJobSubmission(int inFlightJobsCount, boolean rejected) {
+        inFlightJobs.set(inFlightJobsCount);
+        maxInFlightJobs.accumulateAndGet(inFlightJobsCount, Math::max);
+        if (rejected) {
+            rejectedJobSubmissions.increment();
+        }
+    }
+
+    @Override
+    public void recordJobStartDelay(long delayNanos) {
+        jobStartDelays.record(delayNanos, true);
+    }
+
+    protected <T> T getOrCreate(ConcurrentMap<String, T> map, String key, Function<String, T> creator) {
+        // get first, as computeIfAbsent locks even when the key is present on Java 8
+        T value = map.get(key);
+        if (value == null) {
+            value = map.computeIfAbsent(key, creator);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the execution times per command class name.
+     */
+    public Map<String, LatencyHistogram> getCommandExecutions() {
+        return Collections.unmodifiableMap(commandExecutions);
+    }
+
+    /**
+     * Returns the cache and flush counters per entity class name.
+     */
+    public Map<String, EntityMetrics> getEntityMetrics() {
+        return Collections.unmodifiableMap(entityMetrics);
+    }
+
+    /**
+     * Returns the acquisition times per acquisition type.
+     */
+    public Map<String, LatencyHistogram> getJobAcquisitions() {
+        return Collections.unmodifiableMap(jobAcquisitions);
+    }
+
+    /**
+     * Returns the total number of acquired jobs for the given acquisition type.
+     */
+    public long getAcquiredJobsCount(String acquisitionType) {
+        LongAdder count = acquiredJobs.get(acquisitionType);
+        return count != null ? count.sum() : 0L;
+    }
+
+    /**
+     * Returns the execution times per job handler type.
+     */
+    public Map<String, LatencyHistogram> getJobExecutions() {
+        return Collections.unmodifiableMap(jobExecutions);
+    }
+
+    public LatencyHistogram getFlushes() {
+        return flushes;
+    }
+
+    /**
+     * Returns the number of jobs holding a permit at the last job submission.
+     */
+    public int getInFlightJobs() {
+        return inFlightJobs.get();
+    }
+
+    public int getMaxInFlightJobs() {
+        return maxInFlightJobs.get();
+    }
+
+    public long getRejectedJobSubmissionsCount() {
+        return rejectedJobSubmissions.sum();
+    }
+
+    /**
+     * Returns the times between a job taking a permit and its thread starting to execute it.
+     */
+    public LatencyHistogram getJobStartDelays() {
+        return jobStartDelays;
+    }
+
+    public void reset() {
+        commandExecutions.clear();
+        entityMetrics.clear();
+        jobAcquisitions.clear();
+        acquiredJobs.clear();
+        jobExecutions.clear();
+        flushes.reset();
+        inFlightJobs.set(0);
+        maxInFlightJobs.set(0);
+        rejectedJobSubmissions.reset();
+        jobStartDelays.reset();
+    }
+
+}
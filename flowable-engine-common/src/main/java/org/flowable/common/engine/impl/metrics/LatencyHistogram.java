@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations, with buckets whose upper bounds are powers of two microseconds (1 &micro;s, 2 &micro;s, 4 &micro;s, ..., about 36 minutes).
+ * Recording a value costs a few additions, so it can stay enabled in production.
+ * Percentiles are approximated with the upper bound of the bucket they fall into, so they are at most a factor two too high.
+ */
+public class LatencyHistogram {
+
+    protected static final int NUMBER_OF_BUCKETS = 32;
+
+    protected final LongAdder[] buckets = new LongAdder[NUMBER_OF_BUCKETS];
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder failureCount = new LongAdder();
+    protected final LongAdder totalNanos = new LongAdder();
+    protected final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long durationNanos, boolean successful) {
+        long nanos = Math.max(0L, durationNanos);
+        buckets[bucketIndex(nanos)].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        if (!successful) {
+            failureCount.increment();
+        }
+    }
+
+    protected int bucketIndex(long nanos) {
+        long micros = (nanos + 999L) / 1000L;
+        if (micros <= 1L) {
+            return 0;
+        }
+        // Index of the smallest power of two that is >= micros
+        int index = 64 - Long.numberOfLeadingZeros(micros - 1);
+        return Math.min(index, NUMBER_OF_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the upper bound, in microseconds, of the bucket with the given index.
+     */
+    public static long getBucketUpperBoundMicros(int index) {
+        return 1L << index;
+    }
+
+    public static int getNumberOfBuckets() {
+        return NUMBER_OF_BUCKETS;
+    }
+
+    public long getBucketCount(int index) {
+        return buckets[index].sum();
+    }
+
+    /**
+     * Returns the approximated duration in nanoseconds below which the given fraction (between 0 and 1) of the recorded durations fall.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long totalCount = count.sum();
+        if (totalCount == 0L) {
+            return 0L;
+        }
+
+        long targetCount = (long) Math.ceil(percentile * totalCount);
+        long cumulativeCount = 0L;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            cumulativeCount += buckets[i].sum();
+            if (cumulativeCount >= targetCount) {
+                return Math.min(TimeUnit.MICROSECONDS.toNanos(getBucketUpperBoundMicros(i)), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long totalCount = count.sum();
+        return totalCount > 0L ? (double) totalNanos.sum() / totalCount : 0.0;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        failureCount.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+
+/**
+ * Records the execution time of every command in a {@link MetricsRecorder}.
+ * Placed before the transaction interceptors, so the time includes the flush and the commit.
+ */
+public class MetricsCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected MetricsRecorder metricsRecorder;
+
+    public MetricsCommandInterceptor(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        long start = System.nanoTime();
+        boolean successful = false;
+        try {
+            T result = next.execute(config, command);
+            successful = true;
+            return result;
+        } finally {
+            metricsRecorder.recordCommandExecution(command.getClass().getName(), System.nanoTime() - start, successful);
+        }
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+/**
+ * Receives the measurements of an engine: command execution times, entity cache accesses, flushed entity operations
+ * and async job acquisition, submission and execution times.
+ * <p>
+ * The methods are called on the hot path of every command, so implementations need to be cheap and thread-safe.
+ * {@link InMemoryMetricsRecorder} keeps the measurements in counters and histograms that can be read and exported
+ * to any monitoring system; other implementations can forward them directly.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * @param commandName
+     *            the class name of the command
+     * @param durationNanos
+     *            the execution time, including the nested commands and the transaction commit
+     * @param successful
+     *            false when the command threw an exception
+     */
+    void recordCommandExecution(String commandName, long durationNanos, boolean successful);
+
+    /**
+     * Records a lookup by id in the entity cache of a command context. A miss means the entity is fetched from the database.
+     */
+    void recordEntityCacheAccess(Class<?> entityClass, boolean hit);
+
+    /**
+     * Records the number of inserted, updated and deleted entities of one type in a flush.
+     * Bulk deletes are not included, as the number of deleted rows isn't known.
+     */
+    void recordEntityOperations(Class<?> entityClass, int inserts, int updates, int deletes);
+
+    /**
+     * Records the time it took to flush all the changes of a command context to the database.
+     */
+    void recordFlush(long durationNanos);
+
+    /**
+     * @param acquisitionType
+     *            the kind of jobs that were acquired: "async", "timer" or "history"
+     * @param acquiredJobs
+     *            the number of acquired jobs, 0 when nothing was found or the acquisition failed
+     */
+    void recordJobAcquisition(String acquisitionType, int acquiredJobs, long durationNanos);
+
+    /**
+     * @param jobHandlerType
+     *            the handler type of the executed job
+     * @param successful
+     *            false when the job execution failed and the job will be retried
+     */
+    void recordJobExecution(String jobHandlerType, long durationNanos, boolean successful);
+
+    /**
+     * Records a job handed to an async executor that limits the number of concurrently executing jobs with permits
+     * (the virtual thread execution).
+     * 
+     * @param inFlightJobs
+     *            the number of jobs holding a permit after the submission
+     * @param rejected
+     *            true when no permit was available, so the job is unacquired again
+     */
+    void recordJobSubmission(int inFlightJobs, boolean rejected);
+
+    /**
+     * Records the time between a job taking a permit and its thread starting to execute it.
+     */
+    void recordJobStartDelay(long delayNanos);
+
+}
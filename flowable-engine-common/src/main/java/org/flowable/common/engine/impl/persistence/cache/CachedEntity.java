@@ -14,7 +14,9 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.persistence.entity.IndexedEntity;
 
 /**
  * @author Joram Barrez
@@ -32,9 +34,27 @@ public class CachedEntity {
      */
     protected Object originalPersistentState;
 
+    /**
+     * Whether the changes are tracked by the {@link DirtyTrackedEntity} itself, instead of comparing with the {@link #originalPersistentState}.
+     */
+    protected boolean dirtyTracked;
+
+    /**
+     * The {@link EntityCacheImpl} this entity is cached in, only set for an {@link IndexedEntity} when that cache maintains an {@link EntityIndex} for it.
+     */
+    protected EntityCacheImpl entityCache;
+
+    /**
+     * The {@link CachedEntity} of the same {@link IndexedEntity} in another (outer) entity cache, which also needs to be notified of index key changes.
+     */
+    protected CachedEntity previousCachedEntity;
+
     public CachedEntity(Entity entity, boolean storeState) {
         this.entity = entity;
-        if (storeState) {
+        if (storeState && entity instanceof DirtyTrackedEntity) {
+            ((DirtyTrackedEntity) entity).setDirty(false);
+            this.dirtyTracked = true;
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -58,8 +78,40 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    /**
+     * Called by an {@link IndexedEntity} after a field used in an {@link EntityIndex} key changed.
+     */
+    public void indexKeysChanged() {
+        if (entityCache != null) {
+            entityCache.updateIndexes(this);
+        }
+        if (previousCachedEntity != null) {
+            previousCachedEntity.indexKeysChanged();
+        }
+    }
+
+    public EntityCacheImpl getEntityCache() {
+        return entityCache;
+    }
+
+    public void setEntityCache(EntityCacheImpl entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    public CachedEntity getPreviousCachedEntity() {
+        return previousCachedEntity;
+    }
+
+    public void setPreviousCachedEntity(CachedEntity previousCachedEntity) {
+        this.previousCachedEntity = previousCachedEntity;
+    }
+
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        if (dirtyTracked) {
+            return ((DirtyTrackedEntity) entity).isDirty();
+        }
+        Object persistentState = entity.getPersistentState();
+        return persistentState != null && !persistentState.equals(originalPersistentState);
     }
 
 }
\ No newline at end of file
@@ -59,6 +59,15 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances for the given type that can have the given key in the given {@link EntityIndex}.
+     * The result can contain entities with another key (at worst all cached entities of the type are returned), so callers still need to check each entity.
+     * Returns null if no instances of the given type exist.
+     */
+    default <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityIndex<?> index, Object key) {
+        return findInCacheAsCachedObjects(entityClass);
+    }
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
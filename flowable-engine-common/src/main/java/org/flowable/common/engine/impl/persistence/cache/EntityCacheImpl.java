@@ -18,8 +18,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.persistence.entity.IndexedEntity;
 
 /**
  * @author Joram Barrez
@@ -28,6 +30,14 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * The {@link EntityIndex} instances built for each entity class. An index is only built when it is first used
+     * on a class with at least {@link #indexingThreshold} cached entities, and from then on maintained on every change.
+     */
+    protected Map<Class<?>, Map<EntityIndex<?>, IndexEntries>> entityIndexes = new HashMap<>();
+
+    protected int indexingThreshold = 32;
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +47,14 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<EntityIndex<?>, IndexEntries> classIndexes = entityIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            linkIndexedEntity(cachedObject);
+            for (IndexEntries indexEntries : classIndexes.values()) {
+                indexEntries.put(cachedObject);
+            }
+        }
         return cachedObject;
     }
 
@@ -76,7 +94,15 @@ public class EntityCacheImpl implements EntityCache {
         if (classCache == null) {
             return;
         }
-        classCache.remove(entityId);
+        CachedEntity removedObject = classCache.remove(entityId);
+
+        Map<EntityIndex<?>, IndexEntries> classIndexes = entityIndexes.get(entityClass);
+        if (removedObject != null && classIndexes != null) {
+            for (IndexEntries indexEntries : classIndexes.values()) {
+                indexEntries.remove(entityId);
+            }
+            unlinkIndexedEntity(removedObject);
+        }
     }
 
     @Override
@@ -88,6 +114,69 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityIndex<?> index, Object key) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Map<EntityIndex<?>, IndexEntries> classIndexes = entityIndexes.get(entityClass);
+        IndexEntries indexEntries = classIndexes != null ? classIndexes.get(index) : null;
+        if (indexEntries == null) {
+            if (classCache.size() < indexingThreshold || !IndexedEntity.class.isAssignableFrom(entityClass)) {
+                return classCache.values();
+            }
+
+            if (classIndexes == null) {
+                classIndexes = new HashMap<>();
+                entityIndexes.put(entityClass, classIndexes);
+            }
+            indexEntries = new IndexEntries(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                linkIndexedEntity(cachedObject);
+                indexEntries.put(cachedObject);
+            }
+            classIndexes.put(index, indexEntries);
+        }
+
+        return indexEntries.get(key);
+    }
+
+    /**
+     * Updates the indexes after a change of the index keys of the given {@link CachedEntity}.
+     */
+    public void updateIndexes(CachedEntity cachedObject) {
+        Entity entity = cachedObject.getEntity();
+        Map<EntityIndex<?>, IndexEntries> classIndexes = entityIndexes.get(entity.getClass());
+        if (classIndexes != null && cachedObjects.get(entity.getClass()).get(entity.getId()) == cachedObject) {
+            for (IndexEntries indexEntries : classIndexes.values()) {
+                indexEntries.put(cachedObject);
+            }
+        }
+    }
+
+    protected void linkIndexedEntity(CachedEntity cachedObject) {
+        IndexedEntity indexedEntity = (IndexedEntity) cachedObject.getEntity();
+        CachedEntity linkedObject = indexedEntity.getCachedEntity();
+        if (linkedObject != cachedObject) {
+            if (linkedObject != null && linkedObject.getEntityCache() == this) {
+                // Replaced in this cache: keep notifying the outer caches only
+                linkedObject = linkedObject.getPreviousCachedEntity();
+            }
+            cachedObject.setEntityCache(this);
+            cachedObject.setPreviousCachedEntity(linkedObject);
+            indexedEntity.setCachedEntity(cachedObject);
+        }
+    }
+
+    protected void unlinkIndexedEntity(CachedEntity cachedObject) {
+        IndexedEntity indexedEntity = (IndexedEntity) cachedObject.getEntity();
+        if (indexedEntity.getCachedEntity() == cachedObject) {
+            indexedEntity.setCachedEntity(cachedObject.getPreviousCachedEntity());
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -115,11 +204,83 @@ public class EntityCacheImpl implements EntityCache {
 
     @Override
     public void close() {
-
+        // Entities can outlive the cache, so they should not keep notifying it
+        for (Class<?> indexedClass : entityIndexes.keySet()) {
+            for (CachedEntity cachedObject : cachedObjects.get(indexedClass).values()) {
+                unlinkIndexedEntity(cachedObject);
+            }
+        }
+        entityIndexes.clear();
     }
 
     @Override
     public void flush() {
 
     }
+
+    public int getIndexingThreshold() {
+        return indexingThreshold;
+    }
+
+    public void setIndexingThreshold(int indexingThreshold) {
+        this.indexingThreshold = indexingThreshold;
+    }
+
+    /**
+     * The entries of one {@link EntityIndex} for one entity class.
+     */
+    protected static class IndexEntries {
+
+        protected EntityIndex<Entity> index;
+        protected Map<Object, Map<String, CachedEntity>> cachedObjectsByKey = new HashMap<>();
+        protected Map<String, Object> keysById = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public IndexEntries(EntityIndex<?> index) {
+            this.index = (EntityIndex<Entity>) index;
+        }
+
+        public void put(CachedEntity cachedObject) {
+            String id = cachedObject.getEntity().getId();
+            Object key = index.getKey(cachedObject.getEntity());
+            if (keysById.containsKey(id)) {
+                Object previousKey = keysById.get(id);
+                Map<String, CachedEntity> previousEntries = cachedObjectsByKey.get(previousKey);
+                if (Objects.equals(previousKey, key) && previousEntries.get(id) == cachedObject) {
+                    return;
+                }
+                removeEntry(previousKey, id);
+            }
+
+            keysById.put(id, key);
+            Map<String, CachedEntity> entries = cachedObjectsByKey.get(key);
+            if (entries == null) {
+                entries = new HashMap<>();
+                cachedObjectsByKey.put(key, entries);
+            }
+            entries.put(id, cachedObject);
+        }
+
+        public void remove(String id) {
+            if (keysById.containsKey(id)) {
+                removeEntry(keysById.remove(id), id);
+            }
+        }
+
+        protected void removeEntry(Object key, String id) {
+            Map<String, CachedEntity> entries = cachedObjectsByKey.get(key);
+            entries.remove(id);
+            if (entries.isEmpty()) {
+                cachedObjectsByKey.remove(key);
+            }
+        }
+
+        public Collection<CachedEntity> get(Object key) {
+            Map<String, CachedEntity> entries = cachedObjectsByKey.get(key);
+            // A copy, as the entries can change while the caller iterates over them
+            return entries != null ? new ArrayList<>(entries.values()) : Collections.emptyList();
+        }
+
+    }
+
 }
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.persistence.entity.IndexedEntity;
+
+/**
+ * A secondary index on the entities of the {@link EntityCache}, grouping the cached entities of a type by the key
+ * returned by the key function (e.g. the parent id of an execution).
+ * <p>
+ * Indexes are identified by instance, so they are typically declared as constants, next to the {@link IndexedCachedEntityMatcher}
+ * using them. The entity cache only maintains an index for entities implementing {@link IndexedEntity},
+ * which notify the cache when one of the fields used in a key changes.
+ */
+public class EntityIndex<EntityImpl extends Entity> {
+
+    protected String name;
+    protected Function<EntityImpl, Object> keyFunction;
+
+    public EntityIndex(String name, Function<EntityImpl, Object> keyFunction) {
+        this.name = name;
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns a key made of multiple values, for indexes on a combination of fields.
+     */
+    public static Object compositeKey(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    public Object getKey(EntityImpl entity) {
+        return keyFunction.apply(entity);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityIndex[" + name + "]";
+    }
+
+}
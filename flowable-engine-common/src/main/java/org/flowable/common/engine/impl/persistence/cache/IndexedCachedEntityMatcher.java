@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Implemented by a {@link CachedEntityMatcher} or {@link org.flowable.common.engine.impl.db.SingleCachedEntityMatcher} that only retains entities with a given key
+ * in an {@link EntityIndex}. The cache is then looked up through the index instead of checking every cached entity of the type.
+ * <p>
+ * The matcher is still applied to the entities found through the index, so the index only needs to narrow down the candidates.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> {
+
+    EntityIndex<EntityImpl> getEntityIndex();
+
+    /**
+     * Returns the key of the entities in the {@link #getEntityIndex()} that can match the given query parameter.
+     */
+    Object getEntityIndexKey(Object parameter);
+
+}
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An engine-wide cache for {@link Entity} instances that rarely or never change, shared by all {@link DbSqlSession}s.
+ * It sits behind {@link DbSqlSession#selectById(Class, String)}: the {@link EntityCache} of the command is checked first,
+ * then this cache and only then the database.
+ * <p>
+ * Implementations never hand out the same instance twice: every {@link #get(Class, String)} returns a new copy,
+ * as the returned entity becomes part of the {@link EntityCache} of a command and can be changed there.
+ */
+public interface SharedEntityCache {
+
+    /**
+     * Returns a copy of the cached {@link Entity} of the given class with the provided id,
+     * or null if it is not cached (or expired).
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * Returns a stamp that needs to be passed to {@link #putFromLoad(Entity, long)} for an entity that is loaded from the database after calling this method.
+     * It allows to detect invalidations that happened while the entity was being loaded.
+     */
+    long getLoadStamp(Class<? extends Entity> entityClass);
+
+    /**
+     * Caches a copy of an {@link Entity} that was just loaded from the database. The entity is not cached when an invalidation
+     * for its class happened after the given load stamp was taken, or when a more recent revision of it is already cached.
+     */
+    void putFromLoad(Entity entity, long loadStamp);
+
+    /**
+     * Removes the {@link Entity} of the given type with the given id from the cache.
+     */
+    void invalidate(Class<? extends Entity> entityClass, String id);
+
+    /**
+     * Removes all entities of the given type from the cache.
+     */
+    void invalidate(Class<? extends Entity> entityClass);
+
+    /**
+     * Removes all entities from the cache.
+     */
+    void invalidateAll();
+
+}
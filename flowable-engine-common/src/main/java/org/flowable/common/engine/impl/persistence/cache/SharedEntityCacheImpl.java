@@ -0,0 +1,245 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link SharedEntityCache}: keeps a snapshot of every cached entity in memory, per entity class.
+ * <p>
+ * A snapshot only contains the fields that are populated from the database columns: strings, primitives and their wrappers,
+ * enums, dates (which are copied) and byte arrays (which are shared and must not be changed).
+ * Other fields (collections, lazily fetched references, ...) are left as the default constructor of the entity initializes them.
+ * <p>
+ * Entries are removed when the entity is updated or deleted through this engine (see {@link #invalidate(Class, String)}).
+ * Changes done by other engines sharing the same database (e.g. in a cluster) can't be seen, so entries also expire after
+ * the configured time to live. Reading a stale entity can't lead to lost updates, as every update of a versioned entity
+ * is checked for optimistic locking.
+ */
+public class SharedEntityCacheImpl implements SharedEntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedEntityCacheImpl.class);
+
+    protected final ConcurrentMap<Class<?>, Region> regions = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<Class<?>, Field[]> snapshotFields = new ConcurrentHashMap<>();
+
+    protected long timeToLive;
+    protected int maxEntriesPerClass;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param timeToLive
+     *            The time in milliseconds an entity stays cached. Zero or negative means entries only get removed when invalidated.
+     * @param maxEntriesPerClass
+     *            The maximum number of cached entities per entity class. Zero or negative means no limit.
+     */
+    public SharedEntityCacheImpl(long timeToLive, int maxEntriesPerClass) {
+        this.timeToLive = timeToLive;
+        this.maxEntriesPerClass = maxEntriesPerClass;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        Region region = regions.get(entityClass);
+        CacheEntry cacheEntry = region != null ? region.entries.get(id) : null;
+        if (cacheEntry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        if (cacheEntry.isExpired(System.currentTimeMillis())) {
+            region.entries.remove(id, cacheEntry);
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return (T) copy(cacheEntry.snapshot);
+    }
+
+    @Override
+    public long getLoadStamp(Class<? extends Entity> entityClass) {
+        return getRegion(entityClass).invalidationCounter.get();
+    }
+
+    @Override
+    public void putFromLoad(Entity entity, long loadStamp) {
+        Region region = getRegion(entity.getClass());
+        if (maxEntriesPerClass > 0 && region.entries.size() >= maxEntriesPerClass && !region.entries.containsKey(entity.getId())) {
+            removeExpiredEntries(region);
+            if (region.entries.size() >= maxEntriesPerClass) {
+                return;
+            }
+        }
+
+        CacheEntry newEntry = new CacheEntry(copy(entity), timeToLive > 0 ? System.currentTimeMillis() + timeToLive : Long.MAX_VALUE);
+        region.entries.merge(entity.getId(), newEntry, (existingEntry, entry) -> getRevision(entry) >= getRevision(existingEntry) ? entry : existingEntry);
+
+        // An invalidation could have happened between loading the entity and caching it. In that case, the loaded entity could be stale.
+        if (region.invalidationCounter.get() != loadStamp) {
+            region.entries.remove(entity.getId(), newEntry);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<? extends Entity> entityClass, String id) {
+        Region region = regions.get(entityClass);
+        if (region != null) {
+            region.invalidationCounter.incrementAndGet();
+            region.entries.remove(id);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<? extends Entity> entityClass) {
+        Region region = regions.get(entityClass);
+        if (region != null) {
+            region.invalidationCounter.incrementAndGet();
+            region.entries.clear();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Region region : regions.values()) {
+            region.invalidationCounter.incrementAndGet();
+            region.entries.clear();
+        }
+    }
+
+    protected Region getRegion(Class<?> entityClass) {
+        return regions.computeIfAbsent(entityClass, clazz -> new Region());
+    }
+
+    protected void removeExpiredEntries(Region region) {
+        long now = System.currentTimeMillis();
+        region.entries.values().removeIf(cacheEntry -> cacheEntry.isExpired(now));
+    }
+
+    protected int getRevision(CacheEntry cacheEntry) {
+        return cacheEntry.snapshot instanceof HasRevision ? ((HasRevision) cacheEntry.snapshot).getRevision() : 0;
+    }
+
+    protected Entity copy(Entity entity) {
+        try {
+            Constructor<? extends Entity> constructor = entity.getClass().getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Entity copy = constructor.newInstance();
+            for (Field field : getSnapshotFields(entity.getClass())) {
+                Object value = field.get(entity);
+                if (value instanceof Date) {
+                    value = ((Date) value).clone();
+                }
+                field.set(copy, value);
+            }
+            return copy;
+
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Could not copy entity " + entity + " for the shared entity cache", e);
+        }
+    }
+
+    protected Field[] getSnapshotFields(Class<?> entityClass) {
+        return snapshotFields.computeIfAbsent(entityClass, clazz -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> currentClass = clazz; currentClass != null && currentClass != Object.class; currentClass = currentClass.getSuperclass()) {
+                for (Field field : currentClass.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && isSnapshotType(field.getType())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            LOGGER.debug("Shared entity cache copies {} fields of {}", fields.size(), clazz);
+            return fields.toArray(new Field[0]);
+        });
+    }
+
+    protected boolean isSnapshotType(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || type == String.class || type == byte[].class || Date.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type) || type == Boolean.class || type == Character.class;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    // For testing purposes only
+    public int size(Class<? extends Entity> entityClass) {
+        Region region = regions.get(entityClass);
+        return region != null ? region.entries.size() : 0;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public int getMaxEntriesPerClass() {
+        return maxEntriesPerClass;
+    }
+
+    public void setMaxEntriesPerClass(int maxEntriesPerClass) {
+        this.maxEntriesPerClass = maxEntriesPerClass;
+    }
+
+    protected static class Region {
+
+        protected final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+        protected final AtomicLong invalidationCounter = new AtomicLong();
+
+    }
+
+    protected static class CacheEntry {
+
+        protected final Entity snapshot;
+        protected final long expirationTime;
+
+        public CacheEntry(Entity snapshot, long expirationTime) {
+            this.snapshot = snapshot;
+            this.expirationTime = expirationTime;
+        }
+
+        public boolean isExpired(long now) {
+            return now >= expirationTime;
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Publishes the {@link SharedEntityCache} invalidations of committed transactions to the other engines using the same database
+ * (e.g. the other nodes of a cluster). Without a publisher, the caches of those engines only drop the changed entities after the time to live.
+ * <p>
+ * An implementation would send the invalidations on a message bus and, when it receives the invalidations of another node,
+ * call {@link SharedEntityCache#invalidate(Class, String)} and {@link SharedEntityCache#invalidate(Class)} on the cache of its own engine.
+ * There is a short window between the commit and the other nodes processing the invalidations, in which they can still read the old entity.
+ */
+public interface SharedEntityCacheInvalidationPublisher {
+
+    /**
+     * Called after a transaction is committed that changed cacheable entities.
+     * 
+     * @param invalidatedIds
+     *            the ids of the updated and deleted entities per entity class
+     * @param invalidatedClasses
+     *            the entity classes of which all entities are invalidated, e.g. because of a bulk update or delete
+     */
+    void publishInvalidations(Map<Class<? extends Entity>, Set<String>> invalidatedIds, Set<Class<? extends Entity>> invalidatedClasses);
+
+}
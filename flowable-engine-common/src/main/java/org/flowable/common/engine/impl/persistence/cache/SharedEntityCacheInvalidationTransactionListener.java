@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Collects the {@link SharedEntityCache} invalidations of one transaction and invalidates them a second time after the transaction is committed.
+ * <p>
+ * The entries are invalidated when the changes are flushed already, but until the commit other transactions still see the old rows
+ * and could put them in the cache again. The invalidations are then handed to the {@link SharedEntityCacheInvalidationPublisher}, if any,
+ * for the other engines using the same database.
+ */
+public class SharedEntityCacheInvalidationTransactionListener implements TransactionListener {
+
+    protected SharedEntityCache sharedEntityCache;
+    protected SharedEntityCacheInvalidationPublisher invalidationPublisher;
+    protected Map<Class<? extends Entity>, Set<String>> invalidatedIds = new HashMap<>();
+    protected Set<Class<? extends Entity>> invalidatedClasses = new HashSet<>();
+
+    public SharedEntityCacheInvalidationTransactionListener(SharedEntityCache sharedEntityCache) {
+        this(sharedEntityCache, null);
+    }
+
+    public SharedEntityCacheInvalidationTransactionListener(SharedEntityCache sharedEntityCache, SharedEntityCacheInvalidationPublisher invalidationPublisher) {
+        this.sharedEntityCache = sharedEntityCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    public void invalidate(Class<? extends Entity> entityClass, String id) {
+        sharedEntityCache.invalidate(entityClass, id);
+        invalidatedIds.computeIfAbsent(entityClass, key -> new HashSet<>()).add(id);
+    }
+
+    public void invalidate(Class<? extends Entity> entityClass) {
+        sharedEntityCache.invalidate(entityClass);
+        invalidatedClasses.add(entityClass);
+    }
+
+    public boolean isInvalidated(Class<? extends Entity> entityClass) {
+        return invalidatedClasses.contains(entityClass) || invalidatedIds.containsKey(entityClass);
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        for (Class<? extends Entity> entityClass : invalidatedClasses) {
+            sharedEntityCache.invalidate(entityClass);
+        }
+        for (Map.Entry<Class<? extends Entity>, Set<String>> entry : invalidatedIds.entrySet()) {
+            if (!invalidatedClasses.contains(entry.getKey())) {
+                for (String id : entry.getValue()) {
+                    sharedEntityCache.invalidate(entry.getKey(), id);
+                }
+            }
+        }
+
+        if (invalidationPublisher != null) {
+            invalidationPublisher.publishInvalidations(invalidatedIds, invalidatedClasses);
+        }
+    }
+
+}
@@ -0,0 +1,240 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} for highly concurrent usage: reads never take a lock.
+ * <p>
+ * The cache can be limited on the number of entries, on the total estimated weight of the entries
+ * (see {@link DeploymentCacheWeigher}) or on both. When a limit is exceeded after an add, entries are evicted using a sampled LRU policy:
+ * a small sample of entries is taken by sweeping over the cache and the least recently accessed one of that sample is evicted.
+ * Only adds that exceed a limit synchronize with each other.
+ * <p>
+ * Hits, misses and evictions are counted and exposed through {@link #getHitCount()}, {@link #getMissCount()} and {@link #getEvictionCount()}.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final int DEFAULT_EVICTION_SAMPLE_SIZE = 8;
+
+    // The access time is only updated when it changed more than this, to avoid a write on every read of a hot entry
+    protected static final long ACCESS_TIME_RESOLUTION_NANOS = 1000000L;
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected final int maxEntries;
+    protected final long maxWeight;
+    protected final DeploymentCacheWeigher<T> weigher;
+    protected int evictionSampleSize = DEFAULT_EVICTION_SAMPLE_SIZE;
+
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    protected final Object evictionLock = new Object();
+    protected Iterator<CacheEntry<T>> evictionCursor;
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /** Cache which will not keep more elements than the given limit. */
+    public ConcurrentDeploymentCache(int maxEntries) {
+        this(maxEntries, -1L, null);
+    }
+
+    /**
+     * Cache limited on the number of entries and/or on the total weight of the entries, as calculated by the given weigher.
+     * A limit that is zero or negative is not applied.
+     */
+    public ConcurrentDeploymentCache(int maxEntries, long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        if (maxWeight > 0 && weigher == null) {
+            throw new IllegalArgumentException("A weigher is needed when the cache is limited on weight");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> cacheEntry = cache.get(id);
+        if (cacheEntry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        long now = System.nanoTime();
+        if (now - cacheEntry.lastAccessTime > ACCESS_TIME_RESOLUTION_NANOS) {
+            cacheEntry.lastAccessTime = now;
+        }
+        return cacheEntry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        CacheEntry<T> cacheEntry = new CacheEntry<>(id, object, weigh(object));
+        CacheEntry<T> previousEntry = cache.put(id, cacheEntry);
+        totalWeight.addAndGet(previousEntry != null ? cacheEntry.weight - previousEntry.weight : cacheEntry.weight);
+        evictIfNeeded();
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> cacheEntry = cache.remove(id);
+        if (cacheEntry != null) {
+            totalWeight.addAndGet(-cacheEntry.weight);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (String id : new ArrayList<>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    protected long weigh(T object) {
+        return weigher != null ? weigher.weigh(object) : 0L;
+    }
+
+    protected boolean isLimitExceeded() {
+        return (maxEntries > 0 && cache.size() > maxEntries) || (maxWeight > 0 && totalWeight.get() > maxWeight);
+    }
+
+    protected void evictIfNeeded() {
+        if (!isLimitExceeded()) {
+            return;
+        }
+
+        synchronized (evictionLock) {
+            while (isLimitExceeded()) {
+                CacheEntry<T> victim = sampleEvictionVictim();
+                if (victim == null) {
+                    return;
+                }
+                if (cache.remove(victim.id, victim)) {
+                    totalWeight.addAndGet(-victim.weight);
+                    evictionCount.increment();
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} will be evicted", victim.id);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the least recently accessed entry of the next sample of entries.
+     * The sample is taken by continuing the sweep over the cache where the previous sample ended, so all entries get sampled over time.
+     */
+    protected CacheEntry<T> sampleEvictionVictim() {
+        CacheEntry<T> victim = null;
+        for (int i = 0; i < evictionSampleSize; i++) {
+            if (evictionCursor == null || !evictionCursor.hasNext()) {
+                evictionCursor = cache.values().iterator();
+                if (!evictionCursor.hasNext()) {
+                    break;
+                }
+            }
+
+            CacheEntry<T> candidate = evictionCursor.next();
+            if (victim == null || candidate.lastAccessTime < victim.lastAccessTime) {
+                victim = candidate;
+            }
+        }
+        return victim;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getWeight() {
+        return totalWeight.get();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public int getEvictionSampleSize() {
+        return evictionSampleSize;
+    }
+
+    public void setEvictionSampleSize(int evictionSampleSize) {
+        this.evictionSampleSize = evictionSampleSize;
+    }
+
+    // For testing purposes only
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> cacheEntry : cache.values()) {
+            values.add(cacheEntry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final long weight;
+        protected volatile long lastAccessTime;
+
+        public CacheEntry(String id, T value, long weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = System.nanoTime();
+        }
+    }
+
+}
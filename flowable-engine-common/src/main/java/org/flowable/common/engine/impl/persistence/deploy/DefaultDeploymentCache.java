@@ -88,7 +88,7 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
         return cache.values();
     }
 
-    // For testing purposes only
+    @Override
     public int size() {
         return cache.size();
     }
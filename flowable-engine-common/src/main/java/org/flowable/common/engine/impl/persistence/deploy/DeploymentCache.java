@@ -28,5 +28,12 @@ public interface DeploymentCache<T> {
     void remove(String id);
 
     void clear();
-    
+
+    /**
+     * @return the number of cached objects, or -1 when the cache implementation does not track its size
+     */
+    default int size() {
+        return -1;
+    }
+
 }
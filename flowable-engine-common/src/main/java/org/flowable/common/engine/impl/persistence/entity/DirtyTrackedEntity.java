@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track itself of changes to its persistent state, so that no snapshot of the {@link Entity#getPersistentState()}
+ * needs to be taken when it is loaded and compared at flush time to decide whether it needs to be updated.
+ * <p>
+ * Implementations must mark themselves dirty on every change of a field that is part of the persistent state.
+ * Entities not implementing this interface use the persistent state comparison.
+ */
+public interface DirtyTrackedEntity extends Entity {
+
+    /**
+     * Returns whether the persistent state changed since the entity was loaded.
+     */
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityIndex;
+
+/**
+ * An {@link Entity} for which the {@link EntityIndex} indexes of the entity cache can be maintained.
+ * <p>
+ * Implementations keep a reference to the {@link CachedEntity} they are cached as,
+ * and must call {@link CachedEntity#indexKeysChanged()} after a change of any field used in the key of an index.
+ */
+public interface IndexedEntity extends Entity {
+
+    CachedEntity getCachedEntity();
+
+    void setCachedEntity(CachedEntity cachedEntity);
+
+}
@@ -12,9 +12,20 @@
  */
 package org.flowable.common.engine.impl.query;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
@@ -25,6 +36,7 @@ import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
  * Abstract superclass for all query types.
@@ -35,9 +47,20 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
     private static final long serialVersionUID = 1L;
 
+    public static final int DEFAULT_STREAM_BATCH_SIZE = 1000;
+
+    protected static final String ID_COLUMN = "RES.ID_";
+
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    /**
+     * Only results that come after the result with this id (and {@link #afterSortKey}) in the order of the query are returned.
+     * Used for keyset pagination and for fetching the batches of a stream.
+     */
+    protected String afterId;
+    protected Object afterSortKey;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -95,6 +118,26 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         if (orderProperty != null) {
             throw new FlowableIllegalArgumentException("Invalid query: call asc() or desc() after using orderByXX()");
         }
+        if (afterId != null) {
+            if (orderByColumnMap.size() > 1 || nullHandlingColumn != null || nullHandlingOnOrder != null) {
+                throw new FlowableIllegalArgumentException("Invalid query: keyset pagination only supports ordering on a single property, without null handling");
+            }
+            if (afterSortKey == null && getAfterSortColumn() != null) {
+                throw new FlowableIllegalArgumentException("Invalid query: a sort key is needed for keyset pagination when ordering on a property other than the id");
+            }
+        }
+    }
+
+    /**
+     * Only returns the results that come after the given one in the order of this query, with the id as tie-breaker for equal sort keys.
+     * Unlike paging with a first result, the database doesn't need to skip over the preceding results.
+     */
+    protected void setAfter(Object lastSortKey, String lastId) {
+        if (lastId == null) {
+            throw new FlowableIllegalArgumentException("The id of the last result is required for keyset pagination");
+        }
+        this.afterSortKey = lastSortKey;
+        this.afterId = lastId;
     }
 
     @Override
@@ -146,6 +189,87 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeCount(Context.getCommandContext());
     }
 
+    public Stream<U> stream() {
+        return stream(DEFAULT_STREAM_BATCH_SIZE);
+    }
+
+    public Stream<U> stream(int batchSize) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("The batch size of a stream must be positive");
+        }
+        checkQueryOk();
+        if (orderByColumns != null) {
+            throw new FlowableIllegalArgumentException("Invalid query: the results of a stream are ordered by id, no other ordering can be used");
+        }
+
+        if (commandExecutor != null) {
+            return StreamSupport.stream(new BatchSpliterator(batchSize), false);
+        }
+
+        CommandContext currentCommandContext = commandContext != null ? commandContext : Context.getCommandContext();
+        if (currentCommandContext == null) {
+            throw new FlowableException("A query can only be streamed with a command executor or within a command context");
+        }
+        // The cursor reads the rows lazily, but the query parameters are bound when the statement is executed
+        Cursor<U> cursor = executeWithStreamParameters(afterId, -1, -1, () -> executeCursor(currentCommandContext));
+        if (cursor == null) {
+            return Stream.empty();
+        }
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> closeCursor(cursor));
+    }
+
+    /**
+     * Executes the query and returns a cursor over the results, without adding them to the entity cache.
+     * Queries that can be streamed need to override this method.
+     *
+     * @return the cursor, or null if the query can't have any results (e.g. when history is disabled)
+     */
+    protected Cursor<U> executeCursor(CommandContext commandContext) {
+        throw new FlowableException("Streaming is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Executes the given query with the paging parameters of a stream, restoring the parameters of this query afterwards,
+     * so streaming doesn't change the results of later calls of e.g. {@link #list()} or {@link #count()}.
+     */
+    protected <R> R executeWithStreamParameters(String streamAfterId, int streamFirstResult, int streamMaxResults, Supplier<R> query) {
+        String originalAfterId = afterId;
+        int originalFirstResult = firstResult;
+        int originalMaxResults = maxResults;
+        afterId = streamAfterId;
+        firstResult = streamFirstResult;
+        maxResults = streamMaxResults;
+        try {
+            return query.get();
+        } finally {
+            afterId = originalAfterId;
+            firstResult = originalFirstResult;
+            maxResults = originalMaxResults;
+        }
+    }
+
+    protected List<U> fetchStreamBatch(CommandContext commandContext, String lastId, int batchSize) {
+        Cursor<U> cursor = executeWithStreamParameters(lastId, 0, batchSize, () -> executeCursor(commandContext));
+        if (cursor == null) {
+            return Collections.emptyList();
+        }
+        try {
+            List<U> results = new ArrayList<>();
+            cursor.forEach(results::add);
+            return results;
+        } finally {
+            closeCursor(cursor);
+        }
+    }
+
+    protected void closeCursor(Cursor<U> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new FlowableException("Could not close query cursor", e);
+        }
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         checkQueryOk();
@@ -167,6 +291,41 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public Object getAfterSortKey() {
+        return afterSortKey;
+    }
+
+    /**
+     * @return the column the query is ordered on when paging with a keyset, or null when the query is ordered by id only
+     */
+    public String getAfterSortColumn() {
+        if (orderByColumnMap.size() == 1) {
+            String column = orderByColumnMap.keySet().iterator().next();
+            if (!ID_COLUMN.equals(column)) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    public String getAfterOperator() {
+        return orderByColumnMap.isEmpty() || orderByColumnMap.values().iterator().next() ? ">" : "<";
+    }
+
+    @Override
+    public String getOrderByColumns() {
+        String sortColumn = afterId != null ? getAfterSortColumn() : null;
+        if (sortColumn != null) {
+            // The id is the tie-breaker for results with the same sort key
+            return super.getOrderByColumns() + ", " + ID_COLUMN + (orderByColumnMap.get(sortColumn) ? " asc" : " desc");
+        }
+        return super.getOrderByColumns();
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
@@ -177,4 +336,42 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return null;
     }
 
+    /**
+     * Fetches the results in batches of the configured size, each batch in its own command,
+     * continuing after the id of the last result of the previous batch.
+     */
+    protected class BatchSpliterator extends Spliterators.AbstractSpliterator<U> {
+
+        protected final int batchSize;
+        protected String lastId;
+        protected Iterator<U> currentBatch = Collections.emptyIterator();
+        protected boolean lastBatch;
+
+        public BatchSpliterator(int batchSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.batchSize = batchSize;
+            this.lastId = afterId;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super U> action) {
+            if (!currentBatch.hasNext()) {
+                if (lastBatch) {
+                    return false;
+                }
+
+                List<U> results = commandExecutor.execute(commandContext -> fetchStreamBatch(commandContext, lastId, batchSize));
+                lastBatch = results.size() < batchSize;
+                if (results.isEmpty()) {
+                    return false;
+                }
+                lastId = ((Entity) results.get(results.size() - 1)).getId();
+                currentBatch = results.iterator();
+            }
+
+            action.accept(currentBatch.next());
+            return true;
+        }
+    }
+
 }
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.scripting;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.script.CompiledScript;
+
+/**
+ * LRU cache of {@link CompiledScript} instances, keyed by script language and script text.
+ * <p>
+ * As the script text itself is the key, a changed script (e.g. in a new deployment) never gets a stale compiled script,
+ * and the compiled scripts of scripts that aren't used anymore are evicted once the limit is reached.
+ */
+public class CompiledScriptCache {
+
+    protected Map<ScriptKey, CompiledScript> cache;
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+
+    public CompiledScriptCache(final int limit) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<ScriptKey, CompiledScript>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScriptKey, CompiledScript> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    public CompiledScript get(String language, String script) {
+        CompiledScript compiledScript = cache.get(new ScriptKey(language, script));
+        if (compiledScript != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return compiledScript;
+    }
+
+    public void add(String language, String script, CompiledScript compiledScript) {
+        cache.put(new ScriptKey(language, script), compiledScript);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    protected static class ScriptKey {
+
+        protected final String language;
+        protected final String script;
+        protected final int hashCode;
+
+        public ScriptKey(String language, String script) {
+            this.language = language;
+            this.script = script;
+            this.hashCode = 31 * language.hashCode() + script.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof ScriptKey)) {
+                return false;
+            }
+            ScriptKey other = (ScriptKey) object;
+            return hashCode == other.hashCode && language.equals(other.language) && script.equals(other.script);
+        }
+    }
+
+}
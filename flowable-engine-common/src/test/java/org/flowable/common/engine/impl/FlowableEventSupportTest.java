@@ -16,19 +16,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableAsyncEventListener;
 import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableAsyncEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.event.AsyncEventListenerQueue;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -38,6 +45,11 @@ class FlowableEventSupportTest {
 
     private FlowableEventSupport flowableEventSupport = new FlowableEventSupport();
 
+    @AfterEach
+    void shutdown() {
+        flowableEventSupport.shutdown();
+    }
+
     @Test
     void addNullEventListenerShouldFail() {
         assertThatThrownBy(() -> flowableEventSupport.addEventListener(null))
@@ -431,6 +443,98 @@ class FlowableEventSupportTest {
 
     }
 
+    @Test
+    void dispatchEventShouldDeliverToAsyncListenersInBatches() throws Exception {
+        TestFlowableAsyncEventListener asyncListener = new TestFlowableAsyncEventListener();
+        asyncListener.setMaxBatchSize(2);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestFlowableEventListener normalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(normalListener);
+
+        TestFlowableEventType testEventType = new TestFlowableEventType("test");
+        List<FlowableEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            FlowableEvent event = new TestFlowableEvent(testEventType);
+            events.add(event);
+            flowableEventSupport.dispatchEvent(event);
+        }
+
+        assertThat(normalListener.getReceivedEvents()).containsExactlyElementsOf(events);
+
+        asyncListener.waitForEvents(5);
+        assertThat(asyncListener.getReceivedEvents()).containsExactlyElementsOf(events);
+        assertThat(asyncListener.getBatchSizes()).allMatch(batchSize -> batchSize <= 2);
+        assertThat(asyncListener.getThreadNames()).noneMatch(threadName -> threadName.equals(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void dispatchEventShouldDropEventsWhenAsyncListenerQueueIsFull() throws Exception {
+        CountDownLatch deliveryStarted = new CountDownLatch(1);
+        CountDownLatch releaseDelivery = new CountDownLatch(1);
+        TestFlowableAsyncEventListener asyncListener = new TestFlowableAsyncEventListener() {
+
+            @Override
+            public void onEvents(List<FlowableEvent> events) {
+                deliveryStarted.countDown();
+                try {
+                    releaseDelivery.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onEvents(events);
+            }
+        };
+        asyncListener.setQueueCapacity(2);
+        asyncListener.setOverflowPolicy(FlowableAsyncEventListener.OverflowPolicy.DROP_NEWEST);
+        TestFlowableEventType testEventType = new TestFlowableEventType("test");
+        flowableEventSupport.addEventListener(asyncListener, testEventType);
+
+        FlowableEvent event1 = new TestFlowableEvent(testEventType);
+        flowableEventSupport.dispatchEvent(event1);
+        assertThat(deliveryStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        FlowableEvent event2 = new TestFlowableEvent(testEventType);
+        FlowableEvent event3 = new TestFlowableEvent(testEventType);
+        FlowableEvent event4 = new TestFlowableEvent(testEventType);
+        flowableEventSupport.dispatchEvent(event2);
+        flowableEventSupport.dispatchEvent(event3);
+        flowableEventSupport.dispatchEvent(event4);
+
+        AsyncEventListenerQueue eventListenerQueue = flowableEventSupport.getAsyncEventListenerQueues().get(asyncListener);
+        assertThat(eventListenerQueue.getDroppedEventCount()).isEqualTo(1);
+
+        releaseDelivery.countDown();
+        flowableEventSupport.shutdown();
+        assertThat(asyncListener.getReceivedEvents()).containsExactly(event1, event2, event3);
+    }
+
+    @Test
+    void shouldQueueEventForAsyncListenerOnTransactionLifecycleEvent() throws Exception {
+        TestFlowableAsyncEventListener committedListener = new TestFlowableAsyncEventListener();
+        committedListener.setOnTransaction(TransactionState.COMMITTED.name());
+        flowableEventSupport.addEventListener(committedListener);
+
+        try {
+            TestTransactionContext transactionContext = new TestTransactionContext();
+            Context.setTransactionContext(transactionContext);
+            TestFlowableEvent event = new TestFlowableEvent(new TestFlowableEventType("event"));
+
+            flowableEventSupport.dispatchEvent(event);
+            assertThat(transactionContext.getTransactionStateListeners()).containsOnlyKeys(TransactionState.COMMITTED);
+
+            assertThat(committedListener.getReceivedEvents()).isEmpty();
+
+            transactionContext.getTransactionStateListeners().get(TransactionState.COMMITTED)
+                .forEach(transactionListener -> transactionListener.execute(null));
+            committedListener.waitForEvents(1);
+            assertThat(committedListener.getReceivedEvents()).containsExactly(event);
+
+        } finally {
+            Context.removeTransactionContext();
+        }
+    }
+
     private static class TestFlowableEventType implements FlowableEventType {
 
         protected final String name;
@@ -509,6 +613,44 @@ class FlowableEventSupportTest {
         }
     }
 
+    private static class TestFlowableAsyncEventListener extends AbstractFlowableAsyncEventListener {
+
+        protected final List<FlowableEvent> receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        protected final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        protected final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onEvents(List<FlowableEvent> events) {
+            batchSizes.add(events.size());
+            threadNames.add(Thread.currentThread().getName());
+            super.onEvents(events);
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            receivedEvents.add(event);
+        }
+
+        public List<FlowableEvent> getReceivedEvents() {
+            return receivedEvents;
+        }
+
+        public void waitForEvents(int eventCount) throws InterruptedException {
+            long endTime = System.currentTimeMillis() + 10000L;
+            while (receivedEvents.size() < eventCount && System.currentTimeMillis() < endTime) {
+                Thread.sleep(10L);
+            }
+        }
+
+        public List<Integer> getBatchSizes() {
+            return batchSizes;
+        }
+
+        public List<String> getThreadNames() {
+            return threadNames;
+        }
+    }
+
     private static class TestTransactionContext implements TransactionContext {
 
         protected final Map<TransactionState, List<TransactionListener>> transactionStateListeners = new HashMap<>();
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Invocation;
+import org.junit.jupiter.api.Test;
+
+class CursorFetchSizePluginTest {
+
+    @Test
+    void testFetchSizeIsSet() throws Throwable {
+        AtomicInteger fetchSize = new AtomicInteger();
+        invokeQueryCursor(new CursorFetchSizePlugin(500), createStatement(fetchSize));
+        assertThat(fetchSize.get()).isEqualTo(500);
+    }
+
+    @Test
+    void testMappedFetchSizeIsKept() throws Throwable {
+        AtomicInteger fetchSize = new AtomicInteger(20);
+        invokeQueryCursor(new CursorFetchSizePlugin(500), createStatement(fetchSize));
+        assertThat(fetchSize.get()).isEqualTo(20);
+    }
+
+    protected void invokeQueryCursor(CursorFetchSizePlugin plugin, Statement statement) throws Throwable {
+        StatementHandler statementHandler = (StatementHandler) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { StatementHandler.class },
+                (proxy, method, args) -> null);
+        plugin.intercept(new Invocation(statementHandler, StatementHandler.class.getMethod("queryCursor", Statement.class), new Object[] { statement }));
+    }
+
+    protected Statement createStatement(AtomicInteger fetchSize) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Statement.class }, (proxy, method, args) -> {
+            if ("getFetchSize".equals(method.getName())) {
+                return fetchSize.get();
+            } else if ("setFetchSize".equals(method.getName())) {
+                fetchSize.set((Integer) args[0]);
+            }
+            return null;
+        });
+    }
+
+}
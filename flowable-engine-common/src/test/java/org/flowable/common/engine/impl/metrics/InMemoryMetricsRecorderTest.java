@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.Test;
+
+class InMemoryMetricsRecorderTest {
+
+    @Test
+    void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100), true);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(10), false);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getFailureCount()).isEqualTo(10);
+        assertThat(histogram.getMaxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // 100 us falls in the bucket up to 128 us, 10 ms is the max
+        assertThat(histogram.getValueAtPercentile(0.5)).isEqualTo(TimeUnit.MICROSECONDS.toNanos(128));
+        assertThat(histogram.getValueAtPercentile(0.9)).isEqualTo(TimeUnit.MICROSECONDS.toNanos(128));
+        assertThat(histogram.getValueAtPercentile(0.99)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(histogram.getMeanNanos()).isEqualTo((90 * 100_000.0 + 10 * 10_000_000.0) / 100);
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(0.5)).isZero();
+    }
+
+    @Test
+    void testEntityMetrics() {
+        InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+        recorder.recordEntityCacheAccess(String.class, true);
+        recorder.recordEntityCacheAccess(String.class, true);
+        recorder.recordEntityCacheAccess(String.class, false);
+        recorder.recordEntityOperations(String.class, 3, 2, 1);
+        recorder.recordEntityOperations(String.class, 1, 0, 0);
+
+        EntityMetrics metrics = recorder.getEntityMetrics().get(String.class.getName());
+        assertThat(metrics.getCacheHitCount()).isEqualTo(2);
+        assertThat(metrics.getCacheMissCount()).isEqualTo(1);
+        assertThat(metrics.getInsertCount()).isEqualTo(4);
+        assertThat(metrics.getUpdateCount()).isEqualTo(2);
+        assertThat(metrics.getDeleteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testJobMetrics() {
+        InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+        recorder.recordJobAcquisition("async", 5, 1000L);
+        recorder.recordJobAcquisition("async", 0, 1000L);
+        recorder.recordJobExecution("async-continuation", 1000L, true);
+        recorder.recordJobExecution("async-continuation", 1000L, false);
+
+        assertThat(recorder.getJobAcquisitions().get("async").getCount()).isEqualTo(2);
+        assertThat(recorder.getAcquiredJobsCount("async")).isEqualTo(5);
+        assertThat(recorder.getAcquiredJobsCount("timer")).isZero();
+        assertThat(recorder.getJobExecutions().get("async-continuation").getCount()).isEqualTo(2);
+        assertThat(recorder.getJobExecutions().get("async-continuation").getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCommandInterceptor() {
+        InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+        MetricsCommandInterceptor interceptor = new MetricsCommandInterceptor(recorder);
+        interceptor.setNext(new AbstractCommandInterceptor() {
+
+            @Override
+            public <T> T execute(CommandConfig config, Command<T> command) {
+                return command.execute(null);
+            }
+        });
+
+        TestCommand command = new TestCommand();
+        interceptor.execute(new CommandConfig(), command);
+        command.fail = true;
+        assertThatThrownBy(() -> interceptor.execute(new CommandConfig(), command))
+                .isInstanceOf(IllegalStateException.class);
+
+        LatencyHistogram histogram = recorder.getCommandExecutions().get(TestCommand.class.getName());
+        assertThat(histogram.getCount()).isEqualTo(2);
+        assertThat(histogram.getFailureCount()).isEqualTo(1);
+    }
+
+    static class TestCommand implements Command<Void> {
+
+        boolean fail;
+
+        @Override
+        public Void execute(CommandContext commandContext) {
+            if (fail) {
+                throw new IllegalStateException("failing command");
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.IndexedEntity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplIndexTest {
+
+    protected static final EntityIndex<TestEntity> PARENT_ID = new EntityIndex<>("parentId", TestEntity::getParentId);
+
+    @Test
+    void testIndexNotBuiltBelowThreshold() {
+        EntityCacheImpl cache = new EntityCacheImpl();
+        cache.setIndexingThreshold(10);
+        for (int i = 0; i < 5; i++) {
+            cache.put(createEntity(String.valueOf(i), "parent" + (i % 2)), true);
+        }
+
+        // All cached entities are candidates
+        assertThat(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent0")).hasSize(5);
+        assertThat(cache.findInCacheAsCachedObjects(String.class, PARENT_ID, "parent0")).isNull();
+    }
+
+    @Test
+    void testIndexLookup() {
+        EntityCacheImpl cache = new EntityCacheImpl();
+        cache.setIndexingThreshold(10);
+        for (int i = 0; i < 20; i++) {
+            cache.put(createEntity(String.valueOf(i), "parent" + (i % 4)), true);
+        }
+
+        assertThat(ids(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1"))).containsExactlyInAnyOrder("1", "5", "9", "13", "17");
+        assertThat(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "unknown")).isEmpty();
+
+        // Entities put after the index is built
+        cache.put(createEntity("20", "parent1"), false);
+        assertThat(ids(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1"))).containsExactlyInAnyOrder("1", "5", "9", "13", "17", "20");
+
+        // Removed entities
+        cache.cacheRemove(TestEntity.class, "5");
+        assertThat(ids(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1"))).containsExactlyInAnyOrder("1", "9", "13", "17", "20");
+    }
+
+    @Test
+    void testIndexKeyChange() {
+        EntityCacheImpl cache = new EntityCacheImpl();
+        cache.setIndexingThreshold(1);
+        TestEntity entity = createEntity("1", "parent1");
+        cache.put(entity, true);
+        cache.put(createEntity("2", "parent1"), true);
+        assertThat(ids(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1"))).containsExactlyInAnyOrder("1", "2");
+
+        entity.setParentId("parent2");
+        assertThat(ids(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1"))).containsExactly("2");
+        assertThat(ids(cache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent2"))).containsExactly("1");
+
+        // Once the cache is closed, the entity doesn't notify it anymore
+        cache.close();
+        assertThat(entity.getCachedEntity()).isNull();
+        entity.setParentId("parent3");
+    }
+
+    @Test
+    void testIndexKeyChangeInNestedCaches() {
+        EntityCacheImpl outerCache = new EntityCacheImpl();
+        outerCache.setIndexingThreshold(1);
+        EntityCacheImpl innerCache = new EntityCacheImpl();
+        innerCache.setIndexingThreshold(1);
+
+        TestEntity entity = createEntity("1", "parent1");
+        outerCache.put(entity, true);
+        assertThat(outerCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1")).hasSize(1);
+        innerCache.put(entity, true);
+        assertThat(innerCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent1")).hasSize(1);
+
+        entity.setParentId("parent2");
+        assertThat(innerCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent2")).hasSize(1);
+        assertThat(outerCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent2")).hasSize(1);
+
+        innerCache.close();
+        entity.setParentId("parent3");
+        assertThat(outerCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent3")).hasSize(1);
+        assertThat(outerCache.findInCacheAsCachedObjects(TestEntity.class, PARENT_ID, "parent2")).isEmpty();
+    }
+
+    protected Collection<String> ids(Collection<CachedEntity> cachedEntities) {
+        return cachedEntities.stream().map(cachedEntity -> cachedEntity.getEntity().getId()).collect(Collectors.toList());
+    }
+
+    protected TestEntity createEntity(String id, String parentId) {
+        TestEntity entity = new TestEntity();
+        entity.setId(id);
+        entity.setParentId(parentId);
+        return entity;
+    }
+
+    public static class TestEntity extends AbstractEntity implements IndexedEntity {
+
+        protected String parentId;
+        protected CachedEntity cachedEntity;
+
+        @Override
+        public Object getPersistentState() {
+            return Collections.singletonMap("parentId", parentId);
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        public String getParentId() {
+            return parentId;
+        }
+
+        public void setParentId(String parentId) {
+            this.parentId = parentId;
+            if (cachedEntity != null) {
+                cachedEntity.indexKeysChanged();
+            }
+        }
+
+        @Override
+        public CachedEntity getCachedEntity() {
+            return cachedEntity;
+        }
+
+        @Override
+        public void setCachedEntity(CachedEntity cachedEntity) {
+            this.cachedEntity = cachedEntity;
+        }
+    }
+
+}
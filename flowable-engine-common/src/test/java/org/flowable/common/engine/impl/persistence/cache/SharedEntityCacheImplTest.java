@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.junit.jupiter.api.Test;
+
+class SharedEntityCacheImplTest {
+
+    @Test
+    void testCopiesAreReturned() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1L, -1);
+        TestEntity entity = createEntity("1", 3);
+        cache.putFromLoad(entity, cache.getLoadStamp(TestEntity.class));
+
+        TestEntity cachedEntity = cache.get(TestEntity.class, "1");
+        assertThat(cachedEntity).isNotSameAs(entity);
+        assertThat(cachedEntity.getId()).isEqualTo("1");
+        assertThat(cachedEntity.getRevision()).isEqualTo(3);
+        assertThat(cachedEntity.getName()).isEqualTo("name1");
+        assertThat(cachedEntity.getTime()).isEqualTo(entity.getTime()).isNotSameAs(entity.getTime());
+        assertThat(cachedEntity.getValues()).isEmpty();
+
+        // Changing a copy doesn't change the cached entity
+        cachedEntity.setName("changed");
+        cachedEntity.getValues().add("value");
+        TestEntity otherCachedEntity = cache.get(TestEntity.class, "1");
+        assertThat(otherCachedEntity.getName()).isEqualTo("name1");
+        assertThat(otherCachedEntity.getValues()).isEmpty();
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.get(TestEntity.class, "2")).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidate() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1L, -1);
+        cache.putFromLoad(createEntity("1", 1), cache.getLoadStamp(TestEntity.class));
+        cache.putFromLoad(createEntity("2", 1), cache.getLoadStamp(TestEntity.class));
+
+        cache.invalidate(TestEntity.class, "1");
+        assertThat(cache.get(TestEntity.class, "1")).isNull();
+        assertThat(cache.get(TestEntity.class, "2")).isNotNull();
+
+        cache.invalidate(TestEntity.class);
+        assertThat(cache.get(TestEntity.class, "2")).isNull();
+
+        cache.putFromLoad(createEntity("3", 1), cache.getLoadStamp(TestEntity.class));
+        cache.invalidateAll();
+        assertThat(cache.size(TestEntity.class)).isZero();
+    }
+
+    @Test
+    void testInvalidationDuringLoad() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1L, -1);
+        long loadStamp = cache.getLoadStamp(TestEntity.class);
+        cache.invalidate(TestEntity.class, "1"); // e.g. a concurrent transaction committed a change while loading
+        cache.putFromLoad(createEntity("1", 1), loadStamp);
+
+        assertThat(cache.get(TestEntity.class, "1")).isNull();
+    }
+
+    @Test
+    void testOlderRevisionDoesNotReplaceNewerRevision() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1L, -1);
+        cache.putFromLoad(createEntity("1", 2), cache.getLoadStamp(TestEntity.class));
+        cache.putFromLoad(createEntity("1", 1), cache.getLoadStamp(TestEntity.class));
+
+        assertThat(cache.get(TestEntity.class, "1").getRevision()).isEqualTo(2);
+    }
+
+    @Test
+    void testTimeToLive() throws Exception {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(50L, -1);
+        cache.putFromLoad(createEntity("1", 1), cache.getLoadStamp(TestEntity.class));
+        assertThat(cache.get(TestEntity.class, "1")).isNotNull();
+
+        Thread.sleep(100L);
+        assertThat(cache.get(TestEntity.class, "1")).isNull();
+    }
+
+    @Test
+    void testMaxEntriesPerClass() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1L, 2);
+        for (int i = 0; i < 5; i++) {
+            cache.putFromLoad(createEntity(String.valueOf(i), 1), cache.getLoadStamp(TestEntity.class));
+        }
+
+        assertThat(cache.size(TestEntity.class)).isEqualTo(2);
+    }
+
+    protected TestEntity createEntity(String id, int revision) {
+        TestEntity entity = new TestEntity();
+        entity.setId(id);
+        entity.setRevision(revision);
+        entity.setName("name" + id);
+        entity.setTime(new Date());
+        return entity;
+    }
+
+    public static class TestEntity extends AbstractEntity {
+
+        protected String name;
+        protected Date time;
+        protected List<String> values = new ArrayList<>();
+
+        @Override
+        public Object getPersistentState() {
+            Map<String, Object> persistentState = new HashMap<>();
+            persistentState.put("name", name);
+            persistentState.put("time", time);
+            return persistentState;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return "";
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Date getTime() {
+            return time;
+        }
+
+        public void setTime(Date time) {
+            this.time = time;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+    }
+
+}
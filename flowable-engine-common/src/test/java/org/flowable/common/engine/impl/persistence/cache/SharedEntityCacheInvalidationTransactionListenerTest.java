@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheImplTest.TestEntity;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.junit.jupiter.api.Test;
+
+class SharedEntityCacheInvalidationTransactionListenerTest {
+
+    @Test
+    void testInvalidationsArePublishedAfterCommit() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(-1L, -1);
+        Map<Class<? extends Entity>, Set<String>> publishedIds = new HashMap<>();
+        Set<Class<? extends Entity>> publishedClasses = new HashSet<>();
+        SharedEntityCacheInvalidationTransactionListener listener = new SharedEntityCacheInvalidationTransactionListener(cache,
+                (invalidatedIds, invalidatedClasses) -> {
+                    publishedIds.putAll(invalidatedIds);
+                    publishedClasses.addAll(invalidatedClasses);
+                });
+
+        listener.invalidate(TestEntity.class, "1");
+        listener.invalidate(TestEntity.class, "2");
+        assertThat(publishedIds).isEmpty();
+
+        listener.execute(null);
+        assertThat(publishedIds).containsOnlyKeys(TestEntity.class);
+        assertThat(publishedIds.get(TestEntity.class)).containsExactlyInAnyOrder("1", "2");
+        assertThat(publishedClasses).isEmpty();
+    }
+
+}
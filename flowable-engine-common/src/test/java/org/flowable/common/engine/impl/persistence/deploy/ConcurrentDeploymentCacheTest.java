@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void testHitsAndMisses() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        cache.add("a", "valueA");
+
+        assertThat(cache.get("a")).isEqualTo("valueA");
+        assertThat(cache.get("a")).isEqualTo("valueA");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        cache.remove("a");
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testEntryLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        for (int i = 0; i < 10; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.getEvictionCount()).isEqualTo(7);
+        assertThat(cache.contains("id9")).isTrue();
+    }
+
+    @Test
+    void testWeightLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(-1, 10L, String::length);
+        cache.add("a", "1234");
+        cache.add("b", "1234");
+        assertThat(cache.getWeight()).isEqualTo(8);
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.add("c", "1234");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getWeight()).isEqualTo(8);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.contains("c")).isTrue();
+
+        // Replacing an entry only counts the difference in weight
+        cache.add("c", "12");
+        assertThat(cache.getWeight()).isEqualTo(6);
+
+        cache.clear();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<Integer> cache = new ConcurrentDeploymentCache<>(50, 500L, value -> 5L);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String id = "id" + ((thread * 31 + i) % 200);
+                        if (cache.get(id) == null) {
+                            cache.add(id, i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+        assertThat(cache.getWeight()).isEqualTo(cache.size() * 5L);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(8 * 2000);
+    }
+
+}
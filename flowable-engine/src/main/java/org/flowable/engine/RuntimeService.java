@@ -40,6 +40,7 @@ import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.runtime.SignalBroadcastProgress;
 import org.flowable.engine.task.Event;
 import org.flowable.entitylink.api.EntityLink;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
@@ -1155,6 +1156,32 @@ public interface RuntimeService {
      */
     void signalEventReceivedWithTenantId(String signalName, Map<String, Object> processVariables, String tenantId);
 
+    /**
+     * Notifies the process engine that a signal event of name 'signalName' has been received, like {@link #signalEventReceived(String, Map)},
+     * but for a signal that many executions are waiting on. The signal is only recorded in this transaction. The waiting executions
+     * are notified <strong>asynchronously</strong>, in batches of {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#getSignalBroadcastBatchSize()}
+     * executions, each batch in its own transaction.
+     *
+     * @param signalName
+     *            the name of the signal event
+     * @param processVariables
+     *            a map of variables added to the execution(s), stored with the job like process variables until they are delivered
+     * @return the id of the broadcast, to follow its progress with {@link #getSignalBroadcastProgress(String)}
+     */
+    String signalEventReceivedInBatches(String signalName, Map<String, Object> processVariables);
+
+    /**
+     * Similar to {@link #signalEventReceivedInBatches(String, Map)}, but within the context of one tenant.
+     */
+    String signalEventReceivedInBatchesWithTenantId(String signalName, Map<String, Object> processVariables, String tenantId);
+
+    /**
+     * Returns the progress of a signal broadcast started with {@link #signalEventReceivedInBatches(String, Map)}.
+     * The progress is determined from the remaining jobs of the broadcast: as completed broadcasts leave no trace,
+     * an unknown broadcast id is reported as a completed broadcast without pending or failed batches.
+     */
+    SignalBroadcastProgress getSignalBroadcastProgress(String broadcastId);
+
     /**
      * Notifies the process engine that a signal event of name 'signalName' has been received. This method delivers the signal to a single execution, being the execution referenced by 'executionId'.
      * The waiting execution is notified synchronously.
@@ -16,6 +16,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
+import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.engine.DynamicBpmnService;
@@ -30,6 +31,8 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.HandleHistoryCleanupTimerJobCmd;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,6 +81,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), processEngineConfiguration.getSchemaManagementCmd());
         }
 
+        if (processEngineConfiguration.isEnableHistoryCleaning()) {
+            commandExecutor.execute(new HandleHistoryCleanupTimerJobCmd());
+        }
+
         if (name == null) {
             LOGGER.info("default ProcessEngine created");
         } else {
@@ -103,12 +110,26 @@ public class ProcessEngineImpl implements ProcessEngine {
     @Override
     public void close() {
         ProcessEngines.unregister(this);
+        if (processEngineConfiguration.getJobServiceConfiguration() != null
+                && processEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPayloadMerger() != null) {
+            processEngineConfiguration.getJobServiceConfiguration().getAsyncHistoryPayloadMerger().shutdown();
+        }
         if (asyncExecutor != null && asyncExecutor.isActive()) {
             asyncExecutor.shutdown();
         }
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getIdGenerator() instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator()).shutdown();
+        }
+        processEngineConfiguration.shutdownBpmnParseExecutorService();
+        if (processEngineConfiguration.getProcessDefinitionCacheWarmer() != null) {
+            processEngineConfiguration.getProcessDefinitionCacheWarmer().shutdown();
+        }
+        if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+            processEngineConfiguration.getAsyncEventLogWriter().shutdown();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
@@ -123,6 +144,10 @@ public class ProcessEngineImpl implements ProcessEngine {
 
 
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED));
+
+        if (processEngineConfiguration.getEventDispatcher() instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher()).getEventSupport().shutdown();
+        }
     }
 
     // getters and setters
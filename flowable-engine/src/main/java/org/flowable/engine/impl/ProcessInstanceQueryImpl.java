@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.db.SuspensionState;
@@ -767,6 +768,20 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    @Override
+    protected Cursor<ProcessInstance> executeCursor(CommandContext commandContext) {
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Including process variables is not supported when streaming process instances");
+        }
+
+        ensureVariablesInitialized();
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.getProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
+        }
+        return CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstanceByQueryCriteriaAsCursor(this);
+    }
+
     @Override
     protected void ensureVariablesInitialized() {
         super.ensureVariablesInitialized();
@@ -33,6 +33,7 @@ import org.flowable.engine.impl.cmd.ActivateProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BroadcastSignalEventCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
@@ -57,6 +58,7 @@ import org.flowable.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionsVariablesCmd;
 import org.flowable.engine.impl.cmd.GetIdentityLinksForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.GetProcessInstanceEventsCmd;
+import org.flowable.engine.impl.cmd.GetSignalBroadcastProgressCmd;
 import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
@@ -89,6 +91,7 @@ import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.runtime.SignalBroadcastProgress;
 import org.flowable.engine.task.Event;
 import org.flowable.entitylink.api.EntityLink;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
@@ -620,6 +623,21 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, null, processVariables, tenantId));
     }
 
+    @Override
+    public String signalEventReceivedInBatches(String signalName, Map<String, Object> processVariables) {
+        return commandExecutor.execute(new BroadcastSignalEventCmd(signalName, processVariables, null));
+    }
+
+    @Override
+    public String signalEventReceivedInBatchesWithTenantId(String signalName, Map<String, Object> processVariables, String tenantId) {
+        return commandExecutor.execute(new BroadcastSignalEventCmd(signalName, processVariables, tenantId));
+    }
+
+    @Override
+    public SignalBroadcastProgress getSignalBroadcastProgress(String broadcastId) {
+        return commandExecutor.execute(new GetSignalBroadcastProgressCmd(broadcastId));
+    }
+
     @Override
     public void signalEventReceived(String signalName, String executionId) {
         commandExecutor.execute(new SignalEventReceivedCmd(signalName, executionId, null, null));
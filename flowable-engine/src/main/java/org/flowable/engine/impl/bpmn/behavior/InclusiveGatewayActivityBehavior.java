@@ -12,8 +12,10 @@
  */
 package org.flowable.engine.impl.bpmn.behavior;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -95,12 +97,18 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
             // Kill all executions here (except the incoming)
             Collection<ExecutionEntity> executionsInGateway = executionEntityManager
                 .findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+            List<ExecutionEntity> executionsToDelete = new ArrayList<>(executionsInGateway.size());
             for (ExecutionEntity executionEntityInGateway : executionsInGateway) {
                 if (!executionEntityInGateway.getId().equals(execution.getId()) && executionEntityInGateway.getParentId().equals(execution.getParentId())) {
-                    CommandContextUtil.getActivityInstanceEntityManager(commandContext).recordActivityEnd(executionEntityInGateway, null);
-                    executionEntityManager.deleteExecutionAndRelatedData(executionEntityInGateway, null, false);
+                    executionsToDelete.add(executionEntityInGateway);
                 }
             }
+            executionEntityManager.prefetchVariableInstances(executionsToDelete);
+
+            for (ExecutionEntity executionEntityInGateway : executionsToDelete) {
+                CommandContextUtil.getActivityInstanceEntityManager(commandContext).recordActivityEnd(executionEntityInGateway, null);
+                executionEntityManager.deleteExecutionAndRelatedData(executionEntityInGateway, null, false);
+            }
 
             // Leave
             CommandContextUtil.getAgenda(commandContext).planTakeOutgoingSequenceFlowsOperation(execution, true);
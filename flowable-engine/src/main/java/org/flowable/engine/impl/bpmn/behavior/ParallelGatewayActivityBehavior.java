@@ -99,6 +99,14 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
             if (parallelGateway.getIncomingFlows().size() > 1) {
 
                 // All (now inactive) children are deleted.
+                List<ExecutionEntity> executionsToDelete = new ArrayList<>(joinedExecutions.size());
+                for (ExecutionEntity joinedExecution : joinedExecutions) {
+                    if (!joinedExecution.getId().equals(execution.getId())) {
+                        executionsToDelete.add(joinedExecution);
+                    }
+                }
+                executionEntityManager.prefetchVariableInstances(executionsToDelete);
+
                 for (ExecutionEntity joinedExecution : joinedExecutions) {
 
                     // The current execution will be reused and not deleted
@@ -84,6 +84,7 @@ public class BpmnDeployer implements EngineDeployer {
         bpmnDeploymentHelper.setResourceNamesOnProcessDefinitions(parsedDeployment);
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
+        createAndPersistBpmnModelSnapshotsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
 
         if (deployment.isNew()) {
@@ -140,6 +141,35 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Persists the snapshots of the parsed BPMN models (if they were created, which is only the case for new deployments)
+     * as generated resources of the deployment, so the process definitions can be put in the cache again later without parsing the XML.
+     */
+    protected void createAndPersistBpmnModelSnapshotsIfNeeded(ParsedDeployment parsedDeployment) {
+        DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!deploymentEntity.isNew()) {
+            return;
+        }
+
+        ResourceEntityManager resourceEntityManager = CommandContextUtil.getProcessEngineConfiguration().getResourceEntityManager();
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            byte[] bpmnModelSnapshot = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition).getBpmnModelSnapshot();
+            if (bpmnModelSnapshot != null) {
+                String snapshotResourceName = ResourceNameUtil.getBpmnModelSnapshotResourceName(
+                        parsedDeployment.getResourceForProcessDefinition(processDefinition).getName());
+                if (!deploymentEntity.getResources().containsKey(snapshotResourceName)) {
+                    ResourceEntity resource = resourceEntityManager.create();
+                    resource.setName(snapshotResourceName);
+                    resource.setBytes(bpmnModelSnapshot);
+                    resource.setDeploymentId(deploymentEntity.getId());
+                    resource.setGenerated(true);
+                    resourceEntityManager.insert(resource, false);
+                    deploymentEntity.addResource(resource);
+                }
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
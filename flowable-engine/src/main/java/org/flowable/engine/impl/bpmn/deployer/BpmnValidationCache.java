@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.deployer;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * LRU cache of the BPMN resources that were successfully validated before, keyed by a SHA-256 hash of the resource content.
+ * <p>
+ * Deploying the exact same resource content again (e.g. the same models deployed on every startup) can then skip
+ * the XSD and process validation, which are an important part of the time needed to parse a resource.
+ * Both kinds of validation are tracked separately, as they can be switched off independently for a deployment.
+ */
+public class BpmnValidationCache {
+
+    protected static final int SCHEMA_VALIDATED = 1;
+    protected static final int PROCESS_VALIDATED = 2;
+
+    protected Map<String, Integer> cache;
+
+    public BpmnValidationCache(final int limit) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, Integer>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    public String getContentHash(byte[] bytes) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("Could not hash resource content", e);
+        }
+    }
+
+    public boolean isSchemaValidated(String contentHash) {
+        return isValidated(contentHash, SCHEMA_VALIDATED);
+    }
+
+    public boolean isProcessValidated(String contentHash) {
+        return isValidated(contentHash, PROCESS_VALIDATED);
+    }
+
+    public void addValidated(String contentHash, boolean schemaValidated, boolean processValidated) {
+        int validated = (schemaValidated ? SCHEMA_VALIDATED : 0) | (processValidated ? PROCESS_VALIDATED : 0);
+        if (validated != 0) {
+            cache.merge(contentHash, validated, (existing, added) -> existing | added);
+        }
+    }
+
+    protected boolean isValidated(String contentHash, int validation) {
+        Integer validated = cache.get(contentHash);
+        return validated != null && (validated & validation) != 0;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+}
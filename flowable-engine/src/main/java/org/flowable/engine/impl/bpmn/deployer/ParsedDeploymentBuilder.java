@@ -14,17 +14,24 @@ package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +42,10 @@ public class ParsedDeploymentBuilder {
     protected EngineDeployment deployment;
     protected BpmnParser bpmnParser;
     protected Map<String, Object> deploymentSettings;
+    protected ExecutorService parseExecutorService;
+    protected BpmnValidationCache validationCache;
+    protected boolean bpmnModelSnapshotEnabled;
+    protected Map<String, String> resourceContentHashes = new HashMap<>();
 
     public ParsedDeploymentBuilder(EngineDeployment deployment,
             BpmnParser bpmnParser, Map<String, Object> deploymentSettings) {
@@ -43,21 +54,39 @@ public class ParsedDeploymentBuilder {
         this.deploymentSettings = deploymentSettings;
     }
 
+    public ParsedDeploymentBuilder(EngineDeployment deployment, BpmnParser bpmnParser, Map<String, Object> deploymentSettings,
+            ExecutorService parseExecutorService, BpmnValidationCache validationCache, boolean bpmnModelSnapshotEnabled) {
+        this(deployment, bpmnParser, deploymentSettings);
+        this.parseExecutorService = parseExecutorService;
+        this.validationCache = validationCache;
+        this.bpmnModelSnapshotEnabled = bpmnModelSnapshotEnabled;
+    }
+
     public ParsedDeployment build() {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<>();
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        Map<EngineResource, BpmnParse> resourceToBpmnParseMap = new LinkedHashMap<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                resourceToBpmnParseMap.put(resource, createBpmnParseFromResource(resource));
+            }
+        }
+
+        if (parseExecutorService != null && resourceToBpmnParseMap.size() > 1) {
+            parseBpmnModelsInParallel(resourceToBpmnParseMap);
+        }
+
+        for (Map.Entry<EngineResource, BpmnParse> entry : resourceToBpmnParseMap.entrySet()) {
+            EngineResource resource = entry.getKey();
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            BpmnParse parse = executeBpmnParse(resource, entry.getValue());
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -93,12 +122,83 @@ public class ParsedDeploymentBuilder {
             bpmnParse.setValidateProcess(false);
         }
 
+        if (bpmnModelSnapshotEnabled) {
+            if (deployment.isNew()) {
+                bpmnParse.setCreateBpmnModelSnapshot(true);
+
+            } else {
+                // Only snapshots created by the engine itself are used, not resources that happen to have the same name
+                EngineResource snapshotResource = deployment.getResources().get(ResourceNameUtil.getBpmnModelSnapshotResourceName(resourceName));
+                if (snapshotResource != null && snapshotResource.isGenerated()) {
+                    bpmnParse.sourceBpmnModelSnapshot(snapshotResource.getBytes());
+                }
+            }
+        }
+
+        if (validationCache != null && (bpmnParse.isValidateSchema() || bpmnParse.isValidateProcess())) {
+            String contentHash = validationCache.getContentHash(resource.getBytes());
+            resourceContentHashes.put(resource.getName(), contentHash);
+            if (bpmnParse.isValidateSchema() && validationCache.isSchemaValidated(contentHash)) {
+                bpmnParse.setValidateSchema(false);
+            }
+            if (bpmnParse.isValidateProcess() && validationCache.isProcessValidated(contentHash)) {
+                bpmnParse.setValidateProcess(false);
+            }
+        }
+
+        return bpmnParse;
+    }
+
+    /**
+     * Does the XML conversion and validation of the resources on the parse executor service, as that is
+     * the expensive part of parsing and doesn't need the command context. The parse handlers are applied afterwards
+     * on the current thread, in the order of the resources.
+     */
+    protected void parseBpmnModelsInParallel(Map<EngineResource, BpmnParse> resourceToBpmnParseMap) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        Map<EngineResource, Future<BpmnParse>> futures = new LinkedHashMap<>();
+        for (Map.Entry<EngineResource, BpmnParse> entry : resourceToBpmnParseMap.entrySet()) {
+            BpmnParse bpmnParse = entry.getValue();
+            futures.put(entry.getKey(), parseExecutorService.submit(() -> bpmnParse.parseBpmnModel(processEngineConfiguration)));
+        }
+
+        try {
+            for (Map.Entry<EngineResource, Future<BpmnParse>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+
+                } catch (ExecutionException e) {
+                    LOGGER.error("Could not parse resource {}", entry.getKey().getName(), e.getCause());
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new FlowableException("Could not parse resource " + entry.getKey().getName(), e.getCause());
+
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new FlowableException("Interrupted while parsing resource " + entry.getKey().getName(), e);
+                }
+            }
+
+        } finally {
+            for (Future<BpmnParse> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    protected BpmnParse executeBpmnParse(EngineResource resource, BpmnParse bpmnParse) {
         try {
             bpmnParse.execute();
         } catch (Exception e) {
             LOGGER.error("Could not parse resource {}", resource.getName(), e);
             throw e;
         }
+
+        String contentHash = resourceContentHashes.get(resource.getName());
+        if (contentHash != null) {
+            validationCache.addValidated(contentHash, bpmnParse.isValidateSchema(), bpmnParse.isValidateProcess());
+        }
         return bpmnParse;
     }
 
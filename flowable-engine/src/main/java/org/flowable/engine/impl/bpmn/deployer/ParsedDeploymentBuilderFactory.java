@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
@@ -20,6 +21,9 @@ import org.flowable.engine.impl.bpmn.parser.BpmnParser;
 public class ParsedDeploymentBuilderFactory {
 
     protected BpmnParser bpmnParser;
+    protected ExecutorService parseExecutorService;
+    protected BpmnValidationCache validationCache;
+    protected boolean bpmnModelSnapshotEnabled;
 
     public BpmnParser getBpmnParser() {
         return bpmnParser;
@@ -29,13 +33,38 @@ public class ParsedDeploymentBuilderFactory {
         this.bpmnParser = bpmnParser;
     }
 
+    public ExecutorService getParseExecutorService() {
+        return parseExecutorService;
+    }
+
+    public void setParseExecutorService(ExecutorService parseExecutorService) {
+        this.parseExecutorService = parseExecutorService;
+    }
+
+    public BpmnValidationCache getValidationCache() {
+        return validationCache;
+    }
+
+    public void setValidationCache(BpmnValidationCache validationCache) {
+        this.validationCache = validationCache;
+    }
+
+    public boolean isBpmnModelSnapshotEnabled() {
+        return bpmnModelSnapshotEnabled;
+    }
+
+    public void setBpmnModelSnapshotEnabled(boolean bpmnModelSnapshotEnabled) {
+        this.bpmnModelSnapshotEnabled = bpmnModelSnapshotEnabled;
+    }
+
     public ParsedDeploymentBuilder getBuilderForDeployment(EngineDeployment deployment) {
         return getBuilderForDeploymentAndSettings(deployment, null);
     }
 
     public ParsedDeploymentBuilder getBuilderForDeploymentAndSettings(EngineDeployment deployment,
             Map<String, Object> deploymentSettings) {
-        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings);
+        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings, parseExecutorService, validationCache,
+                bpmnModelSnapshotEnabled);
     }
 
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ public class ResourceNameUtil {
 
     public static final String[] BPMN_RESOURCE_SUFFIXES = new String[] { "bpmn20.xml", "bpmn" };
     public static final String[] DIAGRAM_SUFFIXES = new String[] { "png", "jpg", "gif", "svg" };
+    public static final String BPMN_MODEL_SNAPSHOT_SUFFIX = ".snapshot";
 
     public static String stripBpmnFileSuffix(String bpmnFileResource) {
         for (String suffix : BPMN_RESOURCE_SUFFIXES) {
@@ -35,6 +36,10 @@ public class ResourceNameUtil {
         return bpmnFileResource;
     }
 
+    public static String getBpmnModelSnapshotResourceName(String bpmnFileResource) {
+        return bpmnFileResource + BPMN_MODEL_SNAPSHOT_SUFFIX;
+    }
+
     public static String getProcessDiagramResourceName(String bpmnFileResource, String processKey, String diagramSuffix) {
         String bpmnFileResourceBase = ResourceNameUtil.stripBpmnFileSuffix(bpmnFileResource);
         return bpmnFileResourceBase + processKey + "." + diagramSuffix;
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.bpmn.constants.BpmnXMLConstants;
+import org.flowable.bpmn.converter.BpmnModelSnapshotConverter;
 import org.flowable.bpmn.converter.BpmnXMLConverter;
 import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.bpmn.model.BoundaryEvent;
@@ -42,6 +43,7 @@ import org.flowable.common.engine.impl.util.io.InputStreamSource;
 import org.flowable.common.engine.impl.util.io.StreamSource;
 import org.flowable.common.engine.impl.util.io.StringStreamSource;
 import org.flowable.common.engine.impl.util.io.UrlStreamSource;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -84,6 +86,14 @@ public class BpmnParse implements BpmnXMLConstants {
     protected String sourceSystemId;
 
     protected BpmnModel bpmnModel;
+    protected boolean bpmnModelParsed;
+
+    /** A snapshot of the model (see {@link BpmnModelSnapshotConverter}) to use instead of the XML, if it is compatible. */
+    protected byte[] sourceBpmnModelSnapshot;
+
+    /** Whether a snapshot of the model is created after parsing the XML, before any logic is attached to the model. */
+    protected boolean createBpmnModelSnapshot;
+    protected byte[] bpmnModelSnapshot;
 
     protected String targetNamespace;
 
@@ -134,56 +144,8 @@ public class BpmnParse implements BpmnXMLConstants {
     public BpmnParse execute() {
         try {
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            BpmnXMLConverter converter = new BpmnXMLConverter();
-
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            if (processEngineConfiguration != null) {
-                enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
-                encoding = processEngineConfiguration.getXmlEncoding();
-            }
-
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
-            } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
-            }
-
-            // XSD validation goes first, then process/semantic validation
-            if (validateProcess) {
-                ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
-                if (processValidator == null) {
-                    LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
-                } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
-                    if (validationErrors != null && !validationErrors.isEmpty()) {
-
-                        StringBuilder warningBuilder = new StringBuilder();
-                        StringBuilder errorBuilder = new StringBuilder();
-
-                        for (ValidationError error : validationErrors) {
-                            if (error.isWarning()) {
-                                warningBuilder.append(error);
-                                warningBuilder.append("\n");
-                            } else {
-                                errorBuilder.append(error);
-                                errorBuilder.append("\n");
-                            }
-                        }
-
-                        // Throw exception if there is any error
-                        if (errorBuilder.length() > 0) {
-                            throw new FlowableException("Errors while parsing:\n" + errorBuilder);
-                        }
-
-                        // Write out warnings (if any)
-                        if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
-                        }
-
-                    }
-                }
+            if (!bpmnModelParsed) {
+                doParseBpmnModel(CommandContextUtil.getProcessEngineConfiguration());
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
@@ -198,15 +160,115 @@ public class BpmnParse implements BpmnXMLConstants {
             processDI();
 
         } catch (Exception e) {
-            if (e instanceof FlowableException) {
-                throw (FlowableException) e;
-            } else if (e instanceof XMLException) {
-                throw (XMLException) e;
+            throw wrapParseException(e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Converts the XML to a {@link BpmnModel} and validates it, without attaching any logic to it yet.
+     * <p>
+     * This doesn't need a command context, so it can be done upfront on another thread (e.g. to parse the resources
+     * of a deployment in parallel). A subsequent {@link #execute()} then continues with the parsed model.
+     */
+    public BpmnParse parseBpmnModel(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            doParseBpmnModel(processEngineConfiguration);
+        } catch (Exception e) {
+            throw wrapParseException(e);
+        }
+        return this;
+    }
+
+    protected void doParseBpmnModel(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (sourceBpmnModelSnapshot != null) {
+            try {
+                bpmnModel = new BpmnModelSnapshotConverter().convertToBpmnModel(sourceBpmnModelSnapshot, ProcessEngine.VERSION);
+            } catch (Exception e) {
+                LOGGER.warn("Could not read the BPMN model snapshot of {}, parsing the XML instead", name, e);
+            }
+
+            if (bpmnModel != null) {
+                bpmnModelParsed = true;
+                return;
+            }
+        }
+
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+
+        boolean enableSafeBpmnXml = false;
+        String encoding = null;
+        if (processEngineConfiguration != null) {
+            enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
+            encoding = processEngineConfiguration.getXmlEncoding();
+        }
+
+        if (encoding != null) {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+        } else {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+        }
+
+        // XSD validation goes first, then process/semantic validation
+        if (validateProcess) {
+            ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
+            if (processValidator == null) {
+                LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
             } else {
-                throw new FlowableException("Error parsing XML", e);
+                List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+                if (validationErrors != null && !validationErrors.isEmpty()) {
+
+                    StringBuilder warningBuilder = new StringBuilder();
+                    StringBuilder errorBuilder = new StringBuilder();
+
+                    for (ValidationError error : validationErrors) {
+                        if (error.isWarning()) {
+                            warningBuilder.append(error);
+                            warningBuilder.append("\n");
+                        } else {
+                            errorBuilder.append(error);
+                            errorBuilder.append("\n");
+                        }
+                    }
+
+                    // Throw exception if there is any error
+                    if (errorBuilder.length() > 0) {
+                        throw new FlowableException("Errors while parsing:\n" + errorBuilder);
+                    }
+
+                    // Write out warnings (if any)
+                    if (warningBuilder.length() > 0) {
+                        LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
+                    }
+
+                }
+            }
+        }
+
+        if (createBpmnModelSnapshot) {
+            try {
+                bpmnModelSnapshot = new BpmnModelSnapshotConverter().convertToSnapshot(bpmnModel, ProcessEngine.VERSION);
+            } catch (Exception e) {
+                LOGGER.warn("Could not create a BPMN model snapshot of {}", name, e);
             }
         }
 
+        bpmnModelParsed = true;
+    }
+
+    protected RuntimeException wrapParseException(Exception e) {
+        if (e instanceof FlowableException) {
+            return (FlowableException) e;
+        } else if (e instanceof XMLException) {
+            return (XMLException) e;
+        } else {
+            return new FlowableException("Error parsing XML", e);
+        }
+    }
+
+    public BpmnParse sourceBpmnModelSnapshot(byte[] bpmnModelSnapshot) {
+        this.sourceBpmnModelSnapshot = bpmnModelSnapshot;
         return this;
     }
 
@@ -434,6 +496,21 @@ public class BpmnParse implements BpmnXMLConstants {
         this.validateProcess = validateProcess;
     }
 
+    public boolean isCreateBpmnModelSnapshot() {
+        return createBpmnModelSnapshot;
+    }
+
+    public void setCreateBpmnModelSnapshot(boolean createBpmnModelSnapshot) {
+        this.createBpmnModelSnapshot = createBpmnModelSnapshot;
+    }
+
+    /**
+     * @return the snapshot of the parsed model, or null when no snapshot was requested or it couldn't be created.
+     */
+    public byte[] getBpmnModelSnapshot() {
+        return bpmnModelSnapshot;
+    }
+
     public List<ProcessDefinitionEntity> getProcessDefinitions() {
         return processDefinitions;
     }
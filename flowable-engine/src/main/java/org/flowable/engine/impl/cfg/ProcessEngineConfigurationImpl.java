@@ -15,6 +15,9 @@ package org.flowable.engine.impl.cfg;
 
 import java.io.InputStream;
 import java.net.URL;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,9 +30,14 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.namespace.QName;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -84,10 +92,14 @@ import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
 import org.flowable.common.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.common.engine.impl.scripting.ScriptingEngines;
@@ -130,6 +142,7 @@ import org.flowable.engine.impl.app.AppDeployer;
 import org.flowable.engine.impl.app.AppResourceConverterImpl;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeploymentHelper;
+import org.flowable.engine.impl.bpmn.deployer.BpmnValidationCache;
 import org.flowable.engine.impl.bpmn.deployer.CachingAndArtifactsManager;
 import org.flowable.engine.impl.bpmn.deployer.EventSubscriptionManager;
 import org.flowable.engine.impl.bpmn.deployer.ParsedDeploymentBuilderFactory;
@@ -195,6 +208,7 @@ import org.flowable.engine.impl.event.CompensationEventHandler;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.event.MessageEventHandler;
 import org.flowable.engine.impl.event.SignalEventHandler;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.form.BooleanFormType;
 import org.flowable.engine.impl.form.DateFormType;
@@ -246,10 +260,12 @@ import org.flowable.engine.impl.interceptor.DefaultIdentityLinkInterceptor;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -257,6 +273,8 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheWarmer;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManagerImpl;
@@ -266,6 +284,7 @@ import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
@@ -281,6 +300,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ModelEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
@@ -351,6 +371,7 @@ import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobProcessor;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobWakeUpSource;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
@@ -358,14 +379,18 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.LocalAsyncJobWakeUpSource;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobBinaryHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadMerger;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
 import org.flowable.task.api.TaskQueryInterceptor;
 import org.flowable.task.api.history.HistoricTaskQueryInterceptor;
 import org.flowable.task.service.InternalTaskAssignmentManager;
@@ -485,6 +510,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * Encodes the history data of a transaction in a compact binary format (see {@link AsyncHistoryBinaryCodec}) instead of json,
+     * as one history job for all the data of the transaction. Compressed when {@link #isAsyncHistoryJsonGzipCompressionEnabled} is set.
+     */
+    protected boolean isAsyncHistoryBinaryEncodingEnabled;
+
+    /**
+     * Merges the history data of many transactions into one binary encoded history job (see {@link AsyncHistoryPayloadMerger}).
+     * The history data of committed transactions is kept in memory until it is written,
+     * at most {@link #asyncHistoryPayloadMergingMaxWaitTime} milliseconds or until {@link #asyncHistoryPayloadMergingMaxSize} history json nodes are collected.
+     * That data is lost when the node stops without closing the process engine.
+     */
+    protected boolean isAsyncHistoryPayloadMergingEnabled;
+    protected int asyncHistoryPayloadMergingMaxSize = 500;
+    protected long asyncHistoryPayloadMergingMaxWaitTime = 1000L;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -504,12 +545,74 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected boolean enableEntityLinks;
 
+    /**
+     * Enables the repeating timer job that deletes the historic process instances, and all their related historic data,
+     * that ended more than {@link #cleanInstancesEndedAfterNumberOfDays} days ago.
+     */
+    protected boolean enableHistoryCleaning;
+
+    /**
+     * The cron expression of the history cleanup timer job. Default every night at 1 AM.
+     */
+    protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
+
+    /**
+     * The number of days after which an ended historic process instance is deleted by the history cleanup.
+     */
+    protected int cleanInstancesEndedAfterNumberOfDays = 365;
+
+    /**
+     * The number of historic process instances that are deleted in one transaction by the history cleanup.
+     */
+    protected int historyCleaningBatchSize = 100;
+
+    /**
+     * The maximum time (in milliseconds) one run of the history cleanup job keeps deleting batches. What is left is deleted by the next run.
+     * Should be lower than the async job lock time, so the job isn't reset by the async executor while it is still running.
+     */
+    protected long historyCleaningTimeBudget = 4 * 60 * 1000;
+
+    /**
+     * The number of signal event subscriptions that are signalled in one async job by
+     * {@link org.flowable.engine.RuntimeService#signalEventReceivedInBatches(String, Map)}. By default 100.
+     */
+    protected int signalBroadcastBatchSize = 100;
+
     // DEPLOYERS //////////////////////////////////////////////////////////////////
 
     protected BpmnDeployer bpmnDeployer;
     protected AppDeployer appDeployer;
     protected BpmnParser bpmnParser;
     protected ParsedDeploymentBuilderFactory parsedDeploymentBuilderFactory;
+
+    /**
+     * The number of threads used to convert and validate the BPMN resources of a deployment in parallel.
+     * A value of 1 or lower parses the resources one after the other on the deploying thread.
+     */
+    protected int bpmnParseThreadPoolSize = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The executor service used to parse the BPMN resources of a deployment in parallel.
+     * If not set, one is created based on {@link #bpmnParseThreadPoolSize} and shut down when the engine is closed.
+     */
+    protected ExecutorService bpmnParseExecutorService;
+    protected boolean shutdownBpmnParseExecutorService;
+
+    /**
+     * Whether the content hashes of successfully validated BPMN resources are remembered, so deploying the same content again
+     * skips the XSD and process validation.
+     */
+    protected boolean isBpmnValidationCacheEnabled = true;
+    protected int bpmnValidationCacheSize = 1000;
+
+    /**
+     * Whether a binary snapshot of the parsed BPMN model is stored as an extra (generated) resource of new deployments.
+     * When a process definition needs to be put in the process definition cache again (e.g. after an eviction or a restart),
+     * the model is then read from the snapshot instead of parsing the BPMN XML. If the snapshot is missing or was written
+     * by another engine version, the XML is parsed as before.
+     */
+    protected boolean isBpmnModelSnapshotEnabled;
+
     protected TimerManager timerManager;
     protected EventSubscriptionManager eventSubscriptionManager;
     protected BpmnDeploymentHelper bpmnDeploymentHelper;
@@ -517,9 +620,29 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionDiagramHelper processDefinitionDiagramHelper;
     protected DeploymentManager deploymentManager;
 
+    /**
+     * When true, the process definition, process definition info, knowledge base, app resource and expression caches
+     * are {@link ConcurrentDeploymentCache}s, which don't lock on reads and count hits, misses and evictions.
+     * By default, the {@link DefaultDeploymentCache} is used.
+     */
+    protected boolean concurrentDeploymentCacheEnabled;
+
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    protected long processDefinitionCacheWeightLimit = -1; // Estimated bytes, only used for the concurrent cache. By default, no limit
+    protected DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher;
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * Whether the process definition cache is filled in the background when the engine is started (see {@link ProcessDefinitionCacheWarmer}),
+     * with the latest version of the {@link #processDefinitionCacheWarmUpKeys} (or of all process definitions when no keys are set),
+     * up to {@link #processDefinitionCacheWarmUpLimit} process definitions (by default the process definition cache limit).
+     */
+    protected boolean isProcessDefinitionCacheWarmUpEnabled;
+    protected List<String> processDefinitionCacheWarmUpKeys;
+    protected int processDefinitionCacheWarmUpLimit = -1;
+    protected int processDefinitionCacheWarmUpThreadPoolSize = 2;
+    protected ProcessDefinitionCacheWarmer processDefinitionCacheWarmer;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
@@ -638,6 +761,48 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * If true, the async job acquisition thread doesn't just sleep for {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime},
+     * but waits on the {@link #asyncExecutorJobWakeUpSource} and acquires as soon as new jobs are signalled. False by default.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorJobWakeUpEnabled;
+
+    /**
+     * The source of wake-up signals for the async job acquisition thread. By default, a {@link LocalAsyncJobWakeUpSource},
+     * which only signals jobs of this engine. Set a cluster aware implementation to also get signalled for jobs created by other engines.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected AsyncJobWakeUpSource asyncExecutorJobWakeUpSource;
+
+    /**
+     * If true, the number of async jobs acquired at once is sized from the observed job execution time and the free threads of the pool,
+     * and the acquisition backs off when it collides with other async executors. False (default) always acquires up to the remaining queue capacity.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorAdaptiveJobAcquisitionEnabled;
+
+    /**
+     * If true, every async job is executed on its own virtual thread (Java 21 or newer, a new platform thread otherwise) instead of on the
+     * thread pool configured with {@link #asyncExecutorCorePoolSize}, {@link #asyncExecutorMaxPoolSize} and {@link #asyncExecutorThreadPoolQueueSize}.
+     * Meant for async jobs that mostly wait on I/O. False by default.
+     * Virtual threads need Java 21 or newer: on older runtimes, a warning is logged and the thread pool is used.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean isAsyncExecutorVirtualThreadExecutionEnabled;
+
+    /**
+     * The maximum number of async jobs that are executed at the same time when {@link #isAsyncExecutorVirtualThreadExecutionEnabled} is true.
+     * By default 1000.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMaxConcurrentVirtualThreadJobs = 1000;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      * <p>
@@ -732,6 +897,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
+
+    /**
+     * How the async executors select the async, timer and history jobs to acquire, one of the JOB_ACQUISITION_STRATEGY constants of
+     * {@link JobServiceConfiguration}. By default, every executor selects the first due jobs and locks them with an optimistic update,
+     * so executors on different nodes compete for the same jobs. With "skipLocked", jobs are selected with {@code select ... for update skip locked}
+     * on PostgreSQL and MySQL 8, and with the "partitioned" strategy on other databases.
+     */
+    protected String jobAcquisitionStrategy = JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_DEFAULT;
+
+    /**
+     * The number of slices the job id hash space is split into with the "partitioned" job acquisition strategy. By default 8.
+     */
+    protected int jobAcquisitionPartitionCount = 8;
+
+    /**
+     * The slice of the job id hash space this engine prefers with the "partitioned" job acquisition strategy.
+     * By default (-1) derived from the lock owner of the async executor.
+     */
+    protected int jobAcquisitionPartition = -1;
+
+    /**
+     * If true, the async executors lock the acquired async, timer and history jobs with one set-based update statement per acquisition,
+     * instead of one optimistic update per job, and skip the jobs that were locked concurrently by another executor. False by default.
+     */
+    protected boolean isJobAcquisitionBulkLockingEnabled;
     
     private String asyncExecutorTenantId = AbstractEngineConfiguration.NO_TENANT_ID;
 
@@ -806,6 +996,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * Whether scripts are compiled once and the compiled script reused, for script engines that implement {@link javax.script.Compilable}
+     * and allow multithreaded access.
+     */
+    protected boolean isCompiledScriptCacheEnabled = true;
+    protected int compiledScriptCacheSize = 1024;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected StartProcessInstanceInterceptor startProcessInstanceInterceptor;
@@ -854,6 +1051,34 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
+
+    /**
+     * When database event logging is enabled, writes the event log entries after the transaction producing them is committed,
+     * in batches on a separate thread, instead of in the same transaction. See {@link AsyncEventLogWriter}.
+     */
+    protected boolean enableAsyncDatabaseEventLogging;
+
+    /**
+     * The maximum number of event log entries waiting to be written when {@link #enableAsyncDatabaseEventLogging} is true.
+     */
+    protected int asyncEventLogBufferSize = 100000;
+
+    /**
+     * The maximum number of event log entries written in one transaction when {@link #enableAsyncDatabaseEventLogging} is true.
+     */
+    protected int asyncEventLogBatchSize = 1000;
+
+    /**
+     * The maximum time (in milliseconds) an event log entry waits for a batch to fill up when {@link #enableAsyncDatabaseEventLogging} is true.
+     */
+    protected long asyncEventLogMaxWaitTime = 1000L;
+
+    /**
+     * What to do with the event log entries that don't fit in the buffer when {@link #enableAsyncDatabaseEventLogging} is true.
+     */
+    protected AsyncEventLogWriter.DurabilityMode asyncEventLogDurabilityMode = AsyncEventLogWriter.DurabilityMode.BEST_EFFORT;
+
+    protected AsyncEventLogWriter asyncEventLogWriter;
     protected boolean enableHistoricTaskLogging;
 
     /**
@@ -928,6 +1153,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         postProcessEngineInitialisation();
 
+        // Only started when the engine is fully built, as warming up needs all of it
+        if (processDefinitionCacheWarmer != null) {
+            processDefinitionCacheWarmer.start();
+        }
+
         return processEngine;
     }
 
@@ -976,6 +1206,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initListenerFactory();
         initBpmnParser();
         initProcessDefinitionCache();
+        initProcessDefinitionCacheWarmer();
         initProcessDefinitionInfoCache();
         initAppResourceCache();
         initKnowledgeBaseCache();
@@ -1031,6 +1262,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     @Override
     public void initCommandExecutors() {
+        initMetricsRecorder();
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
@@ -1364,6 +1596,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    @Override
+    protected Set<Class<? extends Entity>> getDefaultSharedEntityCacheClasses() {
+        // Properties are not cached as next.dbid is updated concurrently by all nodes, nor are resources as they hold whole deployment byte arrays.
+        // Process definitions (suspension state) and deployments (deletion) do change: without an invalidation publisher, other nodes see that after the time to live.
+        Set<Class<? extends Entity>> entityClasses = super.getDefaultSharedEntityCacheClasses();
+        entityClasses.add(ProcessDefinitionEntityImpl.class);
+        entityClasses.add(DeploymentEntityImpl.class);
+        return entityClasses;
+    }
+
     public void initAsyncHistorySessionFactory() {
         if (!sessionFactories.containsKey(AsyncHistorySession.class)) {
             AsyncHistorySessionFactory asyncHistorySessionFactory = new AsyncHistorySessionFactory();
@@ -1547,6 +1789,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setMetricsRecorder(this.metricsRecorder);
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1570,6 +1813,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             jobServiceConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             jobServiceConfiguration.setAsyncHistoryJsonGroupingThreshold(asyncHistoryJsonGroupingThreshold);
+            jobServiceConfiguration.setJobTypeAsyncHistoryBinary(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
+            jobServiceConfiguration.setAsyncHistoryBinaryEncodingEnabled(isAsyncHistoryBinaryEncodingEnabled);
+            jobServiceConfiguration.setAsyncHistoryPayloadMergingEnabled(isAsyncHistoryEnabled && isAsyncHistoryPayloadMergingEnabled);
+            jobServiceConfiguration.setAsyncHistoryPayloadMergingMaxSize(asyncHistoryPayloadMergingMaxSize);
+            jobServiceConfiguration.setAsyncHistoryPayloadMergingMaxWaitTime(asyncHistoryPayloadMergingMaxWaitTime);
 
             // set the job processors
             this.jobServiceConfiguration.setJobProcessors(this.jobProcessors);
@@ -1577,6 +1825,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setJobAcquisitionStrategy(this.jobAcquisitionStrategy);
+            if (JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_SKIP_LOCKED.equals(this.jobAcquisitionStrategy)) {
+                this.jobServiceConfiguration.setSkipLockedSupported(determineSkipLockedSupported());
+            }
+            this.jobServiceConfiguration.setJobAcquisitionPartitionCount(this.jobAcquisitionPartitionCount);
+            this.jobServiceConfiguration.setJobAcquisitionPartition(this.jobAcquisitionPartition);
+            this.jobServiceConfiguration.setJobAcquisitionBulkLockingEnabled(this.isJobAcquisitionBulkLockingEnabled);
     
             this.jobServiceConfiguration.init();
         }
@@ -1596,6 +1851,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         addServiceConfiguration(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG, this.jobServiceConfiguration);
     }
 
+    /**
+     * Determines from the database version whether {@code skip locked} is supported, e.g. MySQL 5.7 and MariaDB before 10.6 don't support it.
+     * Returns null when the version can't be read, so the database type decides.
+     */
+    protected Boolean determineSkipLockedSupported() {
+        if (dataSource == null) {
+            return null;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            boolean skipLockedSupported = JobServiceConfiguration.isSkipLockedSupported(databaseType, databaseMetaData.getDatabaseProductName(),
+                    databaseMetaData.getDatabaseProductVersion(), databaseMetaData.getDatabaseMajorVersion(), databaseMetaData.getDatabaseMinorVersion());
+            if (!skipLockedSupported) {
+                logger.info("{} {} doesn't support skip locked, the {} job acquisition strategy is used", databaseMetaData.getDatabaseProductName(),
+                        databaseMetaData.getDatabaseProductVersion(), JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_PARTITIONED);
+            }
+            return skipLockedSupported;
+
+        } catch (SQLException e) {
+            logger.warn("Could not determine whether the database supports skip locked", e);
+            return null;
+        }
+    }
+
     protected JobServiceConfiguration instantiateJobServiceConfiguration() {
        return new JobServiceConfiguration(ScopeTypes.BPMN);
     }
@@ -1641,7 +1921,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (concurrentDeploymentCacheEnabled) {
+                if (processDefinitionCacheWeigher == null) {
+                    processDefinitionCacheWeigher = new ProcessDefinitionCacheEntryWeigher();
+                }
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit, processDefinitionCacheWeightLimit, processDefinitionCacheWeigher);
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1649,9 +1934,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initProcessDefinitionCacheWarmer() {
+        if (isProcessDefinitionCacheWarmUpEnabled && processDefinitionCacheWarmer == null) {
+            processDefinitionCacheWarmer = new ProcessDefinitionCacheWarmer(commandExecutor);
+            processDefinitionCacheWarmer.setProcessDefinitionKeys(processDefinitionCacheWarmUpKeys);
+            processDefinitionCacheWarmer.setThreadPoolSize(processDefinitionCacheWarmUpThreadPoolSize);
+
+            // Warming up more process definitions than the cache can hold would only evict the first ones again
+            int maxProcessDefinitions = processDefinitionCacheWarmUpLimit;
+            if (processDefinitionCacheLimit > 0 && (maxProcessDefinitions <= 0 || maxProcessDefinitions > processDefinitionCacheLimit)) {
+                maxProcessDefinitions = processDefinitionCacheLimit;
+            }
+            processDefinitionCacheWarmer.setMaxProcessDefinitions(maxProcessDefinitions);
+        }
+    }
+
     public void initProcessDefinitionInfoCache() {
         if (processDefinitionInfoCache == null) {
-            if (processDefinitionInfoCacheLimit <= 0) {
+            if (concurrentDeploymentCacheEnabled) {
+                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, new ConcurrentDeploymentCache<>(processDefinitionInfoCacheLimit));
+            } else if (processDefinitionInfoCacheLimit <= 0) {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor);
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
@@ -1661,7 +1963,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
+            if (concurrentDeploymentCacheEnabled) {
+                appResourceCache = new ConcurrentDeploymentCache<>(appResourceCacheLimit);
+            } else if (appResourceCacheLimit <= 0) {
                 appResourceCache = new DefaultDeploymentCache<>();
             } else {
                 appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
@@ -1671,7 +1975,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
+            if (concurrentDeploymentCacheEnabled) {
+                knowledgeBaseCache = new ConcurrentDeploymentCache<>(knowledgeBaseCacheLimit);
+            } else if (knowledgeBaseCacheLimit <= 0) {
                 knowledgeBaseCache = new DefaultDeploymentCache<>();
             } else {
                 knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
@@ -1717,6 +2023,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (parsedDeploymentBuilderFactory.getBpmnParser() == null) {
             parsedDeploymentBuilderFactory.setBpmnParser(bpmnParser);
         }
+        if (bpmnParseExecutorService == null && bpmnParseThreadPoolSize > 1) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                    .namingPattern("flowable-bpmn-parse-%d")
+                    .daemon(true)
+                    .build();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(bpmnParseThreadPoolSize, bpmnParseThreadPoolSize,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            bpmnParseExecutorService = threadPoolExecutor;
+            shutdownBpmnParseExecutorService = true;
+        }
+        if (parsedDeploymentBuilderFactory.getParseExecutorService() == null) {
+            parsedDeploymentBuilderFactory.setParseExecutorService(bpmnParseExecutorService);
+        }
+        if (isBpmnValidationCacheEnabled && parsedDeploymentBuilderFactory.getValidationCache() == null) {
+            parsedDeploymentBuilderFactory.setValidationCache(new BpmnValidationCache(bpmnValidationCacheSize));
+        }
+        if (isBpmnModelSnapshotEnabled) {
+            parsedDeploymentBuilderFactory.setBpmnModelSnapshotEnabled(true);
+        }
 
         if (timerManager == null) {
             timerManager = new TimerManager();
@@ -1932,6 +2258,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
 
+        BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
+
+        SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+        jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1959,6 +2291,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
+            AsyncHistoryJobBinaryHandler asyncHistoryJobBinaryHandler = new AsyncHistoryJobBinaryHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_BINARY);
+            allHistoryJsonTransformers.forEach(asyncHistoryJobBinaryHandler::addHistoryJsonTransformer);
+            historyJobHandlers.put(asyncHistoryJobBinaryHandler.getType(), asyncHistoryJobBinaryHandler);
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -2030,6 +2366,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncExecutor.setThreadPoolQueue(asyncExecutorThreadPoolQueue);
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
+
+            // Virtual thread execution
+            defaultAsyncExecutor.setVirtualThreadExecutionEnabled(isAsyncExecutorVirtualThreadExecutionEnabled);
+            defaultAsyncExecutor.setMaxConcurrentVirtualThreadJobs(asyncExecutorMaxConcurrentVirtualThreadJobs);
             
             // Thread flags
             defaultAsyncExecutor.setAsyncJobAcquisitionEnabled(isAsyncExecutorAsyncJobAcquisitionEnabled);
@@ -2043,6 +2383,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
 
+            // Acquisition wake-up
+            if (isAsyncExecutorJobWakeUpEnabled) {
+                if (asyncExecutorJobWakeUpSource == null) {
+                    asyncExecutorJobWakeUpSource = new LocalAsyncJobWakeUpSource();
+                }
+                defaultAsyncExecutor.setAsyncJobWakeUpSource(asyncExecutorJobWakeUpSource);
+            }
+
+            // Adaptive acquisition sizing
+            defaultAsyncExecutor.setAdaptiveJobAcquisitionEnabled(isAsyncExecutorAdaptiveJobAcquisitionEnabled);
+
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
@@ -2135,6 +2486,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
 
         if (asyncHistoryExecutor != null) {
+            JobServiceConfiguration asyncHistoryJobServiceConfiguration = asyncHistoryExecutor.getJobServiceConfiguration();
+            if (asyncHistoryJobServiceConfiguration != null && asyncHistoryJobServiceConfiguration.getMetricsRecorder() == null) {
+                asyncHistoryJobServiceConfiguration.setMetricsRecorder(metricsRecorder);
+            }
             jobServiceConfiguration.setAsyncHistoryExecutor(asyncHistoryExecutor);
             jobServiceConfiguration.setAsyncHistoryExecutorNumberOfRetries(asyncHistoryExecutorNumberOfRetries);
         }
@@ -2271,6 +2626,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
+            if (isCompiledScriptCacheEnabled) {
+                scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheSize));
+            }
         }
     }
 
@@ -2279,7 +2637,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
             
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                if (concurrentDeploymentCacheEnabled) {
+                    processExpressionManager.setExpressionCache(new ConcurrentDeploymentCache<>(expressionCacheSize));
+                } else {
+                    processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                }
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
             
@@ -2459,7 +2821,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (enableDatabaseEventLogging) {
             // Database event logging uses the default logging mechanism and adds
             // a specific event listener to the list of event listeners
-            getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+            EventLogger eventLogger = new EventLogger(clock, objectMapper);
+            if (enableAsyncDatabaseEventLogging) {
+                if (asyncEventLogWriter == null) {
+                    asyncEventLogWriter = new AsyncEventLogWriter(this);
+                }
+                eventLogger.setAsyncEventLogWriter(asyncEventLogWriter);
+            }
+            getEventDispatcher().addEventListener(eventLogger);
         }
     }
 
@@ -2733,6 +3102,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getBpmnParseThreadPoolSize() {
+        return bpmnParseThreadPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnParseThreadPoolSize(int bpmnParseThreadPoolSize) {
+        this.bpmnParseThreadPoolSize = bpmnParseThreadPoolSize;
+        return this;
+    }
+
+    public ExecutorService getBpmnParseExecutorService() {
+        return bpmnParseExecutorService;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnParseExecutorService(ExecutorService bpmnParseExecutorService) {
+        this.bpmnParseExecutorService = bpmnParseExecutorService;
+        return this;
+    }
+
+    /**
+     * Shuts down the executor service used to parse BPMN resources in parallel, if it was created by this configuration.
+     */
+    public void shutdownBpmnParseExecutorService() {
+        if (shutdownBpmnParseExecutorService && bpmnParseExecutorService != null) {
+            bpmnParseExecutorService.shutdownNow();
+        }
+    }
+
+    public boolean isBpmnValidationCacheEnabled() {
+        return isBpmnValidationCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnValidationCacheEnabled(boolean isBpmnValidationCacheEnabled) {
+        this.isBpmnValidationCacheEnabled = isBpmnValidationCacheEnabled;
+        return this;
+    }
+
+    public int getBpmnValidationCacheSize() {
+        return bpmnValidationCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnValidationCacheSize(int bpmnValidationCacheSize) {
+        this.bpmnValidationCacheSize = bpmnValidationCacheSize;
+        return this;
+    }
+
+    public boolean isBpmnModelSnapshotEnabled() {
+        return isBpmnModelSnapshotEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnModelSnapshotEnabled(boolean isBpmnModelSnapshotEnabled) {
+        this.isBpmnModelSnapshotEnabled = isBpmnModelSnapshotEnabled;
+        return this;
+    }
+
     public TimerManager getTimerManager() {
         return timerManager;
     }
@@ -2987,6 +3410,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isCompiledScriptCacheEnabled() {
+        return isCompiledScriptCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheEnabled(boolean isCompiledScriptCacheEnabled) {
+        this.isCompiledScriptCacheEnabled = isCompiledScriptCacheEnabled;
+        return this;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3334,6 +3775,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isProcessDefinitionCacheWarmUpEnabled() {
+        return isProcessDefinitionCacheWarmUpEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpEnabled(boolean isProcessDefinitionCacheWarmUpEnabled) {
+        this.isProcessDefinitionCacheWarmUpEnabled = isProcessDefinitionCacheWarmUpEnabled;
+        return this;
+    }
+
+    public List<String> getProcessDefinitionCacheWarmUpKeys() {
+        return processDefinitionCacheWarmUpKeys;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpKeys(List<String> processDefinitionCacheWarmUpKeys) {
+        this.processDefinitionCacheWarmUpKeys = processDefinitionCacheWarmUpKeys;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpLimit() {
+        return processDefinitionCacheWarmUpLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpLimit(int processDefinitionCacheWarmUpLimit) {
+        this.processDefinitionCacheWarmUpLimit = processDefinitionCacheWarmUpLimit;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpThreadPoolSize() {
+        return processDefinitionCacheWarmUpThreadPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpThreadPoolSize(int processDefinitionCacheWarmUpThreadPoolSize) {
+        this.processDefinitionCacheWarmUpThreadPoolSize = processDefinitionCacheWarmUpThreadPoolSize;
+        return this;
+    }
+
+    public ProcessDefinitionCacheWarmer getProcessDefinitionCacheWarmer() {
+        return processDefinitionCacheWarmer;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmer(ProcessDefinitionCacheWarmer processDefinitionCacheWarmer) {
+        this.processDefinitionCacheWarmer = processDefinitionCacheWarmer;
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setDelegateInterceptor(DelegateInterceptor delegateInterceptor) {
         this.delegateInterceptor = delegateInterceptor;
         return this;
@@ -3401,6 +3887,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return concurrentDeploymentCacheEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setConcurrentDeploymentCacheEnabled(boolean concurrentDeploymentCacheEnabled) {
+        this.concurrentDeploymentCacheEnabled = concurrentDeploymentCacheEnabled;
+        return this;
+    }
+
+    public long getProcessDefinitionCacheWeightLimit() {
+        return processDefinitionCacheWeightLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeightLimit(long processDefinitionCacheWeightLimit) {
+        this.processDefinitionCacheWeightLimit = processDefinitionCacheWeightLimit;
+        return this;
+    }
+
+    public DeploymentCacheWeigher<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3569,6 +4082,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableAsyncDatabaseEventLogging() {
+        return enableAsyncDatabaseEventLogging;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableAsyncDatabaseEventLogging(boolean enableAsyncDatabaseEventLogging) {
+        this.enableAsyncDatabaseEventLogging = enableAsyncDatabaseEventLogging;
+        return this;
+    }
+
+    public int getAsyncEventLogBufferSize() {
+        return asyncEventLogBufferSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogBufferSize(int asyncEventLogBufferSize) {
+        this.asyncEventLogBufferSize = asyncEventLogBufferSize;
+        return this;
+    }
+
+    public int getAsyncEventLogBatchSize() {
+        return asyncEventLogBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogBatchSize(int asyncEventLogBatchSize) {
+        this.asyncEventLogBatchSize = asyncEventLogBatchSize;
+        return this;
+    }
+
+    public long getAsyncEventLogMaxWaitTime() {
+        return asyncEventLogMaxWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogMaxWaitTime(long asyncEventLogMaxWaitTime) {
+        this.asyncEventLogMaxWaitTime = asyncEventLogMaxWaitTime;
+        return this;
+    }
+
+    public AsyncEventLogWriter.DurabilityMode getAsyncEventLogDurabilityMode() {
+        return asyncEventLogDurabilityMode;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogDurabilityMode(AsyncEventLogWriter.DurabilityMode asyncEventLogDurabilityMode) {
+        this.asyncEventLogDurabilityMode = asyncEventLogDurabilityMode;
+        return this;
+    }
+
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+        return this;
+    }
+
     public boolean isEnableHistoricTaskLogging() {
         return enableHistoricTaskLogging;
     }
@@ -3981,6 +4548,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryBinaryEncodingEnabled() {
+        return isAsyncHistoryBinaryEncodingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryBinaryEncodingEnabled(boolean isAsyncHistoryBinaryEncodingEnabled) {
+        this.isAsyncHistoryBinaryEncodingEnabled = isAsyncHistoryBinaryEncodingEnabled;
+        return this;
+    }
+
+    public boolean isAsyncHistoryPayloadMergingEnabled() {
+        return isAsyncHistoryPayloadMergingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadMergingEnabled(boolean isAsyncHistoryPayloadMergingEnabled) {
+        this.isAsyncHistoryPayloadMergingEnabled = isAsyncHistoryPayloadMergingEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryPayloadMergingMaxSize() {
+        return asyncHistoryPayloadMergingMaxSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadMergingMaxSize(int asyncHistoryPayloadMergingMaxSize) {
+        this.asyncHistoryPayloadMergingMaxSize = asyncHistoryPayloadMergingMaxSize;
+        return this;
+    }
+
+    public long getAsyncHistoryPayloadMergingMaxWaitTime() {
+        return asyncHistoryPayloadMergingMaxWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadMergingMaxWaitTime(long asyncHistoryPayloadMergingMaxWaitTime) {
+        this.asyncHistoryPayloadMergingMaxWaitTime = asyncHistoryPayloadMergingMaxWaitTime;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -4156,6 +4759,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.enableEntityLinks = enableEntityLinks;
         return this;
     }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public String getHistoryCleaningTimeCycleConfig() {
+        return historyCleaningTimeCycleConfig;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningTimeCycleConfig(String historyCleaningTimeCycleConfig) {
+        this.historyCleaningTimeCycleConfig = historyCleaningTimeCycleConfig;
+        return this;
+    }
+
+    public int getCleanInstancesEndedAfterNumberOfDays() {
+        return cleanInstancesEndedAfterNumberOfDays;
+    }
+
+    public ProcessEngineConfigurationImpl setCleanInstancesEndedAfterNumberOfDays(int cleanInstancesEndedAfterNumberOfDays) {
+        this.cleanInstancesEndedAfterNumberOfDays = cleanInstancesEndedAfterNumberOfDays;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public long getHistoryCleaningTimeBudget() {
+        return historyCleaningTimeBudget;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningTimeBudget(long historyCleaningTimeBudget) {
+        this.historyCleaningTimeBudget = historyCleaningTimeBudget;
+        return this;
+    }
+
+    public int getSignalBroadcastBatchSize() {
+        return signalBroadcastBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastBatchSize(int signalBroadcastBatchSize) {
+        this.signalBroadcastBatchSize = signalBroadcastBatchSize;
+        return this;
+    }
     
     // Flowable 5
 
@@ -4399,6 +5056,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorJobWakeUpEnabled() {
+        return isAsyncExecutorJobWakeUpEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobWakeUpEnabled(boolean isAsyncExecutorJobWakeUpEnabled) {
+        this.isAsyncExecutorJobWakeUpEnabled = isAsyncExecutorJobWakeUpEnabled;
+        return this;
+    }
+
+    public AsyncJobWakeUpSource getAsyncExecutorJobWakeUpSource() {
+        return asyncExecutorJobWakeUpSource;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobWakeUpSource(AsyncJobWakeUpSource asyncExecutorJobWakeUpSource) {
+        this.asyncExecutorJobWakeUpSource = asyncExecutorJobWakeUpSource;
+        return this;
+    }
+
+    public boolean isAsyncExecutorAdaptiveJobAcquisitionEnabled() {
+        return isAsyncExecutorAdaptiveJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveJobAcquisitionEnabled(boolean isAsyncExecutorAdaptiveJobAcquisitionEnabled) {
+        this.isAsyncExecutorAdaptiveJobAcquisitionEnabled = isAsyncExecutorAdaptiveJobAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorVirtualThreadExecutionEnabled() {
+        return isAsyncExecutorVirtualThreadExecutionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadExecutionEnabled(boolean isAsyncExecutorVirtualThreadExecutionEnabled) {
+        this.isAsyncExecutorVirtualThreadExecutionEnabled = isAsyncExecutorVirtualThreadExecutionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentVirtualThreadJobs() {
+        return asyncExecutorMaxConcurrentVirtualThreadJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentVirtualThreadJobs(int asyncExecutorMaxConcurrentVirtualThreadJobs) {
+        this.asyncExecutorMaxConcurrentVirtualThreadJobs = asyncExecutorMaxConcurrentVirtualThreadJobs;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -4498,6 +5200,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public String getJobAcquisitionStrategy() {
+        return jobAcquisitionStrategy;
+    }
+
+    public ProcessEngineConfigurationImpl setJobAcquisitionStrategy(String jobAcquisitionStrategy) {
+        this.jobAcquisitionStrategy = jobAcquisitionStrategy;
+        return this;
+    }
+
+    public int getJobAcquisitionPartitionCount() {
+        return jobAcquisitionPartitionCount;
+    }
+
+    public ProcessEngineConfigurationImpl setJobAcquisitionPartitionCount(int jobAcquisitionPartitionCount) {
+        this.jobAcquisitionPartitionCount = jobAcquisitionPartitionCount;
+        return this;
+    }
+
+    public int getJobAcquisitionPartition() {
+        return jobAcquisitionPartition;
+    }
+
+    public ProcessEngineConfigurationImpl setJobAcquisitionPartition(int jobAcquisitionPartition) {
+        this.jobAcquisitionPartition = jobAcquisitionPartition;
+        return this;
+    }
+
+    public boolean isJobAcquisitionBulkLockingEnabled() {
+        return isJobAcquisitionBulkLockingEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setJobAcquisitionBulkLockingEnabled(boolean isJobAcquisitionBulkLockingEnabled) {
+        this.isJobAcquisitionBulkLockingEnabled = isJobAcquisitionBulkLockingEnabled;
+        return this;
+    }
+
     public int getAsyncHistoryExecutorCorePoolSize() {
         return asyncHistoryExecutorCorePoolSize;
     }
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Records a signal broadcast that is delivered asynchronously, in batches of signal event subscriptions (see {@link SignalBroadcastJobHandler}).
+ * Returns the id of the broadcast, which can be used to follow its progress with {@link GetSignalBroadcastProgressCmd}.
+ */
+public class BroadcastSignalEventCmd implements Command<String> {
+
+    protected final String signalName;
+    protected final Map<String, Object> payload;
+    protected final String tenantId;
+
+    public BroadcastSignalEventCmd(String signalName, Map<String, Object> processVariables, String tenantId) {
+        this.signalName = signalName;
+        this.payload = processVariables;
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (signalName == null) {
+            throw new FlowableIllegalArgumentException("signalName is null");
+        }
+
+        String broadcastId = CommandContextUtil.getProcessEngineConfiguration(commandContext).getIdGenerator().getNextId();
+        SignalBroadcastJobHandler.createBroadcastJob(broadcastId, signalName, tenantId, payload, commandContext);
+        return broadcastId;
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Deletes one batch of historic process instances that ended before a given date, together with all their related historic data,
+ * using set based deletes. Returns the number of deleted historic process instances: when it is less than the batch size, there is nothing left to clean.
+ */
+public class CleanHistoricProcessInstancesCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Date endedBefore;
+    protected int batchSize;
+
+    public CleanHistoricProcessInstancesCmd(Date endedBefore, int batchSize) {
+        this.endedBefore = endedBefore;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        if (endedBefore == null) {
+            throw new FlowableIllegalArgumentException("endedBefore is null");
+        }
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("batchSize must be positive");
+        }
+
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        List<String> processInstanceIds = historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsEndedBefore(endedBefore, batchSize);
+        historicProcessInstanceEntityManager.bulkDeleteHistoricProcessInstancesAndRelatedData(processInstanceIds);
+        return processInstanceIds.size();
+    }
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.runtime.SignalBroadcastProgressImpl;
+import org.flowable.engine.runtime.SignalBroadcastProgress;
+import org.flowable.job.service.impl.DeadLetterJobQueryImpl;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+
+/**
+ * Determines the progress of a signal broadcast from its remaining jobs.
+ * No jobs are kept for a completed broadcast, so an unknown broadcast id can't be told apart from a completed broadcast.
+ */
+public class GetSignalBroadcastProgressCmd implements Command<SignalBroadcastProgress> {
+
+    protected final String broadcastId;
+
+    public GetSignalBroadcastProgressCmd(String broadcastId) {
+        this.broadcastId = broadcastId;
+    }
+
+    @Override
+    public SignalBroadcastProgress execute(CommandContext commandContext) {
+        if (broadcastId == null) {
+            throw new FlowableIllegalArgumentException("broadcastId is null");
+        }
+
+        long pendingBatchCount = new JobQueryImpl(commandContext)
+                .handlerType(SignalBroadcastJobHandler.TYPE)
+                .elementId(broadcastId)
+                .count();
+
+        // Failed batches wait in the timer job table until they are retried
+        long retryingBatchCount = new TimerJobQueryImpl(commandContext)
+                .handlerType(SignalBroadcastJobHandler.TYPE)
+                .elementId(broadcastId)
+                .count();
+
+        long failedBatchCount = new DeadLetterJobQueryImpl(commandContext)
+                .handlerType(SignalBroadcastJobHandler.TYPE)
+                .elementId(broadcastId)
+                .count();
+
+        return new SignalBroadcastProgressImpl(broadcastId, pendingBatchCount + retryingBatchCount, failedBatchCount);
+    }
+
+}
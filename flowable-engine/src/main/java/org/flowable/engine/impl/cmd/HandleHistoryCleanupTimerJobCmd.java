@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Makes sure the repeating history cleanup timer job exists, with the configured time cycle, when history cleaning is enabled,
+ * and removes it when history cleaning is disabled.
+ * <p>
+ * The process engine only executes this command on boot when history cleaning is enabled, so engines without history cleaning
+ * don't query the timer jobs on every start. A timer job left over from an earlier configuration stops repeating the next time it fires.
+ */
+public class HandleHistoryCleanupTimerJobCmd implements Command<Void> {
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(BpmnHistoryCleanupJobHandler.TYPE).list();
+        if (!processEngineConfiguration.isEnableHistoryCleaning()) {
+            for (Job timerJob : timerJobs) {
+                timerJobService.deleteTimerJob((TimerJobEntity) timerJob);
+            }
+            return null;
+        }
+
+        String timeCycleConfig = processEngineConfiguration.getHistoryCleaningTimeCycleConfig();
+        BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        if (timerJobs.isEmpty()) {
+            // A cleanup that is currently executing reschedules itself
+            if (new JobQueryImpl(commandContext).handlerType(BpmnHistoryCleanupJobHandler.TYPE).count() > 0) {
+                return null;
+            }
+
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(BpmnHistoryCleanupJobHandler.TYPE);
+            timerJob.setRepeat(timeCycleConfig);
+            timerJob.setDuedate(businessCalendar.resolveDuedate(timeCycleConfig));
+            timerJobService.scheduleTimerJob(timerJob);
+
+        } else {
+            for (Job job : timerJobs) {
+                TimerJobEntity timerJob = (TimerJobEntity) job;
+                if (!timeCycleConfig.equals(timerJob.getRepeat())) {
+                    timerJob.setRepeat(timeCycleConfig);
+                    timerJob.setDuedate(businessCalendar.resolveDuedate(timeCycleConfig));
+                }
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -19,11 +19,9 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
-import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
-import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.EventSubscriptionUtil;
@@ -99,23 +97,7 @@ public class SignalEventReceivedCmd implements Command<Void> {
         }
 
         for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
-            // We only throw the event to globally scoped signals.
-            // Process instance scoped signals must be thrown within the process itself
-            if (signalEventSubscriptionEntity.isGlobalScoped()) {
-
-                if (executionId == null && Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscriptionEntity.getProcessDefinitionId())) {
-                    Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
-                    compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, payload, async);
-
-                } else {
-                    CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
-                            FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventName,
-                                    payload, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
-                                    signalEventSubscriptionEntity.getProcessDefinitionId()));
-
-                    EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, payload, async);
-                }
-            }
+            EventSubscriptionUtil.signalEventReceived(signalEventSubscriptionEntity, eventName, payload, async, commandContext);
         }
 
         return null;
@@ -0,0 +1,240 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DbIdGenerator} that hands out ids without any locking and fetches the next id block in the background,
+ * before the current block is used up.
+ * <p>
+ * Ids are taken from an atomic counter of the current block. The thread that takes the id at the prefetch point
+ * of the block (see {@link #setPrefetchRatio(double)}) schedules a {@link GetNextIdBlockCmd} on a dedicated thread,
+ * so the database round-trip is normally done before any thread needs the new block.
+ * A thread only waits when the ids are consumed faster than a block can be fetched.
+ * <p>
+ * The size of the fetched blocks adapts to the observed id consumption rate: a block is sized so it lasts
+ * {@link #getTargetIdBlockDurationMillis()}, bounded by {@link #getIdBlockSize()} and {@link #getMaxIdBlockSize()}.
+ * <p>
+ * Ids are never handed out twice, but in rare races a fetched block can be discarded, leaving a gap in the ids.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    protected int maxIdBlockSize = 100000;
+    protected long targetIdBlockDurationMillis = 30000L;
+    protected double prefetchRatio = 0.5;
+    protected String threadNamingPattern = "flowable-id-block-prefetch-%d";
+
+    protected final AtomicReference<IdRange> currentRange = new AtomicReference<>(new IdRange(0L, -1L, -1L, 0L));
+    protected final AtomicReference<CompletableFuture<IdBlock>> prefetchedBlock = new AtomicReference<>();
+    protected volatile int nextIdBlockSize;
+    protected volatile ExecutorService prefetchExecutor;
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            IdRange range = currentRange.get();
+            long id = range.nextId.getAndIncrement();
+            if (id <= range.lastId) {
+                if (id == range.prefetchId) {
+                    prefetchNextBlock(range);
+                }
+                return Long.toString(id);
+            }
+            switchToNextBlock(range);
+        }
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchToNextBlock(currentRange.get());
+    }
+
+    protected void switchToNextBlock(IdRange exhaustedRange) {
+        CompletableFuture<IdBlock> nextBlock = prefetchedBlock.get();
+        if (nextBlock == null) {
+            if (currentRange.get() != exhaustedRange) {
+                return; // another thread already switched to a new block
+            }
+            nextBlock = prefetchNextBlock(exhaustedRange);
+        }
+
+        IdBlock idBlock;
+        try {
+            idBlock = nextBlock.join();
+        } catch (CompletionException e) {
+            prefetchedBlock.compareAndSet(nextBlock, null); // allows the next caller to retry
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Could not fetch a new id block", e.getCause());
+        }
+
+        // Only the thread that takes the fetched block out of the prefetch slot installs it
+        if (prefetchedBlock.compareAndSet(nextBlock, null)) {
+            IdRange newRange = createIdRange(idBlock);
+            if (!currentRange.compareAndSet(exhaustedRange, newRange) && !prefetchedBlock.compareAndSet(null, nextBlock)) {
+                // A new block was installed concurrently and the next one is already being fetched
+                LOGGER.debug("Discarding id block {}-{}", idBlock.getNextId(), idBlock.getLastId());
+            }
+        }
+    }
+
+    protected CompletableFuture<IdBlock> prefetchNextBlock(IdRange range) {
+        CompletableFuture<IdBlock> future = new CompletableFuture<>();
+        while (!prefetchedBlock.compareAndSet(null, future)) {
+            CompletableFuture<IdBlock> existingFuture = prefetchedBlock.get();
+            if (existingFuture != null) {
+                return existingFuture;
+            }
+        }
+
+        int blockSize = determineNextIdBlockSize(range);
+        try {
+            getPrefetchExecutor().execute(() -> {
+                try {
+                    future.complete(commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(blockSize)));
+                } catch (Throwable e) {
+                    LOGGER.warn("Could not fetch a new id block of size {}", blockSize, e);
+                    future.completeExceptionally(e);
+                    prefetchedBlock.compareAndSet(future, null);
+                }
+            });
+        } catch (RuntimeException e) {
+            prefetchedBlock.compareAndSet(future, null);
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Determines the size of the next block, based on the time it took to consume the ids of the current block up to its prefetch point.
+     */
+    protected int determineNextIdBlockSize(IdRange range) {
+        int blockSize = nextIdBlockSize > 0 ? nextIdBlockSize : idBlockSize;
+        if (range.installTime > 0L) {
+            long consumedIds = range.prefetchId - range.firstId + 1;
+            long elapsedMillis = Math.max(1L, System.currentTimeMillis() - range.installTime);
+            long targetBlockSize = consumedIds * targetIdBlockDurationMillis / elapsedMillis;
+            blockSize = (int) Math.max(idBlockSize, Math.min(maxIdBlockSize, targetBlockSize));
+            nextIdBlockSize = blockSize;
+        }
+        return blockSize;
+    }
+
+    protected IdRange createIdRange(IdBlock idBlock) {
+        long size = idBlock.getLastId() - idBlock.getNextId() + 1;
+        long prefetchId = idBlock.getNextId() + Math.max(0L, Math.min(size - 1, (long) (size * prefetchRatio)));
+        return new IdRange(idBlock.getNextId(), idBlock.getLastId(), prefetchId, System.currentTimeMillis());
+    }
+
+    protected ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            synchronized (this) {
+                if (prefetchExecutor == null) {
+                    BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                            .namingPattern(threadNamingPattern)
+                            .daemon(true)
+                            .build();
+                    prefetchExecutor = Executors.newSingleThreadExecutor(threadFactory);
+                }
+            }
+        }
+        return prefetchExecutor;
+    }
+
+    public void shutdown() {
+        ExecutorService executorService = prefetchExecutor;
+        if (executorService != null) {
+            executorService.shutdownNow();
+            prefetchExecutor = null;
+        }
+
+        // A fetch that was still queued or does not react to the interrupt would never complete the pending block,
+        // so threads waiting for it are released with an exception and the next caller fetches a new block
+        CompletableFuture<IdBlock> pendingBlock = prefetchedBlock.get();
+        if (pendingBlock != null && !pendingBlock.isDone()) {
+            pendingBlock.completeExceptionally(new FlowableException("The id block prefetch was shut down"));
+            prefetchedBlock.compareAndSet(pendingBlock, null);
+        }
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public long getTargetIdBlockDurationMillis() {
+        return targetIdBlockDurationMillis;
+    }
+
+    public void setTargetIdBlockDurationMillis(long targetIdBlockDurationMillis) {
+        this.targetIdBlockDurationMillis = targetIdBlockDurationMillis;
+    }
+
+    public double getPrefetchRatio() {
+        return prefetchRatio;
+    }
+
+    public void setPrefetchRatio(double prefetchRatio) {
+        this.prefetchRatio = prefetchRatio;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+    public int getNextIdBlockSize() {
+        return nextIdBlockSize > 0 ? nextIdBlockSize : idBlockSize;
+    }
+
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long firstId;
+        protected final long lastId;
+        protected final long prefetchId;
+        protected final long installTime;
+
+        public IdRange(long firstId, long lastId, long prefetchId, long installTime) {
+            this.nextId = new AtomicLong(firstId);
+            this.firstId = firstId;
+            this.lastId = lastId;
+            this.prefetchId = prefetchId;
+            this.installTime = installTime;
+        }
+    }
+
+}
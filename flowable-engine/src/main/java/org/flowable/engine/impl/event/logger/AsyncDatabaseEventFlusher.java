@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EventFlusher} that generates the event log entries when the command context closes, like the {@link DatabaseEventFlusher},
+ * but hands them to an {@link AsyncEventLogWriter} once the transaction is committed instead of inserting them in the same transaction.
+ */
+public class AsyncDatabaseEventFlusher extends AbstractEventFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncDatabaseEventFlusher.class);
+
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
+    public AsyncDatabaseEventFlusher(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+
+        if (commandContext.getException() != null) {
+            return; // Not interested in events about exceptions
+        }
+
+        // The entries are generated now, as the handlers read the state of the entities of this command context
+        List<EventLogEntryEntity> eventLogEntries = new ArrayList<>(eventHandlers.size());
+        for (EventLoggerEventHandler eventHandler : eventHandlers) {
+            try {
+                eventLogEntries.add(eventHandler.generateEventLogEntry(commandContext));
+            } catch (Exception e) {
+                LOGGER.warn("Could not create event log", e);
+            }
+        }
+
+        if (!eventLogEntries.isEmpty()) {
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                        committedCommandContext -> asyncEventLogWriter.addEventLogEntries(eventLogEntries));
+            } else {
+                asyncEventLogWriter.addEventLogEntries(eventLogEntries);
+            }
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+
+    }
+
+}
@@ -0,0 +1,317 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.InsertEventLogEntriesCmd;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the event log entries of committed transactions and inserts them in batches, in a separate transaction on a dedicated thread.
+ * <p>
+ * The collected entries are written when {@link ProcessEngineConfigurationImpl#getAsyncEventLogBatchSize()} entries are collected,
+ * or {@link ProcessEngineConfigurationImpl#getAsyncEventLogMaxWaitTime()} milliseconds after the first one was collected, whichever comes first.
+ * At most {@link ProcessEngineConfigurationImpl#getAsyncEventLogBufferSize()} entries are kept in memory; what happens with the entries
+ * that don't fit is determined by the {@link DurabilityMode}.
+ * <p>
+ * Note that the entries only live in memory until they are written: when the node stops without {@link #shutdown()} being called,
+ * the entries that are not yet written are lost. A batch that can't be written is retried up to {@link #getMaxWriteAttempts()} times,
+ * after which its entries are written one by one and the ones that still fail are dropped. Entries added after {@link #shutdown()}
+ * are written directly by the thread that committed them.
+ */
+public class AsyncEventLogWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventLogWriter.class);
+
+    public enum DurabilityMode {
+
+        /**
+         * Entries that don't fit in the buffer are dropped, so the engine threads never wait for the event log.
+         */
+        BEST_EFFORT,
+
+        /**
+         * Entries that don't fit in the buffer are inserted directly by the thread that committed them, in a separate transaction.
+         */
+        WRITE_ON_OVERFLOW
+
+    }
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected String threadNamingPattern = "flowable-async-event-log-writer-%d";
+    protected int maxWriteAttempts = 3;
+    protected long secondsToWaitOnShutdown = 60L;
+
+    protected final Object lock = new Object();
+    protected Deque<EventLogEntryEntity> pendingEventLogEntries = new ArrayDeque<>();
+    protected long droppedEventLogEntryCount;
+    protected boolean delayedWriteScheduled;
+    protected boolean writeScheduled;
+    protected int failedWriteAttempts;
+    protected boolean shutdown;
+    protected ScheduledExecutorService executorService;
+
+    public AsyncEventLogWriter(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    public void addEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+        List<EventLogEntryEntity> directlyWrittenEventLogEntries = null;
+        synchronized (lock) {
+            if (shutdown) {
+                directlyWrittenEventLogEntries = eventLogEntries;
+
+            } else {
+                directlyWrittenEventLogEntries = addPendingEventLogEntries(eventLogEntries);
+            }
+        }
+
+        if (directlyWrittenEventLogEntries != null) {
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new InsertEventLogEntriesCmd(directlyWrittenEventLogEntries));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not write {} event log entries", directlyWrittenEventLogEntries.size(), e);
+            }
+        }
+    }
+
+    /**
+     * Adds the entries to the buffer and schedules their write, while holding the lock.
+     * Returns the entries that don't fit in the buffer and have to be written by the calling thread, or null.
+     */
+    protected List<EventLogEntryEntity> addPendingEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+        List<EventLogEntryEntity> overflowingEventLogEntries = null;
+        int freeCapacity = processEngineConfiguration.getAsyncEventLogBufferSize() - pendingEventLogEntries.size();
+        if (eventLogEntries.size() <= freeCapacity) {
+            pendingEventLogEntries.addAll(eventLogEntries);
+
+        } else if (processEngineConfiguration.getAsyncEventLogDurabilityMode() == DurabilityMode.WRITE_ON_OVERFLOW) {
+            overflowingEventLogEntries = eventLogEntries;
+
+        } else {
+            int acceptedCount = Math.max(0, freeCapacity);
+            pendingEventLogEntries.addAll(eventLogEntries.subList(0, acceptedCount));
+            droppedEventLogEntryCount += eventLogEntries.size() - acceptedCount;
+            LOGGER.warn("Event log buffer is full, dropped {} event log entries ({} so far)",
+                    eventLogEntries.size() - acceptedCount, droppedEventLogEntryCount);
+        }
+
+        if (pendingEventLogEntries.size() >= processEngineConfiguration.getAsyncEventLogBatchSize()) {
+            if (!writeScheduled) {
+                writeScheduled = true;
+                getExecutorService().execute(this::writePendingEventLogEntries);
+            }
+        } else if (!delayedWriteScheduled && !pendingEventLogEntries.isEmpty()) {
+            delayedWriteScheduled = true;
+            getExecutorService().schedule(this::writePendingEventLogEntries, processEngineConfiguration.getAsyncEventLogMaxWaitTime(), TimeUnit.MILLISECONDS);
+        }
+        return overflowingEventLogEntries;
+    }
+
+    /**
+     * Writes all the collected event log entries, in batches, in the calling thread.
+     */
+    public void writePendingEventLogEntries() {
+        writeEventLogEntries(false);
+    }
+
+    protected void writeEventLogEntries(boolean finalWrite) {
+        synchronized (lock) {
+            writeScheduled = false;
+            delayedWriteScheduled = false;
+        }
+
+        while (true) {
+            List<EventLogEntryEntity> eventLogEntries;
+            synchronized (lock) {
+                if (pendingEventLogEntries.isEmpty()) {
+                    return;
+                }
+                int batchSize = Math.min(processEngineConfiguration.getAsyncEventLogBatchSize(), pendingEventLogEntries.size());
+                eventLogEntries = new ArrayList<>(batchSize);
+                for (int i = 0; i < batchSize; i++) {
+                    eventLogEntries.add(pendingEventLogEntries.pollFirst());
+                }
+            }
+
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new InsertEventLogEntriesCmd(eventLogEntries));
+                synchronized (lock) {
+                    failedWriteAttempts = 0;
+                }
+
+            } catch (RuntimeException e) {
+                if (finalWrite) {
+                    long droppedCount = addDroppedEventLogEntries(eventLogEntries.size());
+                    LOGGER.error("Could not write {} event log entries on shutdown, the entries are lost ({} dropped so far)",
+                            eventLogEntries.size(), droppedCount, e);
+
+                } else if (retryLater(eventLogEntries)) {
+                    LOGGER.warn("Could not write {} event log entries, retrying later", eventLogEntries.size(), e);
+                    return;
+
+                } else {
+                    LOGGER.warn("Could not write {} event log entries in {} attempts, writing them one by one", eventLogEntries.size(), maxWriteAttempts, e);
+                    writeEventLogEntriesSeparately(eventLogEntries);
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts a batch that could not be written back in front of the buffer, unless it failed {@link #getMaxWriteAttempts()} times.
+     * Returns false when the batch was not put back.
+     */
+    protected boolean retryLater(List<EventLogEntryEntity> eventLogEntries) {
+        synchronized (lock) {
+            failedWriteAttempts++;
+            if (!shutdown && failedWriteAttempts >= maxWriteAttempts) {
+                failedWriteAttempts = 0;
+                return false;
+            }
+
+            // Put the entries back in front of the entries collected in the meantime, to keep the order.
+            // When shutting down, the final write of shutdown() picks them up.
+            for (int i = eventLogEntries.size() - 1; i >= 0; i--) {
+                pendingEventLogEntries.addFirst(eventLogEntries.get(i));
+            }
+            if (!shutdown && !delayedWriteScheduled && executorService != null && !executorService.isShutdown()) {
+                delayedWriteScheduled = true;
+                executorService.schedule(this::writePendingEventLogEntries, processEngineConfiguration.getAsyncEventLogMaxWaitTime(), TimeUnit.MILLISECONDS);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes the entries of a batch that keeps failing one by one, so an entry that can't be written doesn't hold back the others.
+     * The entries that still fail are dropped.
+     */
+    protected void writeEventLogEntriesSeparately(List<EventLogEntryEntity> eventLogEntries) {
+        int failedCount = 0;
+        RuntimeException lastFailure = null;
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new InsertEventLogEntriesCmd(Collections.singletonList(eventLogEntry)));
+            } catch (RuntimeException e) {
+                failedCount++;
+                lastFailure = e;
+            }
+        }
+
+        if (failedCount > 0) {
+            long droppedCount = addDroppedEventLogEntries(failedCount);
+            LOGGER.error("Dropped {} of {} event log entries that could not be written ({} dropped so far)",
+                    failedCount, eventLogEntries.size(), droppedCount, lastFailure);
+        }
+    }
+
+    protected long addDroppedEventLogEntries(int count) {
+        synchronized (lock) {
+            droppedEventLogEntryCount += count;
+            return droppedEventLogEntryCount;
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes the event log entries collected so far. Entries added afterwards are written directly
+     * by the thread that committed them.
+     */
+    public void shutdown() {
+        ScheduledExecutorService executorServiceToStop;
+        synchronized (lock) {
+            shutdown = true;
+            executorServiceToStop = executorService;
+            executorService = null;
+        }
+
+        if (executorServiceToStop != null) {
+            // A running write is allowed to finish, delayed writes are not executed anymore
+            executorServiceToStop.shutdown();
+            try {
+                if (!executorServiceToStop.awaitTermination(secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                    LOGGER.warn("Timeout during shutdown of the async event log writer. The running write could not end within {} seconds after shutdown operation.",
+                            secondsToWaitOnShutdown);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while shutting down the async event log writer.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        writeEventLogEntries(true);
+    }
+
+    protected ScheduledExecutorService getExecutorService() {
+        if (executorService == null) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                    .namingPattern(threadNamingPattern)
+                    .daemon(true)
+                    .build();
+            ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+            scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+            scheduledThreadPoolExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            executorService = scheduledThreadPoolExecutor;
+        }
+        return executorService;
+    }
+
+    public int getPendingEventLogEntryCount() {
+        synchronized (lock) {
+            return pendingEventLogEntries.size();
+        }
+    }
+
+    public long getDroppedEventLogEntryCount() {
+        synchronized (lock) {
+            return droppedEventLogEntryCount;
+        }
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+    public int getMaxWriteAttempts() {
+        return maxWriteAttempts;
+    }
+
+    public void setMaxWriteAttempts(int maxWriteAttempts) {
+        this.maxWriteAttempts = maxWriteAttempts;
+    }
+
+    public long getSecondsToWaitOnShutdown() {
+        return secondsToWaitOnShutdown;
+    }
+
+    public void setSecondsToWaitOnShutdown(long secondsToWaitOnShutdown) {
+        this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
+    }
+
+}
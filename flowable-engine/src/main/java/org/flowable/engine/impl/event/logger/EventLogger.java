@@ -65,6 +65,9 @@ public class EventLogger extends AbstractFlowableEventListener {
     // Listeners for new events
     protected List<EventLoggerListener> listeners;
 
+    // When set, the event log entries are written after commit by this writer instead of in the transaction producing them
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
     public EventLogger() {
         initializeDefaultHandlers();
     }
@@ -212,6 +215,9 @@ public class EventLogger extends AbstractFlowableEventListener {
      * Subclasses that want something else than the database flusher should override this method
      */
     protected EventFlusher createEventFlusher() {
+        if (asyncEventLogWriter != null) {
+            return new AsyncDatabaseEventFlusher(asyncEventLogWriter);
+        }
         return null;
     }
 
@@ -239,4 +245,12 @@ public class EventLogger extends AbstractFlowableEventListener {
         this.listeners = listeners;
     }
 
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public void setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
 }
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.CleanHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handler of the repeating timer job that deletes the historic process instances that ended more than
+ * {@link ProcessEngineConfigurationImpl#getCleanInstancesEndedAfterNumberOfDays()} days ago.
+ * <p>
+ * The instances are deleted in batches of {@link ProcessEngineConfigurationImpl#getHistoryCleaningBatchSize()}, each in its own transaction,
+ * until nothing is left or the {@link ProcessEngineConfigurationImpl#getHistoryCleaningTimeBudget()} is used up.
+ * What is left is cleaned by the next run.
+ * <p>
+ * When history cleaning is disabled, the timer job is not repeated anymore after it fired.
+ */
+public class BpmnHistoryCleanupJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupJobHandler.class);
+
+    public static final String TYPE = "bpmn-history-cleanup";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.isEnableHistoryCleaning()) {
+            // The timer job is left over from when history cleaning was enabled, it is not repeated anymore
+            LOGGER.info("History cleaning is disabled, removing the history cleanup timer job");
+            job.setRepeat(null);
+            return;
+        }
+
+        Date endedBefore = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime()
+                - TimeUnit.DAYS.toMillis(processEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays()));
+        int batchSize = processEngineConfiguration.getHistoryCleaningBatchSize();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(processEngineConfiguration.getHistoryCleaningTimeBudget());
+
+        // Every batch is committed on its own, so the work done is kept when the time budget is used up or a batch fails
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+
+        int deletedCount = 0;
+        int batchCount;
+        do {
+            batchCount = commandExecutor.execute(commandConfig, new CleanHistoricProcessInstancesCmd(endedBefore, batchSize));
+            deletedCount += batchCount;
+        } while (batchCount >= batchSize && System.nanoTime() - deadline < 0);
+
+        if (batchCount >= batchSize) {
+            LOGGER.info("Deleted {} historic process instances that ended before {}, the time budget is used up and the rest will be deleted in the next run",
+                    deletedCount, endedBefore);
+        } else {
+            LOGGER.info("Deleted {} historic process instances that ended before {}", deletedCount, endedBefore);
+        }
+    }
+
+}
@@ -0,0 +1,367 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventSubscriptionUtil;
+import org.flowable.eventsubscription.service.EventSubscriptionService;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Handler of the async jobs that deliver a signal broadcast in batches of signal event subscriptions.
+ * <p>
+ * A broadcast starts with one job that only records the signal. When executed, it looks up the ids of the subscriptions
+ * waiting on the signal and schedules one delivery job per {@link ProcessEngineConfigurationImpl#getSignalBroadcastBatchSize()}
+ * subscriptions, so the deliveries are spread over the threads of the async executor. Each delivery job signals its subscriptions
+ * in one transaction; a failing subscription fails (and retries) only its own batch.
+ * <p>
+ * All jobs of a broadcast have the broadcast id as element id and the signal name as element name.
+ * The signal and tenant are kept in the job handler configuration, the subscription ids and the payload in the custom values.
+ * The payload variables are stored with the {@link VariableTypes} of the engine, as the type name and the value fields the type sets,
+ * the same way as when they are stored as process variables.
+ * <p>
+ * Subscriptions of executions that are suspended by the time their batch is delivered are skipped, like the synchronous broadcast does.
+ */
+public class SignalBroadcastJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SignalBroadcastJobHandler.class);
+
+    public static final String TYPE = "signal-broadcast";
+
+    protected static final String FIELD_SIGNAL_NAME = "signalName";
+    protected static final String FIELD_TENANT_ID = "tenantId";
+    protected static final String FIELD_SUBSCRIPTION_IDS = "subscriptionIds";
+    protected static final String FIELD_PAYLOAD = "payload";
+
+    protected static final String FIELD_VARIABLE_NAME = "name";
+    protected static final String FIELD_VARIABLE_TYPE = "type";
+    protected static final String FIELD_TEXT_VALUE = "textValue";
+    protected static final String FIELD_TEXT_VALUE2 = "textValue2";
+    protected static final String FIELD_LONG_VALUE = "longValue";
+    protected static final String FIELD_DOUBLE_VALUE = "doubleValue";
+    protected static final String FIELD_BYTES = "bytes";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+
+        String signalName;
+        String tenantId;
+        JsonNode customValues;
+        try {
+            JsonNode configurationNode = objectMapper.readTree(configuration);
+            signalName = configurationNode.path(FIELD_SIGNAL_NAME).asText();
+            tenantId = configurationNode.path(FIELD_TENANT_ID).isTextual() ? configurationNode.path(FIELD_TENANT_ID).asText() : null;
+            customValues = objectMapper.readTree(job.getCustomValues());
+        } catch (IOException e) {
+            throw new FlowableException("Could not read the configuration of signal broadcast job " + job.getId(), e);
+        }
+
+        if (customValues.has(FIELD_SUBSCRIPTION_IDS)) {
+            deliverSignal(job, signalName, customValues, commandContext);
+        } else {
+            scheduleDeliveryJobs(job, signalName, tenantId, customValues, processEngineConfiguration, commandContext);
+        }
+    }
+
+    protected void scheduleDeliveryJobs(JobEntity job, String signalName, String tenantId, JsonNode customValues,
+            ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
+
+        List<String> subscriptionIds = CommandContextUtil.getEventSubscriptionService(commandContext).findSignalEventSubscriptionIdsByEventName(signalName, tenantId);
+        int batchSize = Math.max(1, processEngineConfiguration.getSignalBroadcastBatchSize());
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+
+        for (int fromIndex = 0; fromIndex < subscriptionIds.size(); fromIndex += batchSize) {
+            ObjectNode batchCustomValues = objectMapper.createObjectNode();
+            ArrayNode subscriptionIdsNode = batchCustomValues.putArray(FIELD_SUBSCRIPTION_IDS);
+            for (String subscriptionId : subscriptionIds.subList(fromIndex, Math.min(subscriptionIds.size(), fromIndex + batchSize))) {
+                subscriptionIdsNode.add(subscriptionId);
+            }
+            if (customValues.hasNonNull(FIELD_PAYLOAD)) {
+                batchCustomValues.set(FIELD_PAYLOAD, customValues.get(FIELD_PAYLOAD));
+            }
+
+            createJob(job.getElementId(), signalName, tenantId, job.getJobHandlerConfiguration(), batchCustomValues.toString(), commandContext);
+        }
+
+        LOGGER.debug("Scheduled delivery of signal broadcast {} of signal '{}' to {} subscriptions in batches of {}",
+                job.getElementId(), signalName, subscriptionIds.size(), batchSize);
+    }
+
+    protected void deliverSignal(JobEntity job, String signalName, JsonNode customValues, CommandContext commandContext) {
+        Map<String, Object> payload = deserializePayload(customValues.get(FIELD_PAYLOAD), commandContext);
+
+        EventSubscriptionService eventSubscriptionService = CommandContextUtil.getEventSubscriptionService(commandContext);
+        for (JsonNode subscriptionIdNode : customValues.get(FIELD_SUBSCRIPTION_IDS)) {
+            EventSubscriptionEntity eventSubscription = eventSubscriptionService.findById(subscriptionIdNode.asText());
+
+            // The subscription is gone when the execution moved on in the meantime
+            if (eventSubscription instanceof SignalEventSubscriptionEntity && !isExecutionSuspended(eventSubscription, commandContext)) {
+                EventSubscriptionUtil.signalEventReceived((SignalEventSubscriptionEntity) eventSubscription, signalName,
+                        payload != null ? new HashMap<>(payload) : null, false, commandContext);
+            }
+        }
+    }
+
+    /**
+     * The executions are filtered on their suspension state when the batches are scheduled, but can be suspended before their batch is delivered.
+     */
+    protected boolean isExecutionSuspended(EventSubscriptionEntity eventSubscription, CommandContext commandContext) {
+        if (eventSubscription.getExecutionId() == null) {
+            return false;
+        }
+
+        ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(eventSubscription.getExecutionId());
+        if (execution == null || execution.isSuspended()) {
+            LOGGER.debug("Skipping signal event subscription {}, its execution {} is suspended", eventSubscription.getId(), eventSubscription.getExecutionId());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Creates the job that records a signal broadcast. The broadcast id is used as element id of all jobs of the broadcast.
+     */
+    public static JobEntity createBroadcastJob(String broadcastId, String signalName, String tenantId, Map<String, Object> payload, CommandContext commandContext) {
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+
+        ObjectNode configuration = objectMapper.createObjectNode();
+        configuration.put(FIELD_SIGNAL_NAME, signalName);
+        if (tenantId != null) {
+            configuration.put(FIELD_TENANT_ID, tenantId);
+        }
+
+        ObjectNode customValues = objectMapper.createObjectNode();
+        if (payload != null) {
+            customValues.set(FIELD_PAYLOAD, serializePayload(payload, commandContext));
+        }
+
+        return createJob(broadcastId, signalName, tenantId, configuration.toString(), customValues.toString(), commandContext);
+    }
+
+    protected static JobEntity createJob(String broadcastId, String signalName, String tenantId, String configuration, String customValues, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(configuration);
+        job.setCustomValues(customValues);
+        job.setElementId(broadcastId);
+        job.setElementName(signalName);
+        if (tenantId != null) {
+            job.setTenantId(tenantId);
+        }
+        jobService.scheduleAsyncJob(job);
+        return job;
+    }
+
+    protected static ArrayNode serializePayload(Map<String, Object> payload, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+
+        ArrayNode payloadNode = processEngineConfiguration.getObjectMapper().createArrayNode();
+        for (Map.Entry<String, Object> variable : payload.entrySet()) {
+            VariableType variableType = variableTypes.findVariableType(variable.getValue());
+            PayloadValueFields valueFields = new PayloadValueFields(variable.getKey());
+            variableType.setValue(variable.getValue(), valueFields);
+
+            ObjectNode variableNode = payloadNode.addObject();
+            variableNode.put(FIELD_VARIABLE_NAME, variable.getKey());
+            variableNode.put(FIELD_VARIABLE_TYPE, variableType.getTypeName());
+            variableNode.put(FIELD_TEXT_VALUE, valueFields.getTextValue());
+            variableNode.put(FIELD_TEXT_VALUE2, valueFields.getTextValue2());
+            variableNode.put(FIELD_LONG_VALUE, valueFields.getLongValue());
+            variableNode.put(FIELD_DOUBLE_VALUE, valueFields.getDoubleValue());
+            if (valueFields.getBytes() != null) {
+                variableNode.put(FIELD_BYTES, Base64.getEncoder().encodeToString(valueFields.getBytes()));
+            }
+        }
+        return payloadNode;
+    }
+
+    protected static Map<String, Object> deserializePayload(JsonNode payloadNode, CommandContext commandContext) {
+        if (payloadNode == null || payloadNode.isNull()) {
+            return null;
+        }
+
+        VariableTypes variableTypes = CommandContextUtil.getProcessEngineConfiguration(commandContext).getVariableTypes();
+        Map<String, Object> payload = new HashMap<>();
+        for (JsonNode variableNode : payloadNode) {
+            String typeName = variableNode.path(FIELD_VARIABLE_TYPE).asText();
+            VariableType variableType = variableTypes.getVariableType(typeName);
+            if (variableType == null) {
+                throw new FlowableException("Unknown variable type '" + typeName + "' in the variables of a signal broadcast");
+            }
+
+            PayloadValueFields valueFields = new PayloadValueFields(variableNode.path(FIELD_VARIABLE_NAME).asText());
+            valueFields.setTextValue(getText(variableNode, FIELD_TEXT_VALUE));
+            valueFields.setTextValue2(getText(variableNode, FIELD_TEXT_VALUE2));
+            valueFields.setLongValue(variableNode.hasNonNull(FIELD_LONG_VALUE) ? variableNode.get(FIELD_LONG_VALUE).asLong() : null);
+            valueFields.setDoubleValue(variableNode.hasNonNull(FIELD_DOUBLE_VALUE) ? variableNode.get(FIELD_DOUBLE_VALUE).asDouble() : null);
+            String bytes = getText(variableNode, FIELD_BYTES);
+            valueFields.setBytes(bytes != null ? Base64.getDecoder().decode(bytes) : null);
+
+            payload.put(valueFields.getName(), variableType.getValue(valueFields));
+        }
+        return payload;
+    }
+
+    protected static String getText(JsonNode node, String fieldName) {
+        return node.hasNonNull(fieldName) ? node.get(fieldName).asText() : null;
+    }
+
+    /**
+     * Holds the value fields of a payload variable in memory, as the {@link VariableType} of the variable sets and reads them.
+     */
+    protected static class PayloadValueFields implements ValueFields {
+
+        protected final String name;
+        protected String textValue;
+        protected String textValue2;
+        protected Long longValue;
+        protected Double doubleValue;
+        protected byte[] bytes;
+        protected Object cachedValue;
+
+        public PayloadValueFields(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getProcessInstanceId() {
+            return null;
+        }
+
+        @Override
+        public String getExecutionId() {
+            return null;
+        }
+
+        @Override
+        public String getScopeId() {
+            return null;
+        }
+
+        @Override
+        public String getSubScopeId() {
+            return null;
+        }
+
+        @Override
+        public String getScopeType() {
+            return null;
+        }
+
+        @Override
+        public String getTaskId() {
+            return null;
+        }
+
+        @Override
+        public String getTextValue() {
+            return textValue;
+        }
+
+        @Override
+        public void setTextValue(String textValue) {
+            this.textValue = textValue;
+        }
+
+        @Override
+        public String getTextValue2() {
+            return textValue2;
+        }
+
+        @Override
+        public void setTextValue2(String textValue2) {
+            this.textValue2 = textValue2;
+        }
+
+        @Override
+        public Long getLongValue() {
+            return longValue;
+        }
+
+        @Override
+        public void setLongValue(Long longValue) {
+            this.longValue = longValue;
+        }
+
+        @Override
+        public Double getDoubleValue() {
+            return doubleValue;
+        }
+
+        @Override
+        public void setDoubleValue(Double doubleValue) {
+            this.doubleValue = doubleValue;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public void setBytes(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public Object getCachedValue() {
+            return cachedValue;
+        }
+
+        @Override
+        public void setCachedValue(Object cachedValue) {
+            this.cachedValue = cachedValue;
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+
+/**
+ * Estimates the retained size of a {@link ProcessDefinitionCacheEntry} from the number of flow elements and diagram elements of its {@link BpmnModel}.
+ * The estimate per element is a rough average (including the parsed behaviour and listeners) and can be tweaked when the models differ a lot from that.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<ProcessDefinitionCacheEntry> {
+
+    protected long baseWeight = 4096L;
+    protected long flowElementWeight = 2048L;
+    protected long graphicInfoWeight = 128L;
+
+    @Override
+    public long weigh(ProcessDefinitionCacheEntry cacheEntry) {
+        long weight = baseWeight;
+        BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+        if (bpmnModel != null) {
+            for (Process process : bpmnModel.getProcesses()) {
+                weight += process.getFlowElementMap().size() * flowElementWeight;
+            }
+            weight += bpmnModel.getLocationMap().size() * graphicInfoWeight;
+            for (List<GraphicInfo> graphicInfos : bpmnModel.getFlowLocationMap().values()) {
+                weight += graphicInfos.size() * graphicInfoWeight;
+            }
+
+        } else if (cacheEntry.getProcess() != null) {
+            weight += cacheEntry.getProcess().getFlowElementMap().size() * flowElementWeight;
+        }
+        return weight;
+    }
+
+    public long getBaseWeight() {
+        return baseWeight;
+    }
+
+    public void setBaseWeight(long baseWeight) {
+        this.baseWeight = baseWeight;
+    }
+
+    public long getFlowElementWeight() {
+        return flowElementWeight;
+    }
+
+    public void setFlowElementWeight(long flowElementWeight) {
+        this.flowElementWeight = flowElementWeight;
+    }
+
+    public long getGraphicInfoWeight() {
+        return graphicInfoWeight;
+    }
+
+    public void setGraphicInfoWeight(long graphicInfoWeight) {
+        this.graphicInfoWeight = graphicInfoWeight;
+    }
+
+}
@@ -0,0 +1,228 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fills the process definition cache in the background when the engine is started, so the first requests for a process definition
+ * don't have to fetch and parse its deployment.
+ * <p>
+ * The latest version of the configured process definition keys (or of all process definitions, ordered by key, when no keys are configured)
+ * is put in the cache, up to the configured maximum number of process definitions. The deployments are resolved on a small thread pool,
+ * one deployment per task, so the process definitions of the same deployment are parsed only once.
+ * <p>
+ * The progress can be followed with {@link #getTotalCount()}, {@link #getWarmedUpCount()} and {@link #getFailedCount()},
+ * and is logged when the warm-up starts and completes.
+ */
+public class ProcessDefinitionCacheWarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionCacheWarmer.class);
+
+    protected CommandExecutor commandExecutor;
+    protected Collection<String> processDefinitionKeys;
+    protected int maxProcessDefinitions = -1;
+    protected int threadPoolSize = 2;
+    protected String threadNamingPattern = "flowable-process-definition-cache-warm-up-%d";
+
+    protected volatile ExecutorService executorService;
+    protected volatile int totalCount = -1;
+    protected final AtomicInteger warmedUpCount = new AtomicInteger();
+    protected final AtomicInteger failedCount = new AtomicInteger();
+    protected final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    public ProcessDefinitionCacheWarmer(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Starts the warm-up in the background and returns immediately.
+     */
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                .namingPattern(threadNamingPattern)
+                .daemon(true)
+                .build();
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize,
+                10L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executorService = threadPoolExecutor;
+        executorService.execute(this::warmUp);
+    }
+
+    protected void warmUp() {
+        long startTime = System.currentTimeMillis();
+        List<ProcessDefinition> processDefinitions;
+        try {
+            processDefinitions = findProcessDefinitionsToWarmUp();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not determine the process definitions to put in the process definition cache", e);
+            totalCount = 0;
+            completion.complete(null);
+            return;
+        }
+
+        totalCount = processDefinitions.size();
+        LOGGER.info("Warming up the process definition cache with {} process definitions", totalCount);
+
+        Map<String, List<ProcessDefinition>> processDefinitionsByDeployment = new LinkedHashMap<>();
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            processDefinitionsByDeployment.computeIfAbsent(processDefinition.getDeploymentId(), deploymentId -> new ArrayList<>()).add(processDefinition);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(processDefinitionsByDeployment.size());
+        try {
+            for (List<ProcessDefinition> deploymentProcessDefinitions : processDefinitionsByDeployment.values()) {
+                futures.add(CompletableFuture.runAsync(() -> warmUp(deploymentProcessDefinitions), executorService));
+            }
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Process definition cache warm-up stopped, as the engine is closed");
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((result, exception) -> {
+            LOGGER.info("Warmed up the process definition cache with {} process definitions in {} ms ({} failed)",
+                    warmedUpCount.get(), System.currentTimeMillis() - startTime, failedCount.get());
+            completion.complete(null);
+        });
+    }
+
+    protected List<ProcessDefinition> findProcessDefinitionsToWarmUp() {
+        List<ProcessDefinition> processDefinitions = new ArrayList<>();
+        if (processDefinitionKeys != null && !processDefinitionKeys.isEmpty()) {
+            for (String processDefinitionKey : processDefinitionKeys) {
+                processDefinitions.addAll(new ProcessDefinitionQueryImpl(commandExecutor)
+                        .processDefinitionKey(processDefinitionKey)
+                        .latestVersion()
+                        .list());
+            }
+
+        } else {
+            ProcessDefinitionQueryImpl query = new ProcessDefinitionQueryImpl(commandExecutor);
+            query.latestVersion().orderByProcessDefinitionKey().asc();
+            processDefinitions.addAll(maxProcessDefinitions > 0 ? query.listPage(0, maxProcessDefinitions) : query.list());
+        }
+
+        if (maxProcessDefinitions > 0 && processDefinitions.size() > maxProcessDefinitions) {
+            return new ArrayList<>(processDefinitions.subList(0, maxProcessDefinitions));
+        }
+        return processDefinitions;
+    }
+
+    protected void warmUp(List<ProcessDefinition> processDefinitions) {
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            if (executorService == null || executorService.isShutdown()) {
+                return;
+            }
+
+            try {
+                // The first process definition of the deployment resolves the whole deployment, the others are then found in the cache
+                commandExecutor.execute(commandContext -> CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                        .getDeploymentManager().resolveProcessDefinition(processDefinition));
+                int count = warmedUpCount.incrementAndGet();
+                LOGGER.debug("Put process definition {} in the process definition cache ({}/{})", processDefinition.getId(), count, totalCount);
+
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                LOGGER.warn("Could not put process definition {} in the process definition cache", processDefinition.getId(), e);
+            }
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the number of process definitions that will be put in the cache, or -1 when that isn't known yet.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getWarmedUpCount() {
+        return warmedUpCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * @return a future that completes when all process definitions have been handled.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    public Collection<String> getProcessDefinitionKeys() {
+        return processDefinitionKeys;
+    }
+
+    public void setProcessDefinitionKeys(Collection<String> processDefinitionKeys) {
+        this.processDefinitionKeys = processDefinitionKeys;
+    }
+
+    public int getMaxProcessDefinitions() {
+        return maxProcessDefinitions;
+    }
+
+    public void setMaxProcessDefinitions(int maxProcessDefinitions) {
+        this.maxProcessDefinitions = maxProcessDefinitions;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+}
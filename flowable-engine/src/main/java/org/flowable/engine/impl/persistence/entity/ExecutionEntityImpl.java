@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowableListener;
@@ -27,6 +28,9 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
+import org.flowable.common.engine.impl.persistence.entity.IndexedEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
@@ -50,7 +54,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackedEntity, IndexedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -206,6 +210,16 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     protected boolean forcedUpdate;
 
+    /**
+     * Set when a field of the persistent state changes, so the persistent state doesn't need to be compared at flush time.
+     */
+    protected boolean dirty;
+
+    /**
+     * The entry in the entity cache maintaining indexes on the parent, process instance, activity and super execution ids.
+     */
+    protected transient CachedEntity cachedEntity;
+
     protected List<VariableInstanceEntity> queryVariables;
     
     // Callback
@@ -271,6 +285,50 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         return persistentState;
     }
 
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+
+    @Override
+    public CachedEntity getCachedEntity() {
+        return cachedEntity;
+    }
+
+    @Override
+    public void setCachedEntity(CachedEntity cachedEntity) {
+        this.cachedEntity = cachedEntity;
+    }
+
+    protected void indexKeysChanged() {
+        if (cachedEntity != null) {
+            cachedEntity.indexKeysChanged();
+        }
+    }
+
+    protected void markDirty(Object currentValue, Object newValue) {
+        if (!dirty && !Objects.equals(currentValue, newValue)) {
+            dirty = true;
+        }
+    }
+
+    protected void markDirty(int currentValue, int newValue) {
+        if (currentValue != newValue) {
+            dirty = true;
+        }
+    }
+
+    protected void markDirty(boolean currentValue, boolean newValue) {
+        if (currentValue != newValue) {
+            dirty = true;
+        }
+    }
+
     // The current flow element, will be filled during operation execution
 
     @Override
@@ -289,12 +347,15 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
+            markDirty(this.activityId, currentFlowElement.getId());
             this.activityId = currentFlowElement.getId();
             this.activityName = currentFlowElement.getName();
         } else {
+            markDirty(this.activityId, null);
             this.activityId = null;
             this.activityName = null;
         }
+        indexKeysChanged();
     }
 
     @Override
@@ -339,6 +400,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty(this.businessKey, businessKey);
         this.businessKey = businessKey;
     }
 
@@ -351,6 +413,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -419,6 +482,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
             this.processInstanceId = this.processInstance.getId();
+            indexKeysChanged();
         }
     }
 
@@ -447,10 +511,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
+            markDirty(this.parentId, parent.getId());
             this.parentId = parent.getId();
         } else {
+            markDirty(this.parentId, null);
             this.parentId = null;
         }
+        indexKeysChanged();
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -461,7 +528,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setSuperExecutionId(String superExecutionId) {
+        markDirty(this.superExecutionId, superExecutionId);
         this.superExecutionId = superExecutionId;
+        indexKeysChanged();
     }
 
     @Override
@@ -478,10 +547,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         }
 
         if (superExecution != null) {
+            markDirty(this.superExecutionId, ((ExecutionEntityImpl) superExecution).getId());
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
         } else {
+            markDirty(this.superExecutionId, null);
             this.superExecutionId = null;
         }
+        indexKeysChanged();
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -524,8 +596,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
+            markDirty(this.rootProcessInstanceId, rootProcessInstance.getId());
             this.rootProcessInstanceId = rootProcessInstance.getId();
         } else {
+            markDirty(this.rootProcessInstanceId, null);
             this.rootProcessInstanceId = null;
         }
     }
@@ -537,6 +611,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirty(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -549,12 +624,14 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setScope(boolean isScope) {
+        markDirty(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        this.dirty = true;
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -878,6 +955,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        indexKeysChanged();
     }
 
     @Override
@@ -887,7 +965,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        markDirty(this.parentId, parentId);
         this.parentId = parentId;
+        indexKeysChanged();
     }
 
     @Override
@@ -896,7 +976,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        markDirty(this.activityId, activityId);
         this.activityId = activityId;
+        indexKeysChanged();
     }
 
     @Override
@@ -906,6 +988,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markDirty(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
@@ -916,11 +999,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setActive(boolean isActive) {
+        markDirty(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markDirty(this.isActive, false);
         this.isActive = false;
     }
 
@@ -961,6 +1046,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -976,6 +1062,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markDirty(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
@@ -986,6 +1073,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty(this.isMultiInstanceRoot, isMultiInstanceRoot);
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -996,6 +1084,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -1015,6 +1104,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setName(String name) {
+        markDirty(this.name, name);
         this.name = name;
     }
 
@@ -1069,6 +1159,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockTime(Date lockTime) {
+        markDirty(this.lockTime, lockTime);
         this.lockTime = lockTime;
     }
 
@@ -1111,6 +1202,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markDirty(this.startActivityId, startActivityId);
         this.startActivityId = startActivityId;
     }
 
@@ -1121,6 +1213,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty(this.startUserId, startUserId);
         this.startUserId = startUserId;
     }
 
@@ -1131,6 +1224,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty(this.startTime, startTime);
         this.startTime = startTime;
     }
 
@@ -1141,6 +1235,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirty(this.eventSubscriptionCount, eventSubscriptionCount);
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1151,6 +1246,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTaskCount(int taskCount) {
+        markDirty(this.taskCount, taskCount);
         this.taskCount = taskCount;
     }
 
@@ -1161,6 +1257,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setJobCount(int jobCount) {
+        markDirty(this.jobCount, jobCount);
         this.jobCount = jobCount;
     }
 
@@ -1171,6 +1268,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markDirty(this.timerJobCount, timerJobCount);
         this.timerJobCount = timerJobCount;
     }
 
@@ -1181,6 +1279,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirty(this.suspendedJobCount, suspendedJobCount);
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1191,6 +1290,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirty(this.deadLetterJobCount, deadLetterJobCount);
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1201,6 +1301,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -1211,6 +1312,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1221,6 +1323,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty(this.callbackId, callbackId);
         this.callbackId = callbackId;
     }
 
@@ -1231,6 +1334,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty(this.callbackType, callbackType);
         this.callbackType = callbackType;
     }
 
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -59,6 +60,11 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    /**
+     * Returns a cursor over the process instances matching the query, without adding them to the entity cache.
+     */
+    Cursor<ProcessInstance> findProcessInstanceByQueryCriteriaAsCursor(ProcessInstanceQueryImpl executionQuery);
+
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
@@ -98,6 +104,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
     
     void deleteChildExecutions(ExecutionEntity executionEntity, String deleteReason, boolean cancel);
 
+    /**
+     * Fetches the local variables of the given executions with one query, instead of one query per execution
+     * when the variables are used (for example when the executions are deleted).
+     */
+    void prefetchVariableInstances(Collection<? extends ExecutionEntity> executions);
+
     void deleteExecutionAndRelatedData(ExecutionEntity executionEntity, String deleteReason, boolean deleteHistory, boolean cancel, FlowElement cancelActivity);
     
     void deleteExecutionAndRelatedData(ExecutionEntity executionEntity, String deleteReason, boolean deleteHistory);
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
@@ -66,6 +67,7 @@ import org.flowable.job.service.JobService;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -144,6 +146,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public Cursor<ProcessInstance> findProcessInstanceByQueryCriteriaAsCursor(ProcessInstanceQueryImpl executionQuery) {
+        return executionDataManager.findProcessInstanceByQueryCriteriaAsCursor(executionQuery);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = executionDataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -612,6 +619,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         // the leafs of this tree must be deleted first before the parents elements.
 
         List<ExecutionEntity> childExecutions = collectChildren(executionEntity, executionIdsNotToDelete);
+        prefetchVariableInstances(childExecutions);
         for (int i = childExecutions.size() - 1; i >= 0; i--) {
             ExecutionEntity childExecutionEntity = childExecutions.get(i);
             if (!childExecutionEntity.isEnded()) {
@@ -634,6 +642,25 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
     }
 
+    @Override
+    public void prefetchVariableInstances(Collection<? extends ExecutionEntity> executions) {
+        if (executions == null || executions.size() < 2) {
+            return; // nothing to gain compared to the regular lazy loading
+        }
+
+        List<VariableScopeImpl> variableScopes = new ArrayList<>(executions.size());
+        for (ExecutionEntity execution : executions) {
+            if (!execution.isEnded() && execution instanceof VariableScopeImpl
+                    && (!CountingEntityUtil.isExecutionRelatedEntityCountEnabled(execution) || ((CountingExecutionEntity) execution).getVariableCount() > 0)) {
+                variableScopes.add((VariableScopeImpl) execution);
+            }
+        }
+
+        if (!variableScopes.isEmpty()) {
+            CommandContextUtil.getVariableService().prefetchExecutionVariableInstances(variableScopes, null);
+        }
+    }
+
     @Override
     public List<ExecutionEntity> collectChildren(ExecutionEntity executionEntity) {
         return collectChildren(executionEntity, null);
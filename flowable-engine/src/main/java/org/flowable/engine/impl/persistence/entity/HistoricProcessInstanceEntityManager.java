@@ -12,9 +12,12 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -33,6 +36,12 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    /**
+     * Returns a cursor over the historic process instances matching the query, without adding them to the entity cache.
+     * Returns null when history is disabled.
+     */
+    Cursor<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteriaAsCursor(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
@@ -40,6 +49,18 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String historicProcessInstanceId);
     
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
+    /**
+     * Returns the ids of at most maxResults finished historic process instances that ended before the given date, the oldest first.
+     */
+    List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, int maxResults);
+
+    /**
+     * Deletes the given finished historic process instances and all their related historic data with set based deletes, without loading them.
+     * Unlike {@link org.flowable.engine.impl.history.HistoryManager#recordProcessInstanceDeleted(String, String)}, sub process instances are not
+     * deleted with their parent, and no events are dispatched.
+     */
+    void bulkDeleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds);
     
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
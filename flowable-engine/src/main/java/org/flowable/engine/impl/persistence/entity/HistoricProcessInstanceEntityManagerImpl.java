@@ -13,10 +13,13 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -63,6 +66,14 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public Cursor<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteriaAsCursor(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            return historicProcessInstanceDataManager.findHistoricProcessInstancesByQueryCriteriaAsCursor(historicProcessInstanceQuery);
+        }
+        return null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -87,6 +98,18 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, int maxResults) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsEndedBefore(endedBefore, maxResults);
+    }
+
+    @Override
+    public void bulkDeleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds) {
+        if (!processInstanceIds.isEmpty()) {
+            historicProcessInstanceDataManager.bulkDeleteHistoricProcessInstancesAndRelatedData(processInstanceIds);
+        }
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
@@ -45,6 +46,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    Cursor<ProcessInstance> findProcessInstanceByQueryCriteriaAsCursor(ProcessInstanceQueryImpl executionQuery);
+
     List<ExecutionEntity> findExecutionsByRootProcessInstanceId(String rootProcessInstanceId);
 
     List<ExecutionEntity> findExecutionsByProcessInstanceId(String processInstanceId);
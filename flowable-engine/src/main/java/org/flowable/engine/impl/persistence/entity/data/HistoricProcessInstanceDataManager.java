@@ -12,9 +12,12 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -30,12 +33,22 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, int maxResults);
+
+    /**
+     * Deletes the given historic process instances and all their related historic data (activities, variables, details, tasks, identity links,
+     * comments, task attachments, task log entries, entity links and the related byte arrays) with one set based delete per table.
+     */
+    void bulkDeleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId);
 
     long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    Cursor<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteriaAsCursor(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
+
     List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
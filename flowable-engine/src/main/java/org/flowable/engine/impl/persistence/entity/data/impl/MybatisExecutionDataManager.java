@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
@@ -255,6 +256,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public Cursor<ProcessInstance> findProcessInstanceByQueryCriteriaAsCursor(ProcessInstanceQueryImpl executionQuery) {
+        return getDbSqlSession().selectCursor("selectProcessInstanceByQueryCriteria", executionQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
@@ -12,10 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -55,6 +61,40 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, int maxResults) {
+        ListQueryParameterObject parameter = new ListQueryParameterObject(endedBefore, 0, maxResults);
+        parameter.setOrderByColumns("RES.END_TIME_ asc");
+        return getDbSqlSession().selectListNoCacheCheck("selectHistoricProcessInstanceIdsEndedBefore", parameter);
+    }
+
+    @Override
+    public void bulkDeleteHistoricProcessInstancesAndRelatedData(Collection<String> processInstanceIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("processInstanceIds", processInstanceIds);
+
+        // All deletes are registered for the same entity class, so they are executed in this order at flush time:
+        // the byte arrays and the rows referring to the historic tasks need to be deleted before the rows they are found through
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        Class<? extends HistoricProcessInstanceEntity> entityClass = getManagedEntityClass();
+        dbSqlSession.delete("bulkDeleteCleanupHistoricVariableByteArrays", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricDetailByteArrays", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricAttachmentByteArrays", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricDetails", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricVariableInstances", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricActivityInstances", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricIdentityLinks", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupComments", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupAttachments", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricTaskLogEntries", parameters, entityClass);
+        dbSqlSession.delete("bulkDeleteCleanupHistoricTaskInstances", parameters, entityClass);
+        if (getProcessEngineConfiguration().isEnableEntityLinks()) {
+            dbSqlSession.delete("bulkDeleteCleanupHistoricEntityLinks", parameters, entityClass);
+        }
+        dbSqlSession.delete("bulkDeleteCleanupHistoricProcessInstances", parameters, entityClass);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId) {
@@ -72,6 +112,11 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
     }
 
+    @Override
+    public Cursor<HistoricProcessInstance> findHistoricProcessInstancesByQueryCriteriaAsCursor(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        return getDbSqlSession().selectCursor("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
@@ -149,7 +149,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params, ProcessDefinitionEntityImpl.class);
     }
 
 }
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
+
+import org.flowable.common.engine.impl.persistence.cache.EntityIndex;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * The {@link EntityIndex} instances on cached executions, used by the execution cache matchers.
+ */
+public final class ExecutionEntityIndexes {
+
+    public static final EntityIndex<ExecutionEntity> PARENT_ID = new EntityIndex<>("parentId", ExecutionEntity::getParentId);
+
+    public static final EntityIndex<ExecutionEntity> PROCESS_INSTANCE_ID = new EntityIndex<>("processInstanceId", ExecutionEntity::getProcessInstanceId);
+
+    public static final EntityIndex<ExecutionEntity> ACTIVITY_ID_AND_PROCESS_INSTANCE_ID = new EntityIndex<>("activityIdAndProcessInstanceId",
+            execution -> EntityIndex.compositeKey(execution.getActivityId(), execution.getProcessInstanceId()));
+
+    public static final EntityIndex<ExecutionEntity> SUPER_EXECUTION_ID = new EntityIndex<>("superExecutionId", ExecutionEntity::getSuperExecutionId);
+
+    private ExecutionEntityIndexes() {
+    }
+
+}
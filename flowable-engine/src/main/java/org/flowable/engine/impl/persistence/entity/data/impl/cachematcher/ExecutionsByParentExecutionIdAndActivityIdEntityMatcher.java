@@ -16,12 +16,14 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.EntityIndex;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -33,4 +35,15 @@ public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends Cac
                 && executionEntity.getActivityId() != null && activityIds.contains(executionEntity.getActivityId());
     }
 
+    @Override
+    public EntityIndex<ExecutionEntity> getEntityIndex() {
+        return ExecutionEntityIndexes.PARENT_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object getEntityIndexKey(Object parameter) {
+        return ((Map<String, Object>) parameter).get("parentExecutionId");
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import org.flowable.engine.runtime.SignalBroadcastProgress;
+
+public class SignalBroadcastProgressImpl implements SignalBroadcastProgress {
+
+    protected String broadcastId;
+    protected long pendingBatchCount;
+    protected long failedBatchCount;
+
+    public SignalBroadcastProgressImpl(String broadcastId, long pendingBatchCount, long failedBatchCount) {
+        this.broadcastId = broadcastId;
+        this.pendingBatchCount = pendingBatchCount;
+        this.failedBatchCount = failedBatchCount;
+    }
+
+    @Override
+    public String getBroadcastId() {
+        return broadcastId;
+    }
+
+    @Override
+    public long getPendingBatchCount() {
+        return pendingBatchCount;
+    }
+
+    @Override
+    public long getFailedBatchCount() {
+        return failedBatchCount;
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return pendingBatchCount == 0 && failedBatchCount == 0;
+    }
+
+}
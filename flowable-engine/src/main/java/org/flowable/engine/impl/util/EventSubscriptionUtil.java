@@ -1,10 +1,17 @@
 package org.flowable.engine.impl.util;
 
+import java.util.Map;
+
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.eventsubscription.service.impl.persistence.entity.CompensateEventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
@@ -18,6 +25,31 @@ public class EventSubscriptionUtil {
         }
     }
 
+    /**
+     * Delivers a signal to one signal event subscription. Only globally scoped subscriptions are signalled:
+     * process instance scoped signals must be thrown within the process itself.
+     */
+    public static void signalEventReceived(SignalEventSubscriptionEntity signalEventSubscriptionEntity, String signalName,
+            Map<String, Object> payload, boolean processASync, CommandContext commandContext) {
+
+        if (!signalEventSubscriptionEntity.isGlobalScoped()) {
+            return;
+        }
+
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscriptionEntity.getProcessDefinitionId())) {
+            Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+            compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, payload, processASync);
+
+        } else {
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher().dispatchEvent(
+                    FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), signalName,
+                            payload, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
+                            signalEventSubscriptionEntity.getProcessDefinitionId()));
+
+            eventReceived(signalEventSubscriptionEntity, payload, processASync);
+        }
+    }
+
     protected static void processEventSync(EventSubscriptionEntity eventSubscriptionEntity, Object payload) {
 
         // A compensate event needs to be deleted before the handlers are called
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.api.query.StreamableQuery;
 import org.flowable.engine.ProcessEngineConfiguration;
 
 /**
@@ -28,7 +29,7 @@ import org.flowable.engine.ProcessEngineConfiguration;
  * @author Frederik Heremans
  * @author Falko Menge
  */
-public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance> {
+public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, ProcessInstance>, StreamableQuery<ProcessInstance> {
 
     /** Select the process instance with the given id */
     ProcessInstanceQuery processInstanceId(String processInstanceId);
@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+/**
+ * The progress of a signal broadcast started with {@link org.flowable.engine.RuntimeService#signalEventReceivedInBatches(String, java.util.Map)}.
+ * The progress is counted in batches of signal event subscriptions, each delivered by its own async job.
+ */
+public interface SignalBroadcastProgress {
+
+    String getBroadcastId();
+
+    /**
+     * The number of batches (including the initial job that schedules the batches) that still need to be delivered,
+     * or are waiting to be retried after a failure.
+     */
+    long getPendingBatchCount();
+
+    /**
+     * The number of batches that could not be delivered and are moved to the dead letter jobs.
+     */
+    long getFailedBatchCount();
+
+    /**
+     * Whether all batches of the broadcast are delivered.
+     */
+    boolean isCompleted();
+
+}
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncDatabaseEventLoggerTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncDatabaseEventLoggerTest() {
+        super(AsyncDatabaseEventLoggerTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableDatabaseEventLogging(true);
+        processEngineConfiguration.setEnableAsyncDatabaseEventLogging(true);
+        processEngineConfiguration.setAsyncEventLogBufferSize(3);
+        processEngineConfiguration.setAsyncEventLogMaxWaitTime(60000L);
+    }
+
+    @AfterEach
+    public void deleteEventLogEntries() {
+        processEngineConfiguration.getAsyncEventLogWriter().writePendingEventLogEntries();
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.deleteTask(task.getId(), true);
+        }
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
+    @Test
+    public void testEventLogEntriesWrittenAfterCommit() {
+        Task task = taskService.newTask();
+        task.setAssignee("kermit");
+        taskService.saveTask(task);
+
+        AsyncEventLogWriter asyncEventLogWriter = processEngineConfiguration.getAsyncEventLogWriter();
+        assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isEqualTo(2);
+        assertThat(managementService.getEventLogEntries(null, null)).isEmpty();
+
+        asyncEventLogWriter.writePendingEventLogEntries();
+
+        List<EventLogEntry> eventLogEntries = managementService.getEventLogEntries(null, null);
+        assertThat(eventLogEntries)
+                .extracting(EventLogEntry::getType)
+                .containsExactly("TASK_ASSIGNED", "TASK_CREATED");
+        assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isZero();
+    }
+
+    @Test
+    public void testEventLogEntriesDroppedWhenBufferIsFull() {
+        for (int i = 0; i < 2; i++) {
+            Task task = taskService.newTask();
+            task.setAssignee("kermit");
+            taskService.saveTask(task);
+        }
+
+        AsyncEventLogWriter asyncEventLogWriter = processEngineConfiguration.getAsyncEventLogWriter();
+        assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isEqualTo(3);
+        assertThat(asyncEventLogWriter.getDroppedEventLogEntryCount()).isEqualTo(1);
+
+        asyncEventLogWriter.writePendingEventLogEntries();
+        assertThat(managementService.getEventLogEntries(null, null)).hasSize(3);
+    }
+
+    @Test
+    public void testEventLogEntriesWrittenByCallerWhenBufferIsFull() {
+        processEngineConfiguration.setAsyncEventLogDurabilityMode(AsyncEventLogWriter.DurabilityMode.WRITE_ON_OVERFLOW);
+        try {
+            for (int i = 0; i < 2; i++) {
+                Task task = taskService.newTask();
+                task.setAssignee("kermit");
+                taskService.saveTask(task);
+            }
+
+            AsyncEventLogWriter asyncEventLogWriter = processEngineConfiguration.getAsyncEventLogWriter();
+            assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isEqualTo(2);
+            assertThat(managementService.getEventLogEntries(null, null)).hasSize(2);
+
+            asyncEventLogWriter.writePendingEventLogEntries();
+            assertThat(managementService.getEventLogEntries(null, null)).hasSize(4);
+
+        } finally {
+            processEngineConfiguration.setAsyncEventLogDurabilityMode(AsyncEventLogWriter.DurabilityMode.BEST_EFFORT);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.cmd.InsertEventLogEntriesCmd;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncEventLogWriterTest {
+
+    protected EventLogCommandExecutor commandExecutor;
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
+    @BeforeEach
+    public void createWriter() {
+        commandExecutor = new EventLogCommandExecutor();
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setCommandExecutor(commandExecutor);
+        processEngineConfiguration.setAsyncEventLogBatchSize(10);
+        processEngineConfiguration.setAsyncEventLogMaxWaitTime(10L);
+        asyncEventLogWriter = new AsyncEventLogWriter(processEngineConfiguration);
+    }
+
+    @AfterEach
+    public void shutdownWriter() {
+        asyncEventLogWriter.shutdown();
+    }
+
+    @Test
+    public void testFailingBatchIsWrittenOneByOne() throws Exception {
+        EventLogEntryEntity failingEntry = createEventLogEntry("failing");
+        commandExecutor.failingEntry = failingEntry;
+
+        asyncEventLogWriter.addEventLogEntries(Arrays.asList(createEventLogEntry("first"), failingEntry, createEventLogEntry("last")));
+
+        waitUntil(() -> asyncEventLogWriter.getDroppedEventLogEntryCount() == 1);
+        assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isZero();
+        assertThat(commandExecutor.writtenEntries)
+                .extracting(EventLogEntryEntity::getType)
+                .containsExactly("first", "last");
+    }
+
+    @Test
+    public void testEntriesAddedAfterShutdownAreWrittenDirectly() {
+        asyncEventLogWriter.shutdown();
+
+        asyncEventLogWriter.addEventLogEntries(Collections.singletonList(createEventLogEntry("late")));
+
+        assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isZero();
+        assertThat(commandExecutor.writtenEntries)
+                .extracting(EventLogEntryEntity::getType)
+                .containsExactly("late");
+    }
+
+    @Test
+    public void testFailedWriteOnShutdownDropsEntries() {
+        EventLogEntryEntity failingEntry = createEventLogEntry("failing");
+        commandExecutor.failingEntry = failingEntry;
+        asyncEventLogWriter.setMaxWriteAttempts(Integer.MAX_VALUE);
+
+        asyncEventLogWriter.addEventLogEntries(Collections.singletonList(failingEntry));
+        asyncEventLogWriter.shutdown();
+
+        assertThat(asyncEventLogWriter.getPendingEventLogEntryCount()).isZero();
+        assertThat(asyncEventLogWriter.getDroppedEventLogEntryCount()).isEqualTo(1);
+        assertThat(commandExecutor.writtenEntries).isEmpty();
+    }
+
+    protected EventLogEntryEntity createEventLogEntry(String type) {
+        EventLogEntryEntity eventLogEntry = new EventLogEntryEntityImpl();
+        eventLogEntry.setType(type);
+        return eventLogEntry;
+    }
+
+    protected void waitUntil(Condition condition) throws InterruptedException {
+        long endTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.isMet() && System.currentTimeMillis() < endTime) {
+            Thread.sleep(10L);
+        }
+        assertThat(condition.isMet()).isTrue();
+    }
+
+    protected interface Condition {
+
+        boolean isMet();
+    }
+
+    protected static class EventLogCommandExecutor implements CommandExecutor {
+
+        protected List<EventLogEntryEntity> writtenEntries = new CopyOnWriteArrayList<>();
+        protected volatile EventLogEntryEntity failingEntry;
+
+        @Override
+        public CommandConfig getDefaultConfig() {
+            return new CommandConfig();
+        }
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command) {
+            List<EventLogEntryEntity> eventLogEntries = ((InsertEventLogEntriesCmd) command).getEventLogEntries();
+            if (eventLogEntries.contains(failingEntry)) {
+                throw new FlowableException("Could not insert event log entries");
+            }
+            writtenEntries.addAll(eventLogEntries);
+            return null;
+        }
+
+        @Override
+        public <T> T execute(Command<T> command) {
+            return execute(getDefaultConfig(), command);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class BpmnModelSnapshotTest extends CustomConfigurationFlowableTestCase {
+
+    public BpmnModelSnapshotTest() {
+        super(BpmnModelSnapshotTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setBpmnModelSnapshotEnabled(true);
+    }
+
+    @Test
+    public void testProcessDefinitionCacheFilledFromSnapshot() {
+        Deployment deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+
+        try {
+            assertThat(repositoryService.getDeploymentResourceNames(deployment.getId()))
+                    .contains("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml.snapshot");
+
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+            assertThat(repositoryService.getBpmnModel(processInstance.getProcessDefinitionId()).getMainProcess().getId())
+                    .isEqualTo("oneTaskProcess");
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testFallbackToXmlForMissingSnapshot() {
+        processEngineConfiguration.setBpmnModelSnapshotEnabled(false);
+        processEngineConfiguration.getParsedDeploymentBuilderFactory().setBpmnModelSnapshotEnabled(false);
+        Deployment deployment;
+        try {
+            deployment = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                    .deploy();
+        } finally {
+            processEngineConfiguration.setBpmnModelSnapshotEnabled(true);
+            processEngineConfiguration.getParsedDeploymentBuilderFactory().setBpmnModelSnapshotEnabled(true);
+        }
+
+        try {
+            assertThat(repositoryService.getDeploymentResourceNames(deployment.getId()))
+                    .containsExactly("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml");
+
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.bpmn.deployer.BpmnValidationCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.Test;
+
+public class ParallelBpmnParseTest extends PluggableFlowableTestCase {
+
+    @Test
+    public void testDeployMultipleResources() {
+        Deployment deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/repository/one.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/repository/two.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+
+        try {
+            List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery()
+                    .deploymentId(deployment.getId())
+                    .list();
+            assertThat(processDefinitions)
+                    .extracting(ProcessDefinition::getKey)
+                    .containsExactlyInAnyOrder("one", "two", "oneTaskProcess");
+
+            BpmnValidationCache validationCache = ((ProcessEngineConfigurationImpl) processEngineConfiguration)
+                    .getParsedDeploymentBuilderFactory().getValidationCache();
+            if (validationCache != null) {
+                byte[] bytes = IoUtil.readInputStream(repositoryService.getResourceAsStream(deployment.getId(),
+                        "org/flowable/engine/test/repository/one.bpmn20.xml"), "one.bpmn20.xml");
+                String contentHash = validationCache.getContentHash(bytes);
+                assertThat(validationCache.isSchemaValidated(contentHash)).isTrue();
+                assertThat(validationCache.isProcessValidated(contentHash)).isTrue();
+            }
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testRedeploySameContent() {
+        String firstDeploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/repository/one.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/repository/two.bpmn20.xml")
+                .deploy()
+                .getId();
+        String secondDeploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/repository/one.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/repository/two.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        try {
+            assertThat(repositoryService.createProcessDefinitionQuery().deploymentId(secondDeploymentId).count()).isEqualTo(2);
+            assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("one").latestVersion().singleResult().getVersion())
+                    .isEqualTo(2);
+
+        } finally {
+            repositoryService.deleteDeployment(firstDeploymentId, true);
+            repositoryService.deleteDeployment(secondDeploymentId, true);
+        }
+    }
+
+    @Test
+    public void testDeployInvalidResourceAmongValidResources() {
+        assertThatThrownBy(() -> repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/repository/one.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/repository/nonSchemaConformantXml.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/repository/two.bpmn20.xml")
+                .deploy())
+                .isInstanceOf(FlowableException.class);
+
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+    }
+
+}
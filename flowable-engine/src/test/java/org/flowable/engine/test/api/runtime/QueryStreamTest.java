@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.junit.jupiter.api.Test;
+
+public class QueryStreamTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamInBatches() {
+        List<String> processInstanceIds = startProcessInstances(7);
+
+        List<String> streamedIds;
+        try (Stream<ProcessInstance> stream = runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess").stream(3)) {
+            streamedIds = stream.map(ProcessInstance::getId).collect(Collectors.toList());
+        }
+        assertThat(streamedIds).containsExactlyElementsOf(runtimeService.createProcessInstanceQuery()
+                .processDefinitionKey("oneTaskProcess").orderByProcessInstanceId().asc().list().stream().map(ProcessInstance::getId).collect(Collectors.toList()));
+        assertThat(streamedIds).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+
+        assertThat(taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").stream(2).count()).isEqualTo(7);
+        assertThat(taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").stream(7).count()).isEqualTo(7);
+        assertThat(taskService.createTaskQuery().processDefinitionKey("unknown").stream().count()).isZero();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricProcessInstanceQuery().processDefinitionKey("oneTaskProcess").stream(4)
+                    .map(HistoricProcessInstance::getId)).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricTaskInstanceQuery().processDefinitionKey("oneTaskProcess").stream(5).count()).isEqualTo(7);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamWithinCommand() {
+        startProcessInstances(5);
+
+        List<String> taskIds = managementService.executeCommand(commandContext -> {
+            try (Stream<Task> stream = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").stream()) {
+                List<String> ids = stream.map(Task::getId).collect(Collectors.toList());
+
+                // Streamed results are not added to the entity cache
+                assertThat(commandContext.getSession(EntityCache.class).getAllCachedEntities()).doesNotContainKey(TaskEntityImpl.class);
+                return ids;
+            }
+        });
+
+        assertThat(taskIds).hasSize(5).isSorted();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamDoesNotChangeQuery() {
+        startProcessInstances(5);
+
+        TaskQuery taskQuery = taskService.createTaskQuery().processDefinitionKey("oneTaskProcess");
+        try (Stream<Task> stream = taskQuery.stream(2)) {
+            assertThat(stream.count()).isEqualTo(5);
+        }
+
+        assertThat(taskQuery.list()).hasSize(5);
+        assertThat(taskQuery.count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testStreamUnsupportedOptions() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().stream())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().includeProcessVariables().stream().count())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected List<String> startProcessInstances(int count) {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        return processInstanceIds;
+    }
+
+}
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskInfo;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskQueryKeysetPaginationTest extends PluggableFlowableTestCase {
+
+    protected List<String> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    public void createTasks() {
+        for (int i = 0; i < 10; i++) {
+            Task task = taskService.newTask();
+            task.setName("keysetTask" + i);
+            task.setPriority(i % 3);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+    }
+
+    @AfterEach
+    public void deleteTasks() {
+        taskService.deleteTasks(taskIds, true);
+    }
+
+    @Test
+    public void testPagingByTaskId() {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> page = taskService.createTaskQuery().taskNameLike("keysetTask%").listPage(0, 4);
+        while (!page.isEmpty()) {
+            tasks.addAll(page);
+            Task lastTask = page.get(page.size() - 1);
+            page = taskService.createTaskQuery().taskNameLike("keysetTask%").after(null, lastTask.getId()).listPage(0, 4);
+        }
+
+        assertThat(tasks).extracting(Task::getId).containsExactlyElementsOf(
+                taskService.createTaskQuery().taskNameLike("keysetTask%").orderByTaskId().asc().list().stream().map(Task::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPagingByPriority() {
+        List<Task> tasks = new ArrayList<>();
+        List<Task> page = taskService.createTaskQuery().taskNameLike("keysetTask%").orderByTaskPriority().desc().listPage(0, 3);
+        while (!page.isEmpty()) {
+            tasks.addAll(page);
+            Task lastTask = page.get(page.size() - 1);
+            page = taskService.createTaskQuery().taskNameLike("keysetTask%").after(lastTask.getPriority(), lastTask.getId())
+                    .orderByTaskPriority().desc().listPage(0, 3);
+        }
+
+        assertThat(tasks).extracting(Task::getId).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(tasks).extracting(Task::getPriority).isSortedAccordingTo((p1, p2) -> p2 - p1);
+        assertPagesInIdOrderForEqualPriority(tasks);
+    }
+
+    @Test
+    public void testHistoricPagingByPriority() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        List<HistoricTaskInstance> tasks = new ArrayList<>();
+        List<HistoricTaskInstance> page = historyService.createHistoricTaskInstanceQuery().taskNameLike("keysetTask%")
+                .orderByTaskPriority().asc().listPage(0, 4);
+        while (!page.isEmpty()) {
+            tasks.addAll(page);
+            HistoricTaskInstance lastTask = page.get(page.size() - 1);
+            page = historyService.createHistoricTaskInstanceQuery().taskNameLike("keysetTask%").after(lastTask.getPriority(), lastTask.getId())
+                    .orderByTaskPriority().asc().listPage(0, 4);
+        }
+
+        assertThat(tasks).extracting(HistoricTaskInstance::getId).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(tasks).extracting(HistoricTaskInstance::getPriority).isSorted();
+    }
+
+    @Test
+    public void testInvalidKeysetQueries() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().after(1, null))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().after(null, taskIds.get(0)).orderByTaskPriority().asc().list())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().after(1, taskIds.get(0)).orderByTaskPriority().asc().orderByTaskName().asc().list())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().or().after(1, taskIds.get(0)))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected void assertPagesInIdOrderForEqualPriority(List<? extends TaskInfo> tasks) {
+        for (int i = 1; i < tasks.size(); i++) {
+            TaskInfo previous = tasks.get(i - 1);
+            TaskInfo current = tasks.get(i);
+            if (previous.getPriority() == current.getPriority()) {
+                assertThat(current.getId().compareTo(previous.getId())).isNegative();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.JsonNodeTextCache;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LongJsonType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class DefaultVariableTypesTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testFindVariableType() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+
+        // Twice, to use the types remembered for the value class
+        for (int i = 0; i < 2; i++) {
+            assertThat(variableTypes.findVariableType(null)).isInstanceOf(NullType.class);
+            assertThat(variableTypes.findVariableType("short")).isInstanceOf(StringType.class);
+            assertThat(variableTypes.findVariableType("tooLong")).isInstanceOf(LongStringType.class);
+            assertThat(variableTypes.findVariableType(true)).isInstanceOf(BooleanType.class);
+            assertThat(variableTypes.findVariableType(1)).isInstanceOf(IntegerType.class);
+            assertThat(variableTypes.findVariableType(new Date())).isInstanceOf(DateType.class);
+            assertThat(variableTypes.findVariableType(new HashMap<>())).isInstanceOf(SerializableType.class);
+            assertThat(variableTypes.findVariableType(objectMapper.createObjectNode())).isInstanceOf(JsonType.class);
+            assertThat(variableTypes.findVariableType(objectMapper.createObjectNode().put("name", "long value"))).isInstanceOf(LongJsonType.class);
+        }
+    }
+
+    @Test
+    void testTypeAddedAfterLookup() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        assertThat(variableTypes.findVariableType(new ArrayList<>())).isInstanceOf(SerializableType.class);
+
+        variableTypes.addType(new ListType(), 0);
+        assertThat(variableTypes.findVariableType(new ArrayList<>())).isInstanceOf(ListType.class);
+
+        variableTypes.removeType(variableTypes.getVariableType(ListType.TYPE_NAME));
+        assertThat(variableTypes.findVariableType(new ArrayList<>())).isInstanceOf(SerializableType.class);
+    }
+
+    @Test
+    void testSubclassOverridingIsAbleToStore() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        variableTypes.addType(new IntegerType() {
+
+            @Override
+            public String getTypeName() {
+                return "positiveInteger";
+            }
+
+            @Override
+            public boolean isAbleToStore(Object value) {
+                return value instanceof Integer && (Integer) value > 0;
+            }
+        }, 0);
+
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("positiveInteger");
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo("integer");
+    }
+
+    @Test
+    void testJsonValueStoredWithCheckedText() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        ObjectNode node = objectMapper.createObjectNode();
+        ValueFields valueFields = new VariableInstanceEntityImpl();
+        VariableType type;
+
+        boolean opened = JsonNodeTextCache.openScope();
+        try {
+            type = variableTypes.findVariableType(node);
+            type.setValue(node, valueFields);
+            assertThat(valueFields.getTextValue()).isEqualTo("{}");
+
+            // A change after storing is not hidden by the remembered text
+            node.put("a", 1);
+            type.setValue(node, valueFields);
+            assertThat(valueFields.getTextValue()).isEqualTo("{\"a\":1}");
+        } finally {
+            JsonNodeTextCache.closeScope(opened);
+        }
+
+        // Outside of a scope a checked node is not remembered
+        assertThat(variableTypes.findVariableType(node)).isSameAs(type);
+        node.put("b", 2);
+        type.setValue(node, valueFields);
+        assertThat(valueFields.getTextValue()).isEqualTo("{\"a\":1,\"b\":2}");
+    }
+
+    protected DefaultVariableTypes createVariableTypes() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(5));
+        variableTypes.addType(new LongStringType(6));
+        variableTypes.addType(new BooleanType());
+        variableTypes.addType(new IntegerType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new JsonType(10, objectMapper));
+        variableTypes.addType(new LongJsonType(11, objectMapper));
+        variableTypes.addType(new SerializableType());
+        return variableTypes;
+    }
+
+    static class ListType extends SerializableType {
+
+        public static final String TYPE_NAME = "list";
+
+        @Override
+        public String getTypeName() {
+            return TYPE_NAME;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof ArrayList;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
+import org.junit.jupiter.api.Test;
+
+public class VariablePrefetchTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testPrefetchAllExecutionVariables() {
+        ProcessInstance processInstance = startProcessWithLocalVariables();
+
+        managementService.executeCommand(commandContext -> {
+            List<ExecutionEntity> executions = findMultiInstanceChildExecutions(processInstance.getId());
+            assertThat(executions).hasSize(3);
+
+            CommandContextUtil.getExecutionEntityManager(commandContext).prefetchVariableInstances(executions);
+
+            for (ExecutionEntity execution : executions) {
+                assertThat(((VariableScopeImpl) execution).isVariableInstancesInitialized()).isTrue();
+                assertThat(execution.getVariablesLocal())
+                        .containsEntry("myVar", "value-" + execution.getId())
+                        .containsEntry("otherVar", execution.getId().length());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testPrefetchNamedExecutionVariables() {
+        ProcessInstance processInstance = startProcessWithLocalVariables();
+
+        managementService.executeCommand(commandContext -> {
+            List<ExecutionEntity> executions = findMultiInstanceChildExecutions(processInstance.getId());
+            List<VariableScopeImpl> variableScopes = executions.stream().map(execution -> (VariableScopeImpl) execution).collect(Collectors.toList());
+
+            CommandContextUtil.getVariableService(commandContext).prefetchExecutionVariableInstances(variableScopes, Collections.singleton("myVar"));
+
+            for (VariableScopeImpl variableScope : variableScopes) {
+                assertThat(variableScope.isVariableInstancesInitialized()).isFalse();
+                assertThat(variableScope.getUsedVariablesCache()).containsOnlyKeys("myVar");
+                assertThat(variableScope.getVariableLocal("myVar", false)).isEqualTo("value-" + variableScope.getId());
+                assertThat(variableScope.getVariableLocal("otherVar", false)).isEqualTo(variableScope.getId().length());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testMultiInstanceCompletionWithLocalVariables() {
+        ProcessInstance processInstance = startProcessWithLocalVariables();
+
+        taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskDefinitionKey("parallelTasks").list()
+                .forEach(task -> taskService.complete(task.getId()));
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("nextTask");
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("parallelTasks").count()).isZero();
+        assertThat(runtimeService.getVariables(processInstance.getId())).containsOnlyKeys("nrOfLoops");
+    }
+
+    protected ProcessInstance startProcessWithLocalVariables() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelMultiInstance",
+                Collections.singletonMap("nrOfLoops", 3));
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        for (Execution execution : runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("parallelTasks").list()) {
+            runtimeService.setVariableLocal(execution.getId(), "myVar", "value-" + execution.getId());
+            runtimeService.setVariableLocal(execution.getId(), "otherVar", execution.getId().length());
+        }
+        return processInstance;
+    }
+
+    protected List<ExecutionEntity> findMultiInstanceChildExecutions(String processInstanceId) {
+        return CommandContextUtil.getExecutionEntityManager().findChildExecutionsByProcessInstanceId(processInstanceId).stream()
+                .filter(execution -> "parallelTasks".equals(execution.getActivityId()) && !execution.isMultiInstanceRoot())
+                .collect(Collectors.toList());
+    }
+
+}
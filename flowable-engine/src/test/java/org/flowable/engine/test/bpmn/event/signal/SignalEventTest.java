@@ -14,6 +14,7 @@
 package org.flowable.engine.test.bpmn.event.signal;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -26,13 +27,17 @@ import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.runtime.SignalBroadcastProgress;
 import org.flowable.engine.test.Deployment;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.job.api.Job;
 import org.flowable.task.api.Task;
 import org.flowable.validation.validator.Problems;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * @author Tijs Rademakers
  */
@@ -131,6 +136,76 @@ public class SignalEventTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+    public void testSignalCatchIntermediateInBatches() {
+        int originalBatchSize = processEngineConfiguration.getSignalBroadcastBatchSize();
+        processEngineConfiguration.setSignalBroadcastBatchSize(2);
+        try {
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+            assertEquals(5, createEventSubscriptionQuery().count());
+
+            // Only the broadcast job is created
+            String broadcastId = runtimeService.signalEventReceivedInBatches("alert", Collections.singletonMap("myVar", 123L));
+            assertEquals(5, createEventSubscriptionQuery().count());
+            assertEquals(1, managementService.createJobQuery().count());
+            assertEquals(1, runtimeService.getSignalBroadcastProgress(broadcastId).getPendingBatchCount());
+
+            // The broadcast job schedules one job per batch
+            managementService.executeJob(managementService.createJobQuery().singleResult().getId());
+            SignalBroadcastProgress progress = runtimeService.getSignalBroadcastProgress(broadcastId);
+            assertEquals(3, progress.getPendingBatchCount());
+            assertFalse(progress.isCompleted());
+
+            for (Job job : managementService.createJobQuery().list()) {
+                assertEquals(broadcastId, job.getElementId());
+                managementService.executeJob(job.getId());
+            }
+
+            assertEquals(0, createEventSubscriptionQuery().count());
+            assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            assertTrue(runtimeService.getSignalBroadcastProgress(broadcastId).isCompleted());
+
+        } finally {
+            processEngineConfiguration.setSignalBroadcastBatchSize(originalBatchSize);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml" })
+    public void testSignalInBatchesSkipsExecutionsSuspendedBeforeDelivery() {
+        ProcessInstance suspendedProcessInstance = runtimeService.startProcessInstanceByKey("catchSignal");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("catchSignal");
+
+        // A json variable is not java serializable, but is stored like a process variable
+        ObjectNode jsonVar = processEngineConfiguration.getObjectMapper().createObjectNode().put("name", "alert");
+        String broadcastId = runtimeService.signalEventReceivedInBatches("alert", Collections.singletonMap("jsonVar", jsonVar));
+        managementService.executeJob(managementService.createJobQuery().singleResult().getId());
+
+        runtimeService.suspendProcessInstanceById(suspendedProcessInstance.getId());
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeJob(job.getId());
+        }
+
+        assertTrue(runtimeService.getSignalBroadcastProgress(broadcastId).isCompleted());
+        assertEquals(1, createEventSubscriptionQuery().count());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceId(suspendedProcessInstance.getId()).count());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariable = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("jsonVar")
+                    .singleResult();
+            assertEquals(jsonVar, historicVariable.getValue());
+        }
+
+        runtimeService.activateProcessInstanceById(suspendedProcessInstance.getId());
+        runtimeService.deleteProcessInstance(suspendedProcessInstance.getId(), "test");
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchMultipleSignals.bpmn20.xml",
             "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml", "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAbortSignal.bpmn20.xml" })
@@ -14,6 +14,7 @@
 package org.flowable.engine.test.cache;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
@@ -24,7 +25,9 @@ import org.flowable.engine.TaskService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.cfg.StandaloneProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheWarmer;
 import org.flowable.engine.impl.test.AbstractTestCase;
+import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.junit.jupiter.api.Test;
@@ -154,4 +157,44 @@ public class ProcessDefinitionCacheTest extends AbstractTestCase {
         processEngine2.close();
     }
 
+    @Test
+    public void testCacheWarmUpAfterReboot() throws Exception {
+        ProcessEngines.destroy();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName("warm-up-test-schema");
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-warm-up-test;DB_CLOSE_DELAY=1000");
+        ProcessEngine schemaProcessEngine = processEngineConfiguration.buildProcessEngine();
+
+        ProcessEngine processEngine = new StandaloneProcessEngineConfiguration().setEngineName("warm-up-test").setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE)
+                .setJdbcUrl("jdbc:h2:mem:flowable-warm-up-test;DB_CLOSE_DELAY=1000").setAsyncExecutorActivate(false).buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/cache/originalProcess.bpmn20.xml").deploy();
+        processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/cache/revisedProcess.bpmn20.xml").deploy();
+        String latestProcessDefinitionId = processEngine.getRepositoryService().createProcessDefinitionQuery().latestVersion().singleResult().getId();
+        processEngine.close();
+
+        // Reboot the process engine with the cache warm-up enabled
+        ProcessEngineConfigurationImpl rebootedConfiguration = (ProcessEngineConfigurationImpl) new StandaloneProcessEngineConfiguration()
+                .setEngineName("warm-up-test")
+                .setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_FALSE)
+                .setJdbcUrl("jdbc:h2:mem:flowable-warm-up-test;DB_CLOSE_DELAY=1000")
+                .setAsyncExecutorActivate(false);
+        rebootedConfiguration.setProcessDefinitionCacheWarmUpEnabled(true);
+        processEngine = rebootedConfiguration.buildProcessEngine();
+
+        ProcessDefinitionCacheWarmer processDefinitionCacheWarmer = rebootedConfiguration.getProcessDefinitionCacheWarmer();
+        processDefinitionCacheWarmer.getCompletion().get(30, TimeUnit.SECONDS);
+
+        assertEquals(1, processDefinitionCacheWarmer.getTotalCount());
+        assertEquals(1, processDefinitionCacheWarmer.getWarmedUpCount());
+        assertEquals(0, processDefinitionCacheWarmer.getFailedCount());
+        assertNotNull(rebootedConfiguration.getProcessDefinitionCache().get(latestProcessDefinitionId));
+
+        for (Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+        schemaProcessEngine.close();
+    }
+
 }
@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.metrics.EntityMetrics;
+import org.flowable.common.engine.impl.metrics.InMemoryMetricsRecorder;
+import org.flowable.common.engine.impl.metrics.LatencyHistogram;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class MetricsEnabledTest extends CustomConfigurationFlowableTestCase {
+
+    public MetricsEnabledTest() {
+        super(MetricsEnabledTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setMetricsEnabled(true);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCommandsAndFlushesAreRecorded() {
+        assertThat(processEngineConfiguration.getMetricsRecorder()).isInstanceOf(InMemoryMetricsRecorder.class);
+        InMemoryMetricsRecorder metricsRecorder = (InMemoryMetricsRecorder) processEngineConfiguration.getMetricsRecorder();
+        metricsRecorder.reset();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        LatencyHistogram startProcessInstances = metricsRecorder.getCommandExecutions().get(StartProcessInstanceCmd.class.getName());
+        assertThat(startProcessInstances).isNotNull();
+        assertThat(startProcessInstances.getCount()).isEqualTo(1);
+        assertThat(metricsRecorder.getFlushes().getCount()).isPositive();
+
+        EntityMetrics executionMetrics = metricsRecorder.getEntityMetrics().get(ExecutionEntityImpl.class.getName());
+        assertThat(executionMetrics).isNotNull();
+        assertThat(executionMetrics.getInsertCount()).isPositive();
+    }
+
+}
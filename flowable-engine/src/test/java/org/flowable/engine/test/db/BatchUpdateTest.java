@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchUpdateTest extends CustomConfigurationFlowableTestCase {
+
+    public BatchUpdateTest() {
+        super(BatchUpdateTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setBatchUpdateEnabled(true);
+        processEngineConfiguration.setMaxNrOfStatementsInBatchUpdate(3);
+    }
+
+    @AfterEach
+    public void deleteTasks() {
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.deleteTask(task.getId(), true);
+        }
+    }
+
+    @Test
+    public void testBatchUpdate() {
+        for (int i = 0; i < 7; i++) {
+            Task task = taskService.newTask();
+            task.setName("task" + i);
+            taskService.saveTask(task);
+        }
+
+        managementService.executeCommand(commandContext -> {
+            for (Task task : taskService.createTaskQuery().list()) {
+                task.setName(task.getName() + " updated");
+            }
+            return null;
+        });
+
+        List<Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+        assertThat(tasks).hasSize(7);
+        for (int i = 0; i < 7; i++) {
+            assertThat(tasks.get(i).getName()).isEqualTo("task" + i + " updated");
+        }
+
+        // The revisions need to be correct, or the next (regular) update would fail
+        for (Task task : tasks) {
+            task.setDescription("description");
+            taskService.saveTask(task);
+        }
+        assertThat(taskService.createTaskQuery().taskDescription("description").count()).isEqualTo(7);
+    }
+
+    @Test
+    public void testBatchUpdateOptimisticLocking() {
+        for (int i = 0; i < 5; i++) {
+            Task task = taskService.newTask();
+            task.setName("task" + i);
+            taskService.saveTask(task);
+        }
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            List<Task> tasks = taskService.createTaskQuery().list();
+
+            // Concurrent update of one of the tasks in a separate transaction
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), newCommandContext -> {
+                Task task = taskService.createTaskQuery().taskId(tasks.get(2).getId()).singleResult();
+                task.setName("concurrently updated");
+                taskService.saveTask(task);
+                return null;
+            });
+
+            for (Task task : tasks) {
+                task.setName(task.getName() + " updated");
+            }
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(taskService.createTaskQuery().taskName("concurrently updated").count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskNameLike("% updated").count()).isEqualTo(1);
+    }
+
+}
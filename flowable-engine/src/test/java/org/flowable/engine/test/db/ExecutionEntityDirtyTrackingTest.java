@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionEntityDirtyTrackingTest {
+
+    @Test
+    public void testUnchangedExecutionIsNotUpdated() {
+        ExecutionEntityImpl execution = createLoadedExecution();
+        CachedEntity cachedEntity = new CachedEntity(execution, true);
+        assertThat(cachedEntity.hasChanged()).isFalse();
+
+        // Setting the same values doesn't make it dirty
+        execution.setName("name");
+        execution.setActive(true);
+        execution.setTaskCount(2);
+        execution.setStartTime(new Date(1000L));
+        assertThat(cachedEntity.hasChanged()).isFalse();
+    }
+
+    @Test
+    public void testChangedExecutionIsUpdated() {
+        ExecutionEntityImpl execution = createLoadedExecution();
+        CachedEntity cachedEntity = new CachedEntity(execution, true);
+
+        execution.setTaskCount(3);
+        assertThat(cachedEntity.hasChanged()).isTrue();
+
+        execution = createLoadedExecution();
+        cachedEntity = new CachedEntity(execution, true);
+        execution.inactivate();
+        assertThat(cachedEntity.hasChanged()).isTrue();
+
+        execution = createLoadedExecution();
+        cachedEntity = new CachedEntity(execution, true);
+        execution.forceUpdate();
+        assertThat(cachedEntity.hasChanged()).isTrue();
+    }
+
+    @Test
+    public void testDirtyTrackingMatchesPersistentState() {
+        ExecutionEntityImpl execution = createLoadedExecution();
+        CachedEntity cachedEntity = new CachedEntity(execution, true);
+        Object originalPersistentState = execution.getPersistentState();
+
+        execution.setParentId("parent");
+        execution.setRootProcessInstanceId("root");
+        execution.setLockTime(new Date(2000L));
+        execution.setCallbackId("callback");
+
+        assertThat(cachedEntity.hasChanged()).isTrue();
+        assertThat(execution.getPersistentState()).isNotEqualTo(originalPersistentState);
+    }
+
+    @Test
+    public void testNotStoredStateIsAlwaysChanged() {
+        ExecutionEntityImpl execution = createLoadedExecution();
+        assertThat(new CachedEntity(execution, false).hasChanged()).isTrue();
+    }
+
+    protected ExecutionEntityImpl createLoadedExecution() {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId("1");
+        execution.setName("name");
+        execution.setTaskCount(2);
+        execution.setStartTime(new Date(1000L));
+        return execution;
+    }
+
+}
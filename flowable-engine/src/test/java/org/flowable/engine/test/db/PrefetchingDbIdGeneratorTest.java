@@ -0,0 +1,177 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest {
+
+    protected IdBlockCommandExecutor commandExecutor;
+    protected PrefetchingDbIdGenerator idGenerator;
+
+    @BeforeEach
+    public void createIdGenerator() {
+        commandExecutor = new IdBlockCommandExecutor();
+        idGenerator = new PrefetchingDbIdGenerator();
+        idGenerator.setIdBlockSize(100);
+        idGenerator.setMaxIdBlockSize(1000);
+        idGenerator.setCommandExecutor(commandExecutor);
+        idGenerator.setCommandConfig(new CommandConfig().transactionRequiresNew());
+    }
+
+    @AfterEach
+    public void shutdownIdGenerator() {
+        idGenerator.shutdown();
+    }
+
+    @Test
+    public void testSequentialIds() {
+        for (int i = 1; i <= 250; i++) {
+            assertThat(idGenerator.getNextId()).isEqualTo(String.valueOf(i));
+        }
+        assertThat(commandExecutor.nrOfBlocksFetched.get()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testConcurrentIdsAreUnique() throws Exception {
+        int nrOfThreads = 16;
+        int nrOfIdsPerThread = 5000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < nrOfThreads; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < nrOfIdsPerThread; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(nrOfThreads * nrOfIdsPerThread);
+    }
+
+    @Test
+    public void testBlockSizeAdaptsToConsumption() {
+        idGenerator.setTargetIdBlockDurationMillis(60000L);
+        for (int i = 0; i < 5000; i++) {
+            idGenerator.getNextId();
+        }
+        assertThat(idGenerator.getNextIdBlockSize()).isGreaterThan(100).isLessThanOrEqualTo(1000);
+    }
+
+    @Test
+    public void testShutdownReleasesWaitingThreads() throws Exception {
+        commandExecutor.fetchStarted = new CountDownLatch(1);
+        commandExecutor.releaseFetch = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> nextId = executorService.submit(() -> idGenerator.getNextId());
+            assertThat(commandExecutor.fetchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            idGenerator.shutdown();
+
+            assertThatThrownBy(() -> nextId.get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(FlowableException.class);
+        } finally {
+            commandExecutor.releaseFetch.countDown();
+            executorService.shutdownNow();
+        }
+
+        // The generator fetches a new block after the shutdown
+        commandExecutor.fetchStarted = null;
+        commandExecutor.releaseFetch = null;
+        assertThat(idGenerator.getNextId()).isNotNull();
+    }
+
+    protected static class IdBlockCommandExecutor implements CommandExecutor {
+
+        protected AtomicLong nextDbId = new AtomicLong(1L);
+        protected AtomicInteger nrOfBlocksFetched = new AtomicInteger();
+        protected volatile CountDownLatch fetchStarted;
+        protected volatile CountDownLatch releaseFetch;
+
+        @Override
+        public CommandConfig getDefaultConfig() {
+            return new CommandConfig();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(CommandConfig config, Command<T> command) {
+            CountDownLatch started = fetchStarted;
+            CountDownLatch release = releaseFetch;
+            if (started != null && release != null) {
+                started.countDown();
+                awaitIgnoringInterrupts(release);
+            }
+
+            int idBlockSize = ((GetNextIdBlockCmd) command).getIdBlockSize();
+            long oldValue = nextDbId.getAndAdd(idBlockSize);
+            nrOfBlocksFetched.incrementAndGet();
+            return (T) new IdBlock(oldValue, oldValue + idBlockSize - 1);
+        }
+
+        @Override
+        public <T> T execute(Command<T> command) {
+            return execute(getDefaultConfig(), command);
+        }
+
+        protected void awaitIgnoringInterrupts(CountDownLatch latch) {
+            // Simulates a database call that does not react to the interrupt of the executor shutdown
+            while (true) {
+                try {
+                    latch.await();
+                    return;
+                } catch (InterruptedException e) {
+                    // keep waiting
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cmd.CleanHistoricProcessInstancesCmd;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HistoricProcessInstanceCleanupTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    public void resetClock() {
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
+    public void testCleanHistoricProcessInstancesEndedBefore() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() - TimeUnit.DAYS.toMillis(10)));
+        List<String> oldProcessInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "value" + i));
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.addComment(task.getId(), processInstance.getId(), "comment");
+            taskService.complete(task.getId());
+            oldProcessInstanceIds.add(processInstance.getId());
+        }
+
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        ProcessInstance recentProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "recent"));
+        taskService.complete(taskService.createTaskQuery().processInstanceId(recentProcessInstance.getId()).singleResult().getId());
+        ProcessInstance runningProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(4);
+
+        Date endedBefore = new Date(now.getTime() - TimeUnit.DAYS.toMillis(5));
+        assertThat(managementService.executeCommand(new CleanHistoricProcessInstancesCmd(endedBefore, 2))).isEqualTo(2);
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(2);
+        assertThat(managementService.executeCommand(new CleanHistoricProcessInstancesCmd(endedBefore, 2))).isEqualTo(1);
+        assertThat(managementService.executeCommand(new CleanHistoricProcessInstancesCmd(endedBefore, 2))).isZero();
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                .extracting(historicProcessInstance -> historicProcessInstance.getId())
+                .containsExactlyInAnyOrder(recentProcessInstance.getId(), runningProcessInstance.getId());
+        assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(2);
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(recentProcessInstance.getId()).count()).isGreaterThan(0);
+        assertThat(historyService.createHistoricActivityInstanceQuery().count())
+                .isEqualTo(historyService.createHistoricActivityInstanceQuery().processInstanceId(recentProcessInstance.getId()).count()
+                        + historyService.createHistoricActivityInstanceQuery().processInstanceId(runningProcessInstance.getId()).count());
+        assertThat(historyService.createHistoricVariableInstanceQuery().list())
+                .extracting(historicVariableInstance -> historicVariableInstance.getValue())
+                .containsExactly("recent");
+        for (String processInstanceId : oldProcessInstanceIds) {
+            assertThat(taskService.getProcessInstanceComments(processInstanceId)).isEmpty();
+        }
+    }
+
+}
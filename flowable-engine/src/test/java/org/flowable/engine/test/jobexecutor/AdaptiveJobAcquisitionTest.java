@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.job.service.impl.asyncexecutor.AdaptiveJobAcquisition;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveJobAcquisitionTest {
+
+    @Test
+    public void testAcquisitionSizeWithoutExecutedJobs() {
+        AdaptiveJobAcquisition adaptiveJobAcquisition = new AdaptiveJobAcquisition();
+
+        // All threads idle, one queued job per thread
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 0, 0, 100)).isEqualTo(8);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 4, 4, 96)).isEqualTo(0);
+
+        // Never more than the queue can take
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 0, 0, 3)).isEqualTo(3);
+    }
+
+    @Test
+    public void testAcquisitionSizeFollowsExecutionTime() {
+        AdaptiveJobAcquisition adaptiveJobAcquisition = new AdaptiveJobAcquisition();
+        adaptiveJobAcquisition.setTargetQueueWaitTimeInMillis(1000L);
+
+        // Slow jobs: 4 threads can only execute 4 jobs of 1 second within the target wait time
+        adaptiveJobAcquisition.jobExecuted(1000L);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 4, 0, 100)).isEqualTo(4);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 4, 4, 96)).isEqualTo(0);
+
+        // Fast jobs: the average moves towards 10 ms
+        for (int i = 0; i < 100; i++) {
+            adaptiveJobAcquisition.jobExecuted(10L);
+        }
+        assertThat(adaptiveJobAcquisition.getAverageJobExecutionTimeInMillis()).isLessThan(11.0);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 4, 0, 1000)).isBetween(360, 400);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 4, 0, 100)).isEqualTo(100);
+    }
+
+    @Test
+    public void testBackoffOnOptimisticLockingFailures() {
+        AdaptiveJobAcquisition adaptiveJobAcquisition = new AdaptiveJobAcquisition();
+        adaptiveJobAcquisition.setMinBackoffTimeInMillis(100L);
+        adaptiveJobAcquisition.setMaxBackoffTimeInMillis(1000L);
+
+        long backoffTime = adaptiveJobAcquisition.acquisitionFailedWithOptimisticLocking();
+        assertThat(backoffTime).isBetween(50L, 100L);
+        assertThat(adaptiveJobAcquisition.getAcquisitionSizeFactor()).isEqualTo(0.5);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 0, 0, 100)).isEqualTo(4);
+
+        adaptiveJobAcquisition.acquisitionFailedWithOptimisticLocking();
+        backoffTime = adaptiveJobAcquisition.acquisitionFailedWithOptimisticLocking();
+        assertThat(backoffTime).isBetween(200L, 400L);
+        for (int i = 0; i < 10; i++) {
+            backoffTime = adaptiveJobAcquisition.acquisitionFailedWithOptimisticLocking();
+        }
+        assertThat(backoffTime).isBetween(500L, 1000L);
+        assertThat(adaptiveJobAcquisition.getOptimisticLockingFailureCount()).isEqualTo(13);
+
+        // Successful acquisitions gradually restore the acquisition size
+        for (int i = 0; i < 50; i++) {
+            adaptiveJobAcquisition.acquisitionSucceeded();
+        }
+        assertThat(adaptiveJobAcquisition.getOptimisticLockingFailureRate()).isLessThan(0.1);
+        assertThat(adaptiveJobAcquisition.getAcquisitionSizeFactor()).isEqualTo(1.0);
+        assertThat(adaptiveJobAcquisition.determineAcquisitionSize(4, 0, 0, 100)).isEqualTo(8);
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkJobLockingTest extends CustomConfigurationFlowableTestCase {
+
+    protected Deployment deployment;
+
+    public BulkJobLockingTest() {
+        super(BulkJobLockingTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setJobAcquisitionBulkLockingEnabled(true);
+        processEngineConfiguration.setAsyncExecutorMaxAsyncJobsDuePerAcquisition(10);
+    }
+
+    @BeforeEach
+    public void deployProcess() {
+        deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void deleteDeployment() {
+        repositoryService.deleteDeployment(deployment.getId(), true);
+    }
+
+    @Test
+    public void testAcquireJobsWithBulkLocking() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("myProcess");
+        }
+
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor()));
+        assertThat(acquiredJobs.size()).isEqualTo(3);
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            assertThat(job.getLockOwner()).isEqualTo(processEngineConfiguration.getAsyncExecutor().getLockOwner());
+            assertThat(job.getLockExpirationTime()).isNotNull();
+            assertThat(job.getRevision()).isEqualTo(2);
+        }
+        assertThat(managementService.createJobQuery().locked().count()).isEqualTo(3);
+
+        // All jobs are locked now
+        acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor()));
+        assertThat(acquiredJobs.size()).isZero();
+    }
+
+    @Test
+    public void testConcurrentlyLockedJobsAreSkipped() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("myProcess");
+        }
+
+        JobEntityManager jobEntityManager = ((JobServiceConfiguration) processEngineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG)).getJobEntityManager();
+
+        List<JobEntity> lockedJobs = managementService.executeCommand(commandContext -> {
+            List<JobEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, 10));
+            assertThat(jobs).hasSize(3);
+
+            // Another executor locks one of the jobs first
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), newCommandContext -> {
+                jobEntityManager.lockJobs(jobEntityManager.findJobsToExecute(new Page(0, 1)), "otherLockOwner", new Date());
+                return null;
+            });
+
+            return jobEntityManager.lockJobs(jobs, "lockOwner", new Date());
+        });
+
+        assertThat(lockedJobs).hasSize(2).extracting(JobEntity::getLockOwner).containsOnly("lockOwner");
+        assertThat(managementService.createJobQuery().lockOwner("otherLockOwner").count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.asyncexecutor.LocalAsyncJobWakeUpSource;
+import org.junit.jupiter.api.Test;
+
+public class LocalAsyncJobWakeUpSourceTest {
+
+    @Test
+    public void testAwaitTimesOutWithoutWakeUp() throws Exception {
+        LocalAsyncJobWakeUpSource wakeUpSource = new LocalAsyncJobWakeUpSource();
+        long start = System.nanoTime();
+        assertThat(wakeUpSource.await(50L)).isFalse();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(45L);
+    }
+
+    @Test
+    public void testWakeUpBeforeAwaitIsNotLost() throws Exception {
+        LocalAsyncJobWakeUpSource wakeUpSource = new LocalAsyncJobWakeUpSource();
+        wakeUpSource.jobAvailable(null);
+        wakeUpSource.jobAvailable(null);
+
+        // Multiple wake-ups result in one immediate return
+        assertThat(wakeUpSource.await(10000L)).isTrue();
+        assertThat(wakeUpSource.await(10L)).isFalse();
+        assertThat(wakeUpSource.getWakeUpCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testWakeUpWaitingThread() throws Exception {
+        LocalAsyncJobWakeUpSource wakeUpSource = new LocalAsyncJobWakeUpSource();
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return wakeUpSource.await(10000L);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+
+        Thread.sleep(50L);
+        long start = System.nanoTime();
+        wakeUpSource.wakeUp();
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000L);
+    }
+
+}
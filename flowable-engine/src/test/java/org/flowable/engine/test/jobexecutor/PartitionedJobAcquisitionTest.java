@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedJobAcquisition;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.junit.jupiter.api.Test;
+
+public class PartitionedJobAcquisitionTest {
+
+    @Test
+    public void testOwnPartitionFirst() {
+        List<JobEntity> candidates = createJobs(100);
+
+        for (int partition = 0; partition < 4; partition++) {
+            PartitionedJobAcquisition partitionedJobAcquisition = new PartitionedJobAcquisition(4, partition);
+            long ownJobs = candidates.stream().filter(job -> partitionedJobAcquisition.getPartition(job.getId()) == partitionedJobAcquisition.getPartition()).count();
+
+            List<JobEntity> selectedJobs = partitionedJobAcquisition.selectJobs(candidates, 5);
+            assertThat(selectedJobs).hasSize(5);
+            if (ownJobs >= 5) {
+                assertThat(selectedJobs).allMatch(job -> partitionedJobAcquisition.getPartition(job.getId()) == partitionedJobAcquisition.getPartition());
+            }
+        }
+    }
+
+    @Test
+    public void testDifferentPartitionsSelectDifferentJobs() {
+        List<JobEntity> candidates = createJobs(400);
+
+        List<JobEntity> selectedJobs = new ArrayList<>();
+        for (int partition = 0; partition < 4; partition++) {
+            selectedJobs.addAll(new PartitionedJobAcquisition(4, partition).selectJobs(candidates, 10));
+        }
+        assertThat(selectedJobs).hasSize(40).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testTopUpFromOtherPartitions() {
+        List<JobEntity> candidates = createJobs(10);
+        PartitionedJobAcquisition partitionedJobAcquisition = new PartitionedJobAcquisition(4, 0);
+
+        assertThat(partitionedJobAcquisition.selectJobs(candidates, 8)).hasSize(8).doesNotHaveDuplicates();
+        assertThat(partitionedJobAcquisition.selectJobs(candidates, 20)).hasSize(10);
+        assertThat(partitionedJobAcquisition.getCandidateCount(8)).isEqualTo(32);
+        assertThat(partitionedJobAcquisition.getCandidateCount(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testEffectiveStrategy() {
+        JobServiceConfiguration jobServiceConfiguration = new JobServiceConfiguration("test");
+        assertThat(jobServiceConfiguration.getJobAcquisitionStrategy("h2")).isEqualTo(JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_DEFAULT);
+
+        jobServiceConfiguration.setJobAcquisitionStrategy(JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_SKIP_LOCKED);
+        assertThat(jobServiceConfiguration.getJobAcquisitionStrategy("postgres")).isEqualTo(JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_SKIP_LOCKED);
+        assertThat(jobServiceConfiguration.getJobAcquisitionStrategy("oracle")).isEqualTo(JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_PARTITIONED);
+
+        // MySQL 5.7 has the mysql database type, but no skip locked
+        jobServiceConfiguration.setSkipLockedSupported(false);
+        assertThat(jobServiceConfiguration.getJobAcquisitionStrategy("mysql")).isEqualTo(JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_PARTITIONED);
+        jobServiceConfiguration.setSkipLockedSupported(null);
+
+        jobServiceConfiguration.setJobAcquisitionPartitionCount(3);
+        jobServiceConfiguration.setJobAcquisitionPartition(7);
+        assertThat(PartitionedJobAcquisition.create(jobServiceConfiguration, "owner").getPartition()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSkipLockedSupportedVersions() {
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("postgres", "PostgreSQL", "9.4.26", 9, 4)).isFalse();
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("postgres", "PostgreSQL", "9.5.25", 9, 5)).isTrue();
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("postgres", "PostgreSQL", "14.2", 14, 2)).isTrue();
+
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("mysql", "MySQL", "5.7.41", 5, 7)).isFalse();
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("mysql", "MySQL", "8.0.32", 8, 0)).isTrue();
+
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("mysql", "MariaDB", "10.5.19-MariaDB", 10, 5)).isFalse();
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("mysql", "MariaDB", "10.6.12-MariaDB", 10, 6)).isTrue();
+        // MariaDB connected with a MySQL driver
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("mysql", "MySQL", "5.5.5-10.4.28-MariaDB-1:10.4.28+maria~ubu2004", 5, 5)).isFalse();
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("mysql", "MySQL", "5.5.5-11.0.2-MariaDB", 5, 5)).isTrue();
+
+        assertThat(JobServiceConfiguration.isSkipLockedSupported("oracle", "Oracle", "19.0.0.0.0", 19, 0)).isFalse();
+    }
+
+    protected List<JobEntity> createJobs(int count) {
+        List<JobEntity> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            JobEntity job = new JobEntityImpl();
+            job.setId(String.valueOf(1000 + i));
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+}
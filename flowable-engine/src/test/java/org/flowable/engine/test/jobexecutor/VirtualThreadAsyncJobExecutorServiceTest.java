@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.metrics.InMemoryMetricsRecorder;
+import org.flowable.job.service.impl.asyncexecutor.VirtualThreadAsyncJobExecutorService;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadAsyncJobExecutorServiceTest {
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+        VirtualThreadAsyncJobExecutorService executorService = createExecutorService(3);
+        InMemoryMetricsRecorder metricsRecorder = new InMemoryMetricsRecorder();
+        executorService.setMetricsRecorder(metricsRecorder);
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 3; i++) {
+                executorService.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executorService.getActiveJobsCount()).isEqualTo(3);
+            assertThat(executorService.getAvailablePermits()).isZero();
+
+            // No queue: all permits taken means the job is rejected
+            assertThatThrownBy(() -> executorService.execute(() -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(executorService.getRejectedJobsCount()).isEqualTo(1);
+
+            assertThat(metricsRecorder.getInFlightJobs()).isEqualTo(3);
+            assertThat(metricsRecorder.getMaxInFlightJobs()).isEqualTo(3);
+            assertThat(metricsRecorder.getRejectedJobSubmissionsCount()).isEqualTo(1);
+            assertThat(metricsRecorder.getJobStartDelays().getCount()).isEqualTo(3);
+
+        } finally {
+            release.countDown();
+        }
+
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executorService.getExecutedJobsCount()).isEqualTo(3);
+        assertThat(executorService.getAvailablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRejectedAfterShutdown() {
+        VirtualThreadAsyncJobExecutorService executorService = createExecutorService(3);
+        executorService.shutdown();
+
+        assertThatThrownBy(() -> executorService.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executorService.getAvailablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    public void testNoVirtualThreads() {
+        assumeFalse(VirtualThreadAsyncJobExecutorService.isVirtualThreadsAvailable());
+
+        // No fallback to a platform thread per job, which would allow as many threads as permits
+        assertThatThrownBy(() -> new VirtualThreadAsyncJobExecutorService(3, "test-job-thread-"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Virtual threads are not available");
+    }
+
+    protected VirtualThreadAsyncJobExecutorService createExecutorService(int maxConcurrentJobs) {
+        if (VirtualThreadAsyncJobExecutorService.isVirtualThreadsAvailable()) {
+            return new VirtualThreadAsyncJobExecutorService(maxConcurrentJobs, "test-job-thread-");
+        }
+
+        // The permits don't depend on the kind of threads, so they are tested with platform threads on older runtimes
+        return new VirtualThreadAsyncJobExecutorService(maxConcurrentJobs, "test-job-thread-") {
+
+            @Override
+            protected ExecutorService createVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+                return Executors.newCachedThreadPool();
+            }
+        };
+    }
+
+}
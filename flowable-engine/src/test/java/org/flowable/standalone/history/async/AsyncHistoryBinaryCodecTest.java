@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class AsyncHistoryBinaryCodecTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEncodeAndDecode() throws Exception {
+        ArrayNode historyNodes = createHistoryNodes(20);
+
+        for (boolean deflate : new boolean[] { false, true }) {
+            byte[] bytes = AsyncHistoryBinaryCodec.encode(historyNodes, deflate);
+            assertThat(AsyncHistoryBinaryCodec.isBinaryPayload(bytes)).isTrue();
+
+            JsonNode decodedNode = AsyncHistoryBinaryCodec.decode(bytes);
+            assertThat(decodedNode).isEqualTo(historyNodes);
+            assertThat(objectMapper.writeValueAsString(decodedNode)).isEqualTo(objectMapper.writeValueAsString(historyNodes));
+        }
+    }
+
+    @Test
+    public void testEncodedSmallerThanJson() throws Exception {
+        ArrayNode historyNodes = createHistoryNodes(50);
+        byte[] json = objectMapper.writeValueAsBytes(historyNodes);
+
+        assertThat(AsyncHistoryBinaryCodec.encode(historyNodes, false).length).isLessThan(json.length / 2);
+        assertThat(AsyncHistoryBinaryCodec.encode(historyNodes, true).length).isLessThan(AsyncHistoryBinaryCodec.encode(historyNodes, false).length);
+    }
+
+    @Test
+    public void testDecodeInvalidData() {
+        assertThatThrownBy(() -> AsyncHistoryBinaryCodec.decode("[{\"type\":\"activity-start\"}]".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(FlowableException.class);
+
+        byte[] bytes = AsyncHistoryBinaryCodec.encode(createHistoryNodes(2), false);
+        assertThatThrownBy(() -> AsyncHistoryBinaryCodec.decode(Arrays.copyOf(bytes, bytes.length - 5)))
+                .isInstanceOf(FlowableException.class);
+    }
+
+    protected ArrayNode createHistoryNodes(int count) {
+        ArrayNode arrayNode = objectMapper.createArrayNode();
+        for (int i = 0; i < count; i++) {
+            ObjectNode historyNode = arrayNode.addObject();
+            historyNode.put("type", i % 2 == 0 ? "activity-start" : "activity-full");
+            ObjectNode data = historyNode.putObject("data");
+            data.put("processInstanceId", "12345");
+            data.put("processDefinitionId", "oneTaskProcess:1:4");
+            data.put("activityId", "theTask" + i);
+            data.put("startTime", "2019-04-23T10:15:30.000+02:00");
+            data.put("revision", i);
+            data.put("duration", 1234567890123L * i);
+            data.put("negative", -i);
+            data.put("doubleValue", 0.1 * i);
+            data.put("decimalValue", new BigDecimal("12345678901234567890.123"));
+            data.put("flag", i % 3 == 0);
+            data.putNull("tenantId");
+            data.put("bytes", new byte[] { 1, 2, (byte) i });
+            data.put("description", "A description that is longer than the dictionary strings, so it is not added to the dictionary " + i);
+            data.put("unicode", "é中文");
+            data.putArray("list").add(1).add("two").add(3.0);
+        }
+        return arrayNode;
+    }
+
+}
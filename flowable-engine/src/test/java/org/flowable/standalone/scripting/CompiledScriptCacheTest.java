@@ -0,0 +1,244 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.scripting.CompiledScriptCache;
+import org.flowable.common.engine.impl.scripting.ScriptingEngines;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.junit.jupiter.api.Test;
+
+class CompiledScriptCacheTest {
+
+    @Test
+    void testCompiledScriptIsReused() {
+        TestScriptEngineFactory scriptEngineFactory = new TestScriptEngineFactory("MULTITHREADED");
+        ScriptingEngines scriptingEngines = new TestScriptingEngines(scriptEngineFactory);
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(10);
+        scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+
+        assertThat(scriptingEngines.evaluate("1", "test", null)).isEqualTo(2);
+        assertThat(scriptingEngines.evaluate("1", "test", null)).isEqualTo(2);
+        assertThat(scriptEngineFactory.compilations).hasValue(1);
+        assertThat(compiledScriptCache.size()).isEqualTo(1);
+        assertThat(compiledScriptCache.getMissCount()).isEqualTo(1);
+        assertThat(compiledScriptCache.getHitCount()).isEqualTo(1);
+
+        assertThat(scriptingEngines.evaluate("2", "test", null)).isEqualTo(3);
+        assertThat(scriptEngineFactory.compilations).hasValue(2);
+        assertThat(compiledScriptCache.size()).isEqualTo(2);
+        assertThat(compiledScriptCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testCacheLimit() {
+        ScriptingEngines scriptingEngines = new TestScriptingEngines(new TestScriptEngineFactory("MULTITHREADED"));
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(2);
+        scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(scriptingEngines.evaluate(String.valueOf(i), "test", null)).isEqualTo(1 + i);
+        }
+        assertThat(compiledScriptCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void testNotCompiledForSingleThreadedEngine() {
+        TestScriptEngineFactory scriptEngineFactory = new TestScriptEngineFactory(null);
+        ScriptingEngines scriptingEngines = new TestScriptingEngines(scriptEngineFactory);
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(10);
+        scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+
+        assertThat(scriptingEngines.evaluate("1", "test", null)).isEqualTo(2);
+        assertThat(scriptEngineFactory.compilations).hasValue(0);
+        assertThat(compiledScriptCache.size()).isZero();
+    }
+
+    @Test
+    void testCompilationError() {
+        ScriptingEngines scriptingEngines = new TestScriptingEngines(new TestScriptEngineFactory("MULTITHREADED"));
+        CompiledScriptCache compiledScriptCache = new CompiledScriptCache(10);
+        scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+
+        assertThatThrownBy(() -> scriptingEngines.evaluate("invalid", "test", null))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageStartingWith("problem evaluating script");
+        assertThat(compiledScriptCache.size()).isZero();
+    }
+
+    static class TestScriptingEngines extends ScriptingEngines {
+
+        TestScriptingEngines(ScriptEngineFactory scriptEngineFactory) {
+            super(new ScriptEngineManager());
+            addScriptEngineFactory(scriptEngineFactory);
+        }
+
+        @Override
+        protected Bindings createBindings(VariableScope variableScope) {
+            return new SimpleBindings(Collections.singletonMap("input", 1));
+        }
+    }
+
+    /**
+     * Scripts are a number, which is added to the 'input' binding.
+     */
+    static class TestScriptEngine extends AbstractScriptEngine implements Compilable {
+
+        protected TestScriptEngineFactory factory;
+
+        TestScriptEngine(TestScriptEngineFactory factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object eval(String script, ScriptContext context) throws ScriptException {
+            return parse(script) + (Integer) context.getAttribute("input");
+        }
+
+        @Override
+        public Object eval(Reader reader, ScriptContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompiledScript compile(String script) throws ScriptException {
+            int value = parse(script);
+            factory.compilations.incrementAndGet();
+            return new CompiledScript() {
+
+                @Override
+                public Object eval(ScriptContext context) {
+                    return value + (Integer) context.getAttribute("input");
+                }
+
+                @Override
+                public ScriptEngine getEngine() {
+                    return TestScriptEngine.this;
+                }
+            };
+        }
+
+        @Override
+        public CompiledScript compile(Reader script) {
+            throw new UnsupportedOperationException();
+        }
+
+        protected int parse(String script) throws ScriptException {
+            try {
+                return Integer.parseInt(script);
+            } catch (NumberFormatException e) {
+                throw new ScriptException("Not a number: " + script);
+            }
+        }
+
+        @Override
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        @Override
+        public ScriptEngineFactory getFactory() {
+            return factory;
+        }
+    }
+
+    static class TestScriptEngineFactory implements ScriptEngineFactory {
+
+        protected String threading;
+        protected AtomicInteger compilations = new AtomicInteger();
+
+        TestScriptEngineFactory(String threading) {
+            this.threading = threading;
+        }
+
+        @Override
+        public String getEngineName() {
+            return "test";
+        }
+
+        @Override
+        public String getEngineVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public List<String> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getMimeTypes() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getNames() {
+            return Collections.singletonList("test");
+        }
+
+        @Override
+        public String getLanguageName() {
+            return "test";
+        }
+
+        @Override
+        public String getLanguageVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public Object getParameter(String key) {
+            return "THREADING".equals(key) ? threading : null;
+        }
+
+        @Override
+        public String getMethodCallSyntax(String obj, String m, String... args) {
+            return null;
+        }
+
+        @Override
+        public String getOutputStatement(String toDisplay) {
+            return null;
+        }
+
+        @Override
+        public String getProgram(String... statements) {
+            return null;
+        }
+
+        @Override
+        public ScriptEngine getScriptEngine() {
+            return new TestScriptEngine(this);
+        }
+    }
+
+}
@@ -50,6 +50,12 @@ public interface EventSubscriptionService {
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(String scopeId, String scopeType, String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
+
+    /**
+     * Returns only the ids of the signal event subscriptions that {@link #findSignalEventSubscriptionsByEventName(String, String)} returns,
+     * without loading the subscriptions themselves. Subscriptions created in the current transaction are not included.
+     */
+    List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId);
     
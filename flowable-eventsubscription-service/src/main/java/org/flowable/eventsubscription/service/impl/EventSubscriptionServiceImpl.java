@@ -89,6 +89,11 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId) {
+        return getEventSubscriptionEntityManager().findSignalEventSubscriptionIdsByEventName(eventName, tenantId);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId) {
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByNameAndExecution(eventName, executionId);
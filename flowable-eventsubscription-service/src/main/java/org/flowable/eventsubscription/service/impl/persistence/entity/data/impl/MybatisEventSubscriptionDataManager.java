@@ -150,6 +150,17 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findSignalEventSubscriptionIdsByEventName(final String eventName, final String tenantId) {
+        final Map<String, String> params = new HashMap<>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        return getDbSqlSession().selectList("selectSignalEventSubscriptionIdsByEventName", params);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -332,6 +332,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
 
     @Override
     public void initCommandExecutors() {
+        initMetricsRecorder();
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
@@ -12,16 +12,22 @@
  */
 package org.flowable.job.service;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -31,6 +37,7 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.job.service.impl.history.async.AsyncHistoryPayloadMerger;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManagerImpl;
@@ -70,6 +77,28 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public static String JOB_EXECUTION_SCOPE_ALL = "all";
     public static String JOB_EXECUTION_SCOPE_CMMN = "cmmn";
 
+    /**
+     * Jobs are selected without coordination between the async executors and locked with an optimistic update.
+     */
+    public static final String JOB_ACQUISITION_STRATEGY_DEFAULT = "default";
+
+    /**
+     * Jobs are selected with {@code select ... for update skip locked}, so concurrent acquisitions never select the same jobs.
+     * On databases that don't support this, the {@link #JOB_ACQUISITION_STRATEGY_PARTITIONED} strategy is used instead.
+     */
+    public static final String JOB_ACQUISITION_STRATEGY_SKIP_LOCKED = "skipLocked";
+
+    /**
+     * Every async executor prefers the jobs of its own slice of the job id hash space, see {@link #getJobAcquisitionPartitionCount()}.
+     */
+    public static final String JOB_ACQUISITION_STRATEGY_PARTITIONED = "partitioned";
+
+    // The version is checked as well, see isSkipLockedSupported
+    protected static final Set<String> SKIP_LOCKED_DATABASE_TYPES = new HashSet<>(Arrays.asList("postgres", "mysql"));
+
+    // MariaDB reports a version like 5.5.5-10.6.12-MariaDB to MySQL drivers
+    protected static final Pattern MARIADB_VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+)\\.\\d+-MariaDB", Pattern.CASE_INSENSITIVE);
+
     // SERVICES
     // /////////////////////////////////////////////////////////////////
 
@@ -109,8 +138,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected MetricsRecorder metricsRecorder;
     
     protected String jobExecutionScope;
+    protected String jobAcquisitionStrategy = JOB_ACQUISITION_STRATEGY_DEFAULT;
+    protected Boolean skipLockedSupported;
+    protected int jobAcquisitionPartitionCount = 8;
+    protected int jobAcquisitionPartition = -1;
+    protected boolean jobAcquisitionBulkLockingEnabled;
     protected Map<String, JobHandler> jobHandlers;
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
@@ -125,11 +160,17 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     
     protected String jobTypeAsyncHistory;
     protected String jobTypeAsyncHistoryZipped;
+    protected String jobTypeAsyncHistoryBinary;
     
     protected boolean asyncHistoryJsonGzipCompressionEnabled;
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+    protected boolean asyncHistoryBinaryEncodingEnabled;
+    protected boolean asyncHistoryPayloadMergingEnabled;
+    protected int asyncHistoryPayloadMergingMaxSize = 500;
+    protected long asyncHistoryPayloadMergingMaxWaitTime = 1000L;
+    protected AsyncHistoryPayloadMerger asyncHistoryPayloadMerger;
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -142,6 +183,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initAsyncHistoryPayloadMerger();
     }
 
     @Override
@@ -161,6 +203,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return historyLevel != HistoryLevel.NONE;
     }
 
+    public void initAsyncHistoryPayloadMerger() {
+        if (asyncHistoryPayloadMergingEnabled && asyncHistoryPayloadMerger == null) {
+            asyncHistoryPayloadMerger = new AsyncHistoryPayloadMerger(this);
+        }
+    }
+
     // Job manager ///////////////////////////////////////////////////////////
 
     public void initJobManager() {
@@ -398,6 +446,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncExecutor = asyncExecutor;
         return this;
     }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public JobServiceConfiguration setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return this;
+    }
     
     public AsyncExecutor getAsyncHistoryExecutor() {
         return asyncHistoryExecutor;
@@ -435,6 +492,113 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public String getJobAcquisitionStrategy() {
+        return jobAcquisitionStrategy;
+    }
+
+    public JobServiceConfiguration setJobAcquisitionStrategy(String jobAcquisitionStrategy) {
+        this.jobAcquisitionStrategy = jobAcquisitionStrategy;
+        return this;
+    }
+
+    /**
+     * Returns the job acquisition strategy that is used on the given database type:
+     * the {@link #JOB_ACQUISITION_STRATEGY_SKIP_LOCKED} strategy falls back to {@link #JOB_ACQUISITION_STRATEGY_PARTITIONED}
+     * when the database doesn't support {@code skip locked}. When {@link #getSkipLockedSupported()} is set, it decides instead of the database type.
+     */
+    public String getJobAcquisitionStrategy(String databaseType) {
+        boolean skipLocked = skipLockedSupported != null ? skipLockedSupported : SKIP_LOCKED_DATABASE_TYPES.contains(databaseType);
+        if (JOB_ACQUISITION_STRATEGY_SKIP_LOCKED.equals(jobAcquisitionStrategy) && !skipLocked) {
+            return JOB_ACQUISITION_STRATEGY_PARTITIONED;
+        }
+        return jobAcquisitionStrategy != null ? jobAcquisitionStrategy : JOB_ACQUISITION_STRATEGY_DEFAULT;
+    }
+
+    /**
+     * The number of slices the job id hash space is split into with the {@link #JOB_ACQUISITION_STRATEGY_PARTITIONED} strategy.
+     * Typically the number of async executors in the cluster.
+     */
+    public int getJobAcquisitionPartitionCount() {
+        return jobAcquisitionPartitionCount;
+    }
+
+    public JobServiceConfiguration setJobAcquisitionPartitionCount(int jobAcquisitionPartitionCount) {
+        this.jobAcquisitionPartitionCount = jobAcquisitionPartitionCount;
+        return this;
+    }
+
+    /**
+     * The slice of the job id hash space claimed by this engine with the {@link #JOB_ACQUISITION_STRATEGY_PARTITIONED} strategy.
+     * When negative (default), the slice is derived from the lock owner of the async executor.
+     */
+    public int getJobAcquisitionPartition() {
+        return jobAcquisitionPartition;
+    }
+
+    public JobServiceConfiguration setJobAcquisitionPartition(int jobAcquisitionPartition) {
+        this.jobAcquisitionPartition = jobAcquisitionPartition;
+        return this;
+    }
+
+    /**
+     * Whether acquired jobs are locked with one set-based update statement, instead of one optimistic update per job.
+     * Jobs that were locked concurrently by another executor are then skipped, instead of failing the acquisition.
+     */
+    /**
+     * Returns whether the database supports {@code select ... for update skip locked}:
+     * PostgreSQL 9.5, MySQL 8.0 and MariaDB 10.6 or newer.
+     * 
+     * @param databaseType
+     *            the database type of the engine, MariaDB has the "mysql" type
+     * @param databaseProductName
+     *            the product name of the {@link java.sql.DatabaseMetaData}
+     * @param databaseProductVersion
+     *            the product version of the {@link java.sql.DatabaseMetaData}, which includes the real MariaDB version
+     *            when connected with a MySQL driver
+     */
+    public static boolean isSkipLockedSupported(String databaseType, String databaseProductName, String databaseProductVersion,
+            int databaseMajorVersion, int databaseMinorVersion) {
+
+        if ("postgres".equals(databaseType)) {
+            return databaseMajorVersion > 9 || (databaseMajorVersion == 9 && databaseMinorVersion >= 5);
+
+        } else if ("mysql".equals(databaseType)) {
+            Matcher mariaDbVersion = MARIADB_VERSION_PATTERN.matcher(databaseProductVersion != null ? databaseProductVersion : "");
+            if (mariaDbVersion.find()) {
+                int mariaDbMajorVersion = Integer.parseInt(mariaDbVersion.group(1));
+                int mariaDbMinorVersion = Integer.parseInt(mariaDbVersion.group(2));
+                return mariaDbMajorVersion > 10 || (mariaDbMajorVersion == 10 && mariaDbMinorVersion >= 6);
+            } else if ("MariaDB".equalsIgnoreCase(databaseProductName)) {
+                return databaseMajorVersion > 10 || (databaseMajorVersion == 10 && databaseMinorVersion >= 6);
+            }
+            return databaseMajorVersion >= 8;
+        }
+
+        return false;
+    }
+
+    public Boolean getSkipLockedSupported() {
+        return skipLockedSupported;
+    }
+
+    /**
+     * Sets whether the database supports {@code skip locked}, see {@link #isSkipLockedSupported(String, String, String, int, int)}.
+     * The engine configuration determines this from the database metadata when the {@link #JOB_ACQUISITION_STRATEGY_SKIP_LOCKED} strategy is used.
+     */
+    public JobServiceConfiguration setSkipLockedSupported(Boolean skipLockedSupported) {
+        this.skipLockedSupported = skipLockedSupported;
+        return this;
+    }
+
+    public boolean isJobAcquisitionBulkLockingEnabled() {
+        return jobAcquisitionBulkLockingEnabled;
+    }
+
+    public JobServiceConfiguration setJobAcquisitionBulkLockingEnabled(boolean jobAcquisitionBulkLockingEnabled) {
+        this.jobAcquisitionBulkLockingEnabled = jobAcquisitionBulkLockingEnabled;
+        return this;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -615,6 +779,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.jobTypeAsyncHistoryZipped = jobTypeAsyncHistoryZipped;
     }
 
+    public String getJobTypeAsyncHistoryBinary() {
+        return jobTypeAsyncHistoryBinary;
+    }
+
+    public void setJobTypeAsyncHistoryBinary(String jobTypeAsyncHistoryBinary) {
+        this.jobTypeAsyncHistoryBinary = jobTypeAsyncHistoryBinary;
+    }
+
     public boolean isAsyncHistoryJsonGzipCompressionEnabled() {
         return asyncHistoryJsonGzipCompressionEnabled;
     }
@@ -646,5 +818,45 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setAsyncHistoryJsonGroupingThreshold(int asyncHistoryJsonGroupingThreshold) {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
+
+    public boolean isAsyncHistoryBinaryEncodingEnabled() {
+        return asyncHistoryBinaryEncodingEnabled;
+    }
+
+    public void setAsyncHistoryBinaryEncodingEnabled(boolean asyncHistoryBinaryEncodingEnabled) {
+        this.asyncHistoryBinaryEncodingEnabled = asyncHistoryBinaryEncodingEnabled;
+    }
+
+    public boolean isAsyncHistoryPayloadMergingEnabled() {
+        return asyncHistoryPayloadMergingEnabled;
+    }
+
+    public void setAsyncHistoryPayloadMergingEnabled(boolean asyncHistoryPayloadMergingEnabled) {
+        this.asyncHistoryPayloadMergingEnabled = asyncHistoryPayloadMergingEnabled;
+    }
+
+    public int getAsyncHistoryPayloadMergingMaxSize() {
+        return asyncHistoryPayloadMergingMaxSize;
+    }
+
+    public void setAsyncHistoryPayloadMergingMaxSize(int asyncHistoryPayloadMergingMaxSize) {
+        this.asyncHistoryPayloadMergingMaxSize = asyncHistoryPayloadMergingMaxSize;
+    }
+
+    public long getAsyncHistoryPayloadMergingMaxWaitTime() {
+        return asyncHistoryPayloadMergingMaxWaitTime;
+    }
+
+    public void setAsyncHistoryPayloadMergingMaxWaitTime(long asyncHistoryPayloadMergingMaxWaitTime) {
+        this.asyncHistoryPayloadMergingMaxWaitTime = asyncHistoryPayloadMergingMaxWaitTime;
+    }
+
+    public AsyncHistoryPayloadMerger getAsyncHistoryPayloadMerger() {
+        return asyncHistoryPayloadMerger;
+    }
+
+    public void setAsyncHistoryPayloadMerger(AsyncHistoryPayloadMerger asyncHistoryPayloadMerger) {
+        this.asyncHistoryPayloadMerger = asyncHistoryPayloadMerger;
+    }
     
 }
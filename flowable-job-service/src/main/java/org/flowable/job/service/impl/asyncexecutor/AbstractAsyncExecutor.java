@@ -47,6 +47,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     
     protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
 
+    /**
+     * When set, the async job acquisition thread waits on this source instead of sleeping, so it acquires as soon as new jobs are available.
+     */
+    protected AsyncJobWakeUpSource asyncJobWakeUpSource;
+
     protected boolean isAutoActivate;
     protected boolean isActive;
     protected boolean isMessageQueueMode;
@@ -393,4 +398,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.tenantId = tenantId;
     }
     
+    @Override
+    public AsyncJobWakeUpSource getAsyncJobWakeUpSource() {
+        return asyncJobWakeUpSource;
+    }
+
+    @Override
+    public void setAsyncJobWakeUpSource(AsyncJobWakeUpSource asyncJobWakeUpSource) {
+        this.asyncJobWakeUpSource = asyncJobWakeUpSource;
+    }
+
 }
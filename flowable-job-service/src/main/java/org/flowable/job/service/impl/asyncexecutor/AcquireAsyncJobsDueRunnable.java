@@ -18,7 +18,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -57,7 +59,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         while (!isInterrupted) {
             final long millisToWait;
 
-            int remainingCapacity = asyncExecutor.getRemainingCapacity();
+            int remainingCapacity = determineJobAcquisitionSize();
             if (remainingCapacity > 0) {
                 millisToWait = acquireAndExecuteJobs(commandExecutor, remainingCapacity);
 
@@ -65,7 +67,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("acquired and queued new jobs for engine {}; sleeping for {} ms", asyncExecutor.getJobServiceConfiguration().getEngineName(), millisToWait);
                 }
             } else {
-                millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+                millisToWait = determineSaturatedWaitTime();
 
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("queue is full for engine {}; sleeping for {} ms", asyncExecutor.getJobServiceConfiguration().getEngineName(), millisToWait);
@@ -81,11 +83,22 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         try {
+            long start = System.nanoTime();
             AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+            MetricsRecorder metricsRecorder = asyncExecutor.getJobServiceConfiguration().getMetricsRecorder();
+            if (metricsRecorder != null) {
+                metricsRecorder.recordJobAcquisition(jobEntityManager instanceof HistoryJobEntityManager ? "history" : "async",
+                        acquiredJobs.size(), System.nanoTime() - start);
+            }
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), asyncExecutor.getJobServiceConfiguration().getEngineName());
+            AdaptiveJobAcquisition adaptiveJobAcquisition = getAdaptiveJobAcquisition();
+            if (adaptiveJobAcquisition != null) {
+                adaptiveJobAcquisition.acquisitionSucceeded();
+            }
+
             if (rejectedJobs.size() > 0) {
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
@@ -96,6 +109,13 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            AdaptiveJobAcquisition adaptiveJobAcquisition = getAdaptiveJobAcquisition();
+            if (adaptiveJobAcquisition != null) {
+                long backoffTime = adaptiveJobAcquisition.acquisitionFailedWithOptimisticLocking();
+                LOGGER.debug("Optimistic locking exception during async job acquisition for engine {}, backing off for {} ms",
+                        asyncExecutor.getJobServiceConfiguration().getEngineName(), backoffTime);
+                return backoffTime;
+            }
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread.This is expected behavior in a clustered environment. You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. for engine {}. Exception message: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), optimisticLockingException.getMessage());
             }
@@ -106,6 +126,29 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected int determineJobAcquisitionSize() {
+        if (asyncExecutor instanceof DefaultAsyncJobExecutor) {
+            return ((DefaultAsyncJobExecutor) asyncExecutor).determineJobAcquisitionSize();
+        }
+        return asyncExecutor.getRemainingCapacity();
+    }
+
+    protected long determineSaturatedWaitTime() {
+        AdaptiveJobAcquisition adaptiveJobAcquisition = getAdaptiveJobAcquisition();
+        if (adaptiveJobAcquisition != null) {
+            // The queue holds enough jobs, but it is drained long before the default wait time when the jobs are short
+            return adaptiveJobAcquisition.determineSaturatedWaitTime(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+        }
+        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    protected AdaptiveJobAcquisition getAdaptiveJobAcquisition() {
+        if (asyncExecutor instanceof DefaultAsyncJobExecutor && ((DefaultAsyncJobExecutor) asyncExecutor).isAdaptiveJobAcquisitionEnabled()) {
+            return ((DefaultAsyncJobExecutor) asyncExecutor).getAdaptiveJobAcquisition();
+        }
+        return null;
+    }
+
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs.getJobs()) {
@@ -124,6 +167,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 MONITOR.notifyAll();
             }
         }
+
+        AsyncJobWakeUpSource wakeUpSource = asyncExecutor.getAsyncJobWakeUpSource();
+        if (wakeUpSource != null) {
+            wakeUpSource.wakeUp();
+        }
     }
 
     protected void sleep(long millisToWait) {
@@ -132,10 +180,21 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("async job acquisition for engine {}, thread sleeping for {} millis", asyncExecutor.getJobServiceConfiguration().getEngineName(), millisToWait);
                 }
-                synchronized (MONITOR) {
+
+                // With a wake-up source, the acquisition is done as soon as new jobs are signalled and the wait time is only a fallback.
+                // While the queue is full, the full wait time is used: a signal can't be acted on and stays pending until the next wait.
+                AsyncJobWakeUpSource wakeUpSource = asyncExecutor.getAsyncJobWakeUpSource();
+                if (wakeUpSource != null && determineJobAcquisitionSize() > 0) {
                     if (!isInterrupted) {
-                        isWaiting.set(true);
-                        MONITOR.wait(millisToWait);
+                        wakeUpSource.await(millisToWait);
+                    }
+
+                } else {
+                    synchronized (MONITOR) {
+                        if (!isInterrupted) {
+                            isWaiting.set(true);
+                            MONITOR.wait(millisToWait);
+                        }
                     }
                 }
 
@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
@@ -55,7 +56,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
         while (!isInterrupted) {
 
             try {
+                long start = System.nanoTime();
                 final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                MetricsRecorder metricsRecorder = asyncExecutor.getJobServiceConfiguration().getMetricsRecorder();
+                if (metricsRecorder != null) {
+                    metricsRecorder.recordJobAcquisition("timer", acquiredJobs.size(), System.nanoTime() - start);
+                }
 
                 commandExecutor.execute(new Command<Void>() {
 
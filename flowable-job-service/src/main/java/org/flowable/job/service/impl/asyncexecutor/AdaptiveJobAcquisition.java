@@ -0,0 +1,207 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sizes the async job acquisitions of a {@link DefaultAsyncJobExecutor} from the observed job execution time and the free capacity
+ * of the thread pool, instead of always acquiring as many jobs as the queue can hold.
+ * <p>
+ * An acquisition tops up the idle threads plus the jobs the pool can execute within {@link #getTargetQueueWaitTimeInMillis()}, and never more
+ * than the queue can take. This way acquired jobs are not rejected by a full queue (which means unacquiring them again) and don't wait in the
+ * queue for longer than their lock time, while other nodes could have executed them.
+ * <p>
+ * When acquisitions fail with an optimistic locking exception (another node locked one of the jobs first), the acquisition size is halved and
+ * the next acquisition is delayed with a randomized, exponentially growing backoff, so competing nodes spread out instead of colliding again.
+ * After successful acquisitions, the size grows back gradually.
+ */
+public class AdaptiveJobAcquisition {
+
+    protected long targetQueueWaitTimeInMillis = 1000L;
+    protected double optimisticLockingFailureRateThreshold = 0.1;
+    protected long minBackoffTimeInMillis = 50L;
+    protected long maxBackoffTimeInMillis = 5000L;
+    protected double smoothingFactor = 0.2;
+
+    // Only changed by the acquisition thread
+    protected volatile double acquisitionSizeFactor = 1.0;
+    protected volatile double optimisticLockingFailureRate;
+    protected int consecutiveOptimisticLockingFailures;
+
+    // Folded in from the execution counters before sizing an acquisition
+    protected volatile double averageJobExecutionTimeInMillis = -1.0;
+    protected long averagedExecutedJobsCount;
+    protected long averagedJobExecutionTimeInMillis;
+
+    // Changed by all job execution threads
+    protected final LongAdder executedJobsCount = new LongAdder();
+    protected final LongAdder totalJobExecutionTimeInMillis = new LongAdder();
+    protected final LongAdder acquisitionCount = new LongAdder();
+    protected final LongAdder optimisticLockingFailureCount = new LongAdder();
+
+    /**
+     * Returns the number of jobs to acquire.
+     * 
+     * @param poolSize
+     *            the current number of threads in the pool
+     * @param activeThreads
+     *            the number of threads that are executing a job
+     * @param queuedJobs
+     *            the number of jobs waiting in the queue
+     * @param queueRemainingCapacity
+     *            the number of jobs the queue can still take
+     */
+    public int determineAcquisitionSize(int poolSize, int activeThreads, int queuedJobs, int queueRemainingCapacity) {
+        int threads = Math.max(1, poolSize);
+        int idleThreads = Math.max(0, threads - activeThreads);
+
+        int targetQueuedJobs;
+        double averageExecutionTime = updateAverageJobExecutionTime();
+        if (averageExecutionTime <= 0.0) {
+            targetQueuedJobs = threads; // Nothing known yet
+        } else {
+            targetQueuedJobs = (int) Math.min(Integer.MAX_VALUE, threads * targetQueueWaitTimeInMillis / Math.max(1.0, averageExecutionTime));
+        }
+
+        int acquisitionSize = idleThreads + Math.max(0, targetQueuedJobs - queuedJobs);
+        acquisitionSize = (int) Math.ceil(acquisitionSize * acquisitionSizeFactor);
+        return Math.max(0, Math.min(acquisitionSize, queueRemainingCapacity));
+    }
+
+    /**
+     * Returns the time to wait before the next acquisition when the queue holds enough jobs: about half of the time it takes to execute them.
+     */
+    public long determineSaturatedWaitTime(long defaultWaitTimeInMillis) {
+        return Math.min(defaultWaitTimeInMillis, Math.max(minBackoffTimeInMillis, targetQueueWaitTimeInMillis / 2));
+    }
+
+    public void jobExecuted(long executionTimeInMillis) {
+        executedJobsCount.increment();
+        totalJobExecutionTimeInMillis.add(executionTimeInMillis);
+    }
+
+    /**
+     * Folds the jobs executed since the last update into the moving average of the job execution time, with the weight they would have had
+     * when added one by one, and returns the new average.
+     */
+    protected synchronized double updateAverageJobExecutionTime() {
+        long executedJobs = executedJobsCount.sum();
+        long executionTime = totalJobExecutionTimeInMillis.sum();
+        long newlyExecutedJobs = executedJobs - averagedExecutedJobsCount;
+        if (newlyExecutedJobs > 0) {
+            double newAverage = (double) (executionTime - averagedJobExecutionTimeInMillis) / newlyExecutedJobs;
+            if (averageJobExecutionTimeInMillis < 0.0) {
+                averageJobExecutionTimeInMillis = newAverage;
+            } else {
+                double weight = 1.0 - Math.pow(1.0 - smoothingFactor, newlyExecutedJobs);
+                averageJobExecutionTimeInMillis += weight * (newAverage - averageJobExecutionTimeInMillis);
+            }
+            averagedExecutedJobsCount = executedJobs;
+            averagedJobExecutionTimeInMillis = executionTime;
+        }
+        return averageJobExecutionTimeInMillis;
+    }
+
+    public void acquisitionSucceeded() {
+        acquisitionCount.increment();
+        consecutiveOptimisticLockingFailures = 0;
+        optimisticLockingFailureRate -= smoothingFactor * optimisticLockingFailureRate;
+        if (optimisticLockingFailureRate < optimisticLockingFailureRateThreshold) {
+            acquisitionSizeFactor = Math.min(1.0, acquisitionSizeFactor + 0.1);
+        }
+    }
+
+    /**
+     * Registers an acquisition that failed with an optimistic locking exception and returns the time to wait before acquiring again.
+     */
+    public long acquisitionFailedWithOptimisticLocking() {
+        acquisitionCount.increment();
+        optimisticLockingFailureCount.increment();
+        consecutiveOptimisticLockingFailures++;
+        optimisticLockingFailureRate += smoothingFactor * (1.0 - optimisticLockingFailureRate);
+        if (optimisticLockingFailureRate >= optimisticLockingFailureRateThreshold) {
+            acquisitionSizeFactor = Math.max(0.05, acquisitionSizeFactor / 2.0);
+        }
+
+        long backoffTime = minBackoffTimeInMillis << Math.min(consecutiveOptimisticLockingFailures - 1, 16);
+        backoffTime = Math.min(maxBackoffTimeInMillis, backoffTime);
+        return backoffTime / 2 + ThreadLocalRandom.current().nextLong(backoffTime / 2 + 1);
+    }
+
+    public long getTargetQueueWaitTimeInMillis() {
+        return targetQueueWaitTimeInMillis;
+    }
+
+    public void setTargetQueueWaitTimeInMillis(long targetQueueWaitTimeInMillis) {
+        this.targetQueueWaitTimeInMillis = targetQueueWaitTimeInMillis;
+    }
+
+    public double getOptimisticLockingFailureRateThreshold() {
+        return optimisticLockingFailureRateThreshold;
+    }
+
+    public void setOptimisticLockingFailureRateThreshold(double optimisticLockingFailureRateThreshold) {
+        this.optimisticLockingFailureRateThreshold = optimisticLockingFailureRateThreshold;
+    }
+
+    public long getMinBackoffTimeInMillis() {
+        return minBackoffTimeInMillis;
+    }
+
+    public void setMinBackoffTimeInMillis(long minBackoffTimeInMillis) {
+        this.minBackoffTimeInMillis = minBackoffTimeInMillis;
+    }
+
+    public long getMaxBackoffTimeInMillis() {
+        return maxBackoffTimeInMillis;
+    }
+
+    public void setMaxBackoffTimeInMillis(long maxBackoffTimeInMillis) {
+        this.maxBackoffTimeInMillis = maxBackoffTimeInMillis;
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    public void setSmoothingFactor(double smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public double getAcquisitionSizeFactor() {
+        return acquisitionSizeFactor;
+    }
+
+    public double getOptimisticLockingFailureRate() {
+        return optimisticLockingFailureRate;
+    }
+
+    public double getAverageJobExecutionTimeInMillis() {
+        return updateAverageJobExecutionTime();
+    }
+
+    public long getExecutedJobsCount() {
+        return executedJobsCount.sum();
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.sum();
+    }
+
+    public long getOptimisticLockingFailureCount() {
+        return optimisticLockingFailureCount.sum();
+    }
+
+}
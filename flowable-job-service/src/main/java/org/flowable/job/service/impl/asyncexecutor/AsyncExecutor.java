@@ -93,4 +93,8 @@ public interface AsyncExecutor {
 
     void setResetExpiredJobsPageSize(int resetExpiredJobsPageSize);
 
+    AsyncJobWakeUpSource getAsyncJobWakeUpSource();
+
+    void setAsyncJobWakeUpSource(AsyncJobWakeUpSource asyncJobWakeUpSource);
+
 }
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.JobInfo;
+
+/**
+ * A {@link TransactionListener} that, on post-commit, signals an {@link AsyncJobWakeUpSource} that an async job
+ * was created or unlocked which isn't handed off to the local async executor and needs to be acquired.
+ */
+public class AsyncJobAvailableTransactionListener implements TransactionListener {
+
+    protected JobInfo job;
+    protected AsyncJobWakeUpSource wakeUpSource;
+
+    public AsyncJobAvailableTransactionListener(JobInfo job, AsyncJobWakeUpSource wakeUpSource) {
+        this.job = job;
+        this.wakeUpSource = wakeUpSource;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        wakeUpSource.jobAvailable(job);
+    }
+
+}
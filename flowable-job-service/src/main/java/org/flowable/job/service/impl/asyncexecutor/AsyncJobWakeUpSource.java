@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.job.api.JobInfo;
+
+/**
+ * Source of wake-up signals for the async job acquisition thread (see {@link AcquireAsyncJobsDueRunnable}).
+ * <p>
+ * Instead of sleeping for the acquire wait time when fewer jobs than the maximum were acquired, the acquisition thread
+ * waits on this source and acquires again as soon as it is signalled. The acquire wait time then only is a fallback,
+ * e.g. for jobs created by engines that don't signal.
+ * <p>
+ * {@link #jobAvailable(JobInfo)} is called after the transaction is committed that created an async job which isn't handed off
+ * to the local async executor directly (the executor is not active), or that unlocked a job the local executor rejected
+ * because its queue was full, so that job needs to be acquired. While the queue is full, the acquisition thread does not
+ * act on signals and waits for the queue-full wait time, like without a wake-up source.
+ * The {@link LocalAsyncJobWakeUpSource} wakes up the acquisition thread of the same JVM, including for jobs created by another
+ * engine in the same JVM that is configured with the same source. An implementation for a cluster would publish
+ * the notification on a message bus and call {@link #wakeUp()} when a notification of another node is received, typically
+ * delegating the waiting to a {@link LocalAsyncJobWakeUpSource}. Such an implementation is also notified of jobs created
+ * by engines that don't run an async executor themselves.
+ * 
+ * @see AbstractAsyncExecutor#setAsyncJobWakeUpSource(AsyncJobWakeUpSource)
+ */
+public interface AsyncJobWakeUpSource {
+
+    /**
+     * Signals that the given committed async job can be acquired.
+     */
+    void jobAvailable(JobInfo job);
+
+    /**
+     * Wakes up the acquisition thread waiting in {@link #await(long)}. When no thread is waiting,
+     * the next call to {@link #await(long)} returns immediately.
+     */
+    void wakeUp();
+
+    /**
+     * Waits until {@link #wakeUp()} is called or the timeout has passed.
+     * 
+     * @return true when woken up, false when the timeout has passed
+     */
+    boolean await(long timeoutInMillis) throws InterruptedException;
+
+}
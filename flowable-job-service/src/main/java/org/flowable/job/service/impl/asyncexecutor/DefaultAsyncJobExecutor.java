@@ -20,6 +20,8 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -109,10 +111,37 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, every async job is executed on its own virtual thread instead of on the thread pool, see {@link VirtualThreadAsyncJobExecutorService}.
+     * The pool sizes and queue are not used then, {@link #maxConcurrentVirtualThreadJobs} limits the number of jobs executing at the same time.
+     * On runtimes without virtual threads (before Java 21), a warning is logged and the thread pool is used.
+     */
+    protected boolean isVirtualThreadExecutionEnabled;
+
+    /**
+     * The maximum number of async jobs executing at the same time when {@link #isVirtualThreadExecutionEnabled} is true.
+     */
+    protected int maxConcurrentVirtualThreadJobs = 1000;
+
+    protected String virtualThreadNamePrefix = "flowable-async-job-executor-virtual-thread-";
+
+    /**
+     * If true, the number of async jobs acquired at once is sized from the job execution time and the free capacity of the thread pool,
+     * and the acquisition backs off when it keeps colliding with other async executors. See {@link AdaptiveJobAcquisition}.
+     * False (default) always acquires up to the remaining capacity of the queue.
+     */
+    protected boolean isAdaptiveJobAcquisitionEnabled;
+
+    protected AdaptiveJobAcquisition adaptiveJobAcquisition;
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            if (isAdaptiveJobAcquisitionEnabled && adaptiveJobAcquisition != null) {
+                executorService.execute(new TimedRunnable(runnable, adaptiveJobAcquisition));
+            } else {
+                executorService.execute(runnable);
+            }
             return true;
         } catch (RejectedExecutionException e) {
             unacquireJobAfterRejection(job);
@@ -133,10 +162,18 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         // after the async executor has been hinted that a new async job is created)
         // or not (when executed in the acquire thread runnable)
 
+        // When rejected after a hint, the acquisition thread is signalled once the job is unlocked, so it doesn't
+        // wait for the next acquisition poll. The acquisition thread doesn't act on the signal while the queue is full.
+
         CommandContext commandContext = Context.getCommandContext();
         if (commandContext != null) {
             CommandContextUtil.getJobManager(commandContext).unacquire(job);
 
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (asyncJobWakeUpSource != null && transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new AsyncJobAvailableTransactionListener(job, asyncJobWakeUpSource));
+            }
+
         } else {
             jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
 
@@ -152,6 +189,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     @Override
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
+            initAdaptiveJobAcquisition();
             initAsyncJobExecutionThreadPool();
             startJobAcquisitionThread();
         }
@@ -179,7 +217,28 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     }
 
+    protected void initAdaptiveJobAcquisition() {
+        if (isAdaptiveJobAcquisitionEnabled && adaptiveJobAcquisition == null) {
+            adaptiveJobAcquisition = new AdaptiveJobAcquisition();
+        }
+    }
+
     protected void initAsyncJobExecutionThreadPool() {
+        if (isVirtualThreadExecutionEnabled && executorService == null && !VirtualThreadAsyncJobExecutorService.isVirtualThreadsAvailable()) {
+            LOGGER.warn("Virtual thread execution is enabled, but virtual threads are not available on this Java runtime. "
+                    + "Async jobs will be executed on the thread pool with corePoolSize {} and maxPoolSize {}", corePoolSize, maxPoolSize);
+
+        } else if (isVirtualThreadExecutionEnabled) {
+            if (executorService == null) {
+                LOGGER.info("Creating virtual thread executor service with maximum {} concurrent jobs", maxConcurrentVirtualThreadJobs);
+                VirtualThreadAsyncJobExecutorService virtualThreadExecutorService = new VirtualThreadAsyncJobExecutorService(
+                        maxConcurrentVirtualThreadJobs, virtualThreadNamePrefix);
+                virtualThreadExecutorService.setMetricsRecorder(jobServiceConfiguration.getMetricsRecorder());
+                executorService = virtualThreadExecutorService;
+            }
+            return;
+        }
+
         if (threadPoolQueue == null) {
             LOGGER.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
@@ -332,7 +391,9 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     public int getRemainingCapacity() {
-        if (threadPoolQueue != null) {
+        if (executorService instanceof VirtualThreadAsyncJobExecutorService) {
+            return ((VirtualThreadAsyncJobExecutorService) executorService).getAvailablePermits();
+        } else if (threadPoolQueue != null) {
             return threadPoolQueue.remainingCapacity();
         } else {
             // return plenty of remaining capacity if there's no thread pool queue
@@ -340,6 +401,23 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /**
+     * Returns the number of async jobs to acquire next: the remaining capacity of the queue, or the size determined by the
+     * {@link AdaptiveJobAcquisition} when adaptive job acquisition is enabled.
+     */
+    public int determineJobAcquisitionSize() {
+        int remainingCapacity = getRemainingCapacity();
+        if (!isAdaptiveJobAcquisitionEnabled || !(executorService instanceof ThreadPoolExecutor) || threadPoolQueue == null) {
+            return remainingCapacity;
+        }
+
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executorService;
+        // Threads that are not started yet are idle too
+        int poolSize = Math.max(threadPoolExecutor.getPoolSize(), threadPoolExecutor.getCorePoolSize());
+        return getAdaptiveJobAcquisition().determineAcquisitionSize(poolSize, threadPoolExecutor.getActiveCount(),
+                threadPoolQueue.size(), remainingCapacity);
+    }
+
     public void setQueueSize(int queueSize) {
         this.queueSize = queueSize;
     }
@@ -408,4 +486,72 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
 
+    public boolean isVirtualThreadExecutionEnabled() {
+        return isVirtualThreadExecutionEnabled;
+    }
+
+    public void setVirtualThreadExecutionEnabled(boolean isVirtualThreadExecutionEnabled) {
+        this.isVirtualThreadExecutionEnabled = isVirtualThreadExecutionEnabled;
+    }
+
+    public int getMaxConcurrentVirtualThreadJobs() {
+        return maxConcurrentVirtualThreadJobs;
+    }
+
+    public void setMaxConcurrentVirtualThreadJobs(int maxConcurrentVirtualThreadJobs) {
+        this.maxConcurrentVirtualThreadJobs = maxConcurrentVirtualThreadJobs;
+    }
+
+    public String getVirtualThreadNamePrefix() {
+        return virtualThreadNamePrefix;
+    }
+
+    public void setVirtualThreadNamePrefix(String virtualThreadNamePrefix) {
+        this.virtualThreadNamePrefix = virtualThreadNamePrefix;
+    }
+
+    public boolean isAdaptiveJobAcquisitionEnabled() {
+        return isAdaptiveJobAcquisitionEnabled;
+    }
+
+    public void setAdaptiveJobAcquisitionEnabled(boolean isAdaptiveJobAcquisitionEnabled) {
+        this.isAdaptiveJobAcquisitionEnabled = isAdaptiveJobAcquisitionEnabled;
+    }
+
+    /**
+     * Returns the {@link AdaptiveJobAcquisition}, which is created when the executor is started with adaptive job acquisition enabled
+     * and no instance was set.
+     */
+    public AdaptiveJobAcquisition getAdaptiveJobAcquisition() {
+        return adaptiveJobAcquisition;
+    }
+
+    public void setAdaptiveJobAcquisition(AdaptiveJobAcquisition adaptiveJobAcquisition) {
+        this.adaptiveJobAcquisition = adaptiveJobAcquisition;
+    }
+
+    /**
+     * Reports the execution time of the wrapped job runnable to the {@link AdaptiveJobAcquisition}.
+     */
+    protected static class TimedRunnable implements Runnable {
+
+        protected final Runnable runnable;
+        protected final AdaptiveJobAcquisition adaptiveJobAcquisition;
+
+        public TimedRunnable(Runnable runnable, AdaptiveJobAcquisition adaptiveJobAcquisition) {
+            this.runnable = runnable;
+            this.adaptiveJobAcquisition = adaptiveJobAcquisition;
+        }
+
+        @Override
+        public void run() {
+            long startTime = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                adaptiveJobAcquisition.jobExecuted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+        }
+    }
+
 }
@@ -97,6 +97,27 @@ public class DefaultJobManager implements JobManager {
         // When the async executor is activated, the job is directly passed on to the async executor thread
         if (isAsyncExecutorActive()) {
             hintAsyncExecutor(jobEntity);
+
+        } else {
+            notifyAsyncJobWakeUpSource(jobEntity);
+        }
+    }
+
+    /**
+     * Signals the {@link AsyncJobWakeUpSource} after the transaction is committed, so the job can be acquired without waiting
+     * for the next acquisition poll by the async executor of another engine (in the cluster, or in the same JVM when
+     * the engines share a {@link LocalAsyncJobWakeUpSource}).
+     */
+    protected void notifyAsyncJobWakeUpSource(JobEntity jobEntity) {
+        AsyncExecutor asyncExecutor = getAsyncExecutor();
+        if (asyncExecutor == null) {
+            return;
+        }
+
+        AsyncJobWakeUpSource wakeUpSource = asyncExecutor.getAsyncJobWakeUpSource();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (wakeUpSource != null && transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new AsyncJobAvailableTransactionListener(jobEntity, wakeUpSource));
         }
     }
 
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.flowable.job.api.JobInfo;
+
+/**
+ * {@link AsyncJobWakeUpSource} that wakes up the acquisition thread of this JVM only.
+ * <p>
+ * Wake-ups are not counted: any number of wake-ups while the acquisition thread is busy results in one immediate acquisition afterwards,
+ * which acquires all available jobs (up to the maximum per acquisition) anyway.
+ */
+public class LocalAsyncJobWakeUpSource implements AsyncJobWakeUpSource {
+
+    protected final Lock lock = new ReentrantLock();
+    protected final Condition wakeUpCondition = lock.newCondition();
+    protected boolean wakeUpPending;
+
+    protected final LongAdder wakeUpCount = new LongAdder();
+
+    @Override
+    public void jobAvailable(JobInfo job) {
+        wakeUp();
+    }
+
+    @Override
+    public void wakeUp() {
+        wakeUpCount.increment();
+        lock.lock();
+        try {
+            wakeUpPending = true;
+            wakeUpCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean await(long timeoutInMillis) throws InterruptedException {
+        long nanosToWait = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lock();
+        try {
+            while (!wakeUpPending && nanosToWait > 0L) {
+                nanosToWait = wakeUpCondition.awaitNanos(nanosToWait);
+            }
+            boolean wokenUp = wakeUpPending;
+            wakeUpPending = false;
+            return wokenUp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getWakeUpCount() {
+        return wakeUpCount.sum();
+    }
+
+}
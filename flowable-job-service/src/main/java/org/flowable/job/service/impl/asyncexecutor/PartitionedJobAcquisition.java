@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Splits the job id hash space into {@link #getPartitionCount()} slices, so async executors on different nodes prefer different jobs
+ * when acquiring. Used for the {@link JobServiceConfiguration#JOB_ACQUISITION_STRATEGY_PARTITIONED} strategy, on databases without
+ * {@code select ... for update skip locked}.
+ * <p>
+ * The acquisition selects a window of candidate jobs that is {@link #getPartitionCount()} times bigger than the number of jobs to acquire,
+ * and takes the jobs of its own slice first. When its own slice doesn't have enough jobs, it tops up with the jobs of the other slices,
+ * starting with the next slice, so idle slices (e.g. of a stopped node) are still picked up and concurrent top-ups rarely collide.
+ */
+public class PartitionedJobAcquisition {
+
+    protected final int partitionCount;
+    protected final int partition;
+
+    public PartitionedJobAcquisition(int partitionCount, int partition) {
+        this.partitionCount = Math.max(1, partitionCount);
+        this.partition = Math.floorMod(partition, this.partitionCount);
+    }
+
+    /**
+     * Creates the partitioned acquisition for the given async executor: the partition configured
+     * with {@link JobServiceConfiguration#getJobAcquisitionPartition()}, or one derived from the lock owner when not set.
+     */
+    public static PartitionedJobAcquisition create(JobServiceConfiguration jobServiceConfiguration, String lockOwner) {
+        int partition = jobServiceConfiguration.getJobAcquisitionPartition();
+        if (partition < 0) {
+            partition = lockOwner != null ? lockOwner.hashCode() : 0;
+        }
+        return new PartitionedJobAcquisition(jobServiceConfiguration.getJobAcquisitionPartitionCount(), partition);
+    }
+
+    /**
+     * Returns the number of candidate jobs to select for an acquisition of the given size.
+     */
+    public int getCandidateCount(int maxResults) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) maxResults * partitionCount);
+    }
+
+    public int getPartition(String jobId) {
+        return Math.floorMod(jobId.hashCode(), partitionCount);
+    }
+
+    /**
+     * Returns at most maxResults jobs of the candidates: the jobs of the own partition first, then those of the following partitions.
+     */
+    public <T extends JobInfo> List<T> selectJobs(List<T> candidates, int maxResults) {
+        if (partitionCount == 1 || candidates.size() <= maxResults) {
+            return candidates;
+        }
+
+        List<List<T>> jobsPerPartition = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            jobsPerPartition.add(new ArrayList<>());
+        }
+        for (T candidate : candidates) {
+            jobsPerPartition.get(getPartition(candidate.getId())).add(candidate);
+        }
+
+        List<T> selectedJobs = new ArrayList<>(maxResults);
+        for (int i = 0; i < partitionCount && selectedJobs.size() < maxResults; i++) {
+            List<T> partitionJobs = jobsPerPartition.get((partition + i) % partitionCount);
+            int count = Math.min(partitionJobs.size(), maxResults - selectedJobs.size());
+            selectedJobs.addAll(partitionJobs.subList(0, count));
+        }
+        return selectedJobs;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+}
@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.metrics.MetricsRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ExecutorService} for async jobs that starts a new virtual thread for every job, instead of handing the jobs to a bounded pool
+ * of platform threads. This suits jobs that spend most of their time blocked on I/O (service calls, JDBC).
+ * <p>
+ * The number of concurrently executing jobs is limited with a {@link Semaphore} instead of a queue: when all permits are taken,
+ * {@link #execute(Runnable)} throws a {@link RejectedExecutionException}, just like a {@link java.util.concurrent.ThreadPoolExecutor} with a full queue,
+ * so the job is unacquired again. The available permits are the remaining capacity of the async executor.
+ * <p>
+ * Virtual threads are only available on Java 21 or newer and are looked up reflectively. On older runtimes, the constructor throws
+ * a {@link FlowableException}: a platform thread per job would allow as many threads as permits. The {@link DefaultAsyncJobExecutor}
+ * checks {@link #isVirtualThreadsAvailable()} and uses its regular thread pool instead.
+ */
+public class VirtualThreadAsyncJobExecutorService extends AbstractExecutorService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncJobExecutorService.class);
+
+    protected final ExecutorService threadPerTaskExecutor;
+    protected final int maxConcurrentJobs;
+    protected final Semaphore permits;
+
+    protected final LongAdder executedJobsCount = new LongAdder();
+    protected final LongAdder rejectedJobsCount = new LongAdder();
+
+    protected MetricsRecorder metricsRecorder;
+
+    public VirtualThreadAsyncJobExecutorService(int maxConcurrentJobs, String threadNamePrefix) {
+        if (maxConcurrentJobs <= 0) {
+            throw new FlowableException("The maximum number of concurrent jobs must be positive, but was " + maxConcurrentJobs);
+        }
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.permits = new Semaphore(maxConcurrentJobs);
+
+        this.threadPerTaskExecutor = createVirtualThreadPerTaskExecutor(threadNamePrefix);
+        if (threadPerTaskExecutor == null) {
+            throw new FlowableException("Virtual threads are not available on this Java runtime, Java 21 or newer is needed");
+        }
+    }
+
+    /**
+     * Returns true when the runtime has virtual threads (Java 21 or newer).
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory())}, or null when the runtime has no virtual threads.
+     */
+    protected ExecutorService createVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.debug("Could not create a virtual thread executor: {}", e.toString());
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        if (!permits.tryAcquire()) {
+            rejectedJobsCount.increment();
+            recordSubmission(true);
+            throw new RejectedExecutionException("Maximum number of concurrent async jobs (" + maxConcurrentJobs + ") reached");
+        }
+        recordSubmission(false);
+
+        long submitted = System.nanoTime();
+        try {
+            threadPerTaskExecutor.execute(() -> {
+                try {
+                    if (metricsRecorder != null) {
+                        metricsRecorder.recordJobStartDelay(System.nanoTime() - submitted);
+                    }
+                    runnable.run();
+                } finally {
+                    executedJobsCount.increment();
+                    permits.release();
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            rejectedJobsCount.increment();
+            recordSubmission(true);
+            throw e;
+        }
+    }
+
+    protected void recordSubmission(boolean rejected) {
+        if (metricsRecorder != null) {
+            metricsRecorder.recordJobSubmission(getActiveJobsCount(), rejected);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        threadPerTaskExecutor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return threadPerTaskExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return threadPerTaskExecutor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return threadPerTaskExecutor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return threadPerTaskExecutor.awaitTermination(timeout, unit);
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getActiveJobsCount() {
+        return maxConcurrentJobs - permits.availablePermits();
+    }
+
+    public long getExecutedJobsCount() {
+        return executedJobsCount.sum();
+    }
+
+    public long getRejectedJobsCount() {
+        return rejectedJobsCount.sum();
+    }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+}
@@ -22,8 +22,10 @@ import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobWakeUpSource;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.LocalAsyncJobWakeUpSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +46,7 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
     protected JobServiceConfiguration jobServiceConfiguration;
     protected boolean active;
     protected boolean autoActivate;
+    protected AsyncJobWakeUpSource asyncJobWakeUpSource;
 
     public ExecutorPerTenantAsyncExecutor(TenantInfoHolder tenantInfoHolder) {
         this(tenantInfoHolder, null);
@@ -70,6 +73,9 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
 
         tenantExecutor.setJobServiceConfiguration(jobServiceConfiguration);
+        if (asyncJobWakeUpSource != null) {
+            tenantExecutor.setAsyncJobWakeUpSource(createTenantAsyncJobWakeUpSource(tenantId));
+        }
 
         if (tenantExecutor instanceof AbstractAsyncExecutor) {
             AbstractAsyncExecutor defaultAsyncJobExecutor = (AbstractAsyncExecutor) tenantExecutor;
@@ -296,4 +302,30 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    @Override
+    public AsyncJobWakeUpSource getAsyncJobWakeUpSource() {
+        return determineAsyncExecutor().getAsyncJobWakeUpSource();
+    }
+
+    @Override
+    public void setAsyncJobWakeUpSource(AsyncJobWakeUpSource asyncJobWakeUpSource) {
+        this.asyncJobWakeUpSource = asyncJobWakeUpSource;
+        for (String tenantId : tenantExecutors.keySet()) {
+            tenantExecutors.get(tenantId).setAsyncJobWakeUpSource(asyncJobWakeUpSource != null ? createTenantAsyncJobWakeUpSource(tenantId) : null);
+        }
+    }
+
+    /**
+     * Each tenant executor has its own acquisition thread, which needs its own wake-up source: with a shared {@link LocalAsyncJobWakeUpSource},
+     * the acquisition thread of one tenant could consume the wake-up of another tenant. Jobs are signalled to the source of the tenant
+     * executor that is current when the job is created (see {@link #getAsyncJobWakeUpSource()}).
+     * Other sources are shared, so they need to wake up the acquisition threads of all tenants; override this method otherwise.
+     */
+    protected AsyncJobWakeUpSource createTenantAsyncJobWakeUpSource(String tenantId) {
+        if (asyncJobWakeUpSource instanceof LocalAsyncJobWakeUpSource) {
+            return new LocalAsyncJobWakeUpSource();
+        }
+        return asyncJobWakeUpSource;
+    }
+
 }
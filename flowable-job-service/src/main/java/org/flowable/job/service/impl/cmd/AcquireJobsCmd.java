@@ -13,14 +13,17 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedJobAcquisition;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
@@ -50,22 +53,51 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
-        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
-        for (JobInfoEntity job : jobs) {
-            lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
-            acquiredJobs.addJob(job);
+        if (jobServiceConfiguration.isJobAcquisitionBulkLockingEnabled()) {
+            for (JobInfoEntity job : findAndLockJobs(commandContext, jobEntityManager, maxResults)) {
+                acquiredJobs.addJob(job);
+            }
+
+        } else {
+            for (JobInfoEntity job : findJobsToExecute(commandContext, jobEntityManager, maxResults)) {
+                lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
+                acquiredJobs.addJob(job);
+            }
         }
 
         return acquiredJobs;
     }
 
+    protected <T extends JobInfoEntity> List<T> findJobsToExecute(CommandContext commandContext, JobInfoEntityManager<T> jobEntityManager, int maxResults) {
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        String databaseType = CommandContextUtil.getDbSqlSession(commandContext).getDbSqlSessionFactory().getDatabaseType();
+        if (JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_PARTITIONED.equals(jobServiceConfiguration.getJobAcquisitionStrategy(databaseType))) {
+            PartitionedJobAcquisition partitionedJobAcquisition = PartitionedJobAcquisition.create(jobServiceConfiguration, asyncExecutor.getLockOwner());
+            return partitionedJobAcquisition.selectJobs(jobEntityManager.findJobsToExecute(new Page(0, partitionedJobAcquisition.getCandidateCount(maxResults))), maxResults);
+        }
+        return jobEntityManager.findJobsToExecute(new Page(0, maxResults));
+    }
+
+    protected <T extends JobInfoEntity> List<T> findAndLockJobs(CommandContext commandContext, JobInfoEntityManager<T> jobEntityManager, int maxResults) {
+        List<T> jobs = findJobsToExecute(commandContext, jobEntityManager, maxResults);
+        if (jobs.isEmpty()) {
+            return jobs;
+        }
+        return jobEntityManager.lockJobs(jobs, asyncExecutor.getLockOwner(), getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()));
+    }
+
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
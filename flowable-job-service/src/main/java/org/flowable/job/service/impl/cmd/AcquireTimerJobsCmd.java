@@ -13,14 +13,17 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.PartitionedJobAcquisition;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 
@@ -38,12 +41,33 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
-        List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
-                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
-        
-        for (TimerJobEntity job : timerJobs) {
-            lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
-            acquiredJobs.addJob(job);
+        int maxResults = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+
+        List<TimerJobEntity> timerJobs;
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        String databaseType = CommandContextUtil.getDbSqlSession(commandContext).getDbSqlSessionFactory().getDatabaseType();
+        if (JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_PARTITIONED.equals(jobServiceConfiguration.getJobAcquisitionStrategy(databaseType))) {
+            PartitionedJobAcquisition partitionedJobAcquisition = PartitionedJobAcquisition.create(jobServiceConfiguration, asyncExecutor.getLockOwner());
+            timerJobs = partitionedJobAcquisition.selectJobs(CommandContextUtil.getTimerJobEntityManager(commandContext)
+                    .findTimerJobsToExecute(new Page(0, partitionedJobAcquisition.getCandidateCount(maxResults))), maxResults);
+        } else {
+            timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext).findTimerJobsToExecute(new Page(0, maxResults));
+        }
+
+        if (jobServiceConfiguration.isJobAcquisitionBulkLockingEnabled()) {
+            if (!timerJobs.isEmpty()) {
+                Date lockExpirationTime = getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis());
+                for (TimerJobEntity job : CommandContextUtil.getTimerJobEntityManager(commandContext)
+                        .lockTimerJobs(timerJobs, asyncExecutor.getLockOwner(), lockExpirationTime)) {
+                    acquiredJobs.addJob(job);
+                }
+            }
+
+        } else {
+            for (TimerJobEntity job : timerJobs) {
+                lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
+                acquiredJobs.addJob(job);
+            }
         }
 
         return acquiredJobs;
@@ -54,10 +78,14 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
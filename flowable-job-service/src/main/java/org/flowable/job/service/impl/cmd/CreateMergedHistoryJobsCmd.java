@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates one binary encoded history job per tenant, containing the history data of all the given (already committed) transactions.
+ */
+public class CreateMergedHistoryJobsCmd implements Command<Void> {
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected Map<String, List<ObjectNode>> historyDataByTenantId;
+
+    public CreateMergedHistoryJobsCmd(JobServiceConfiguration jobServiceConfiguration, Map<String, List<ObjectNode>> historyDataByTenantId) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.historyDataByTenantId = historyDataByTenantId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        for (Map.Entry<String, List<ObjectNode>> historyData : historyDataByTenantId.entrySet()) {
+            HistoryJobEntity jobEntity = jobServiceConfiguration.getHistoryJobEntityManager().create();
+            jobEntity.setJobHandlerType(jobServiceConfiguration.getJobTypeAsyncHistoryBinary());
+            jobEntity.setRetries(jobServiceConfiguration.getAsyncHistoryExecutorNumberOfRetries());
+            jobEntity.setTenantId(historyData.getKey());
+            jobEntity.setCreateTime(jobServiceConfiguration.getClock().getCurrentTime());
+            jobEntity.setScopeType(jobServiceConfiguration.getHistoryJobExecutionScope());
+            jobServiceConfiguration.getJobManager().scheduleHistoryJob(jobEntity);
+
+            ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
+            arrayNode.addAll(historyData.getValue());
+            jobEntity.setAdvancedJobHandlerConfigurationBytes(
+                    AsyncHistoryBinaryCodec.encode(arrayNode, jobServiceConfiguration.isAsyncHistoryJsonGzipCompressionEnabled()));
+        }
+        return null;
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.history.async;
 
+import java.io.IOException;
+
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.HistoryJobHandler;
@@ -46,8 +48,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
 
-                byte[] bytes = getJobBytes(job);
-                JsonNode historyNode = objectMapper.readTree(bytes);
+                JsonNode historyNode = readHistoryNode(job, objectMapper);
                 if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
                     for (JsonNode jsonNode : arrayNode) {
@@ -73,6 +74,10 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    protected JsonNode readHistoryNode(HistoryJobEntity job, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readTree(getJobBytes(job));
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
     }
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Handles the history jobs of which the data is encoded with the {@link AsyncHistoryBinaryCodec}.
+ * The data is always an array of the history json nodes, possibly of multiple transactions.
+ */
+public class AsyncHistoryJobBinaryHandler extends AsyncHistoryJobHandler {
+
+    public AsyncHistoryJobBinaryHandler(String jobType) {
+        super(jobType);
+        this.isAsyncHistoryJsonGroupingEnabled = true;
+    }
+
+    @Override
+    protected JsonNode readHistoryNode(HistoryJobEntity job, ObjectMapper objectMapper) {
+        return AsyncHistoryBinaryCodec.decode(getJobBytes(job));
+    }
+
+}
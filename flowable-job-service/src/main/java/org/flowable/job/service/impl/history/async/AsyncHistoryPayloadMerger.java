@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.CreateMergedHistoryJobsCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Collects the history data of committed transactions and writes it as one history job (per tenant),
+ * instead of one history job per transaction.
+ * <p>
+ * The collected data is written when {@link JobServiceConfiguration#getAsyncHistoryPayloadMergingMaxSize()} history json nodes are collected,
+ * or {@link JobServiceConfiguration#getAsyncHistoryPayloadMergingMaxWaitTime()} milliseconds after the first one was collected, whichever comes first.
+ * Writing happens in a separate transaction on a dedicated thread, so the transactions producing the history data don't wait for it.
+ * <p>
+ * Note that the history data only lives in memory until it is written: when the node stops without {@link #shutdown()} being called,
+ * the history data that is not yet written is lost. Writing failures are retried.
+ */
+public class AsyncHistoryPayloadMerger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryPayloadMerger.class);
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected String threadNamingPattern = "flowable-async-history-merger-%d";
+
+    protected final Object lock = new Object();
+    protected Map<String, List<ObjectNode>> pendingHistoryData = new LinkedHashMap<>();
+    protected int pendingHistoryDataCount;
+    protected boolean delayedWriteScheduled;
+    protected boolean writeScheduled;
+    protected ScheduledExecutorService executorService;
+
+    public AsyncHistoryPayloadMerger(JobServiceConfiguration jobServiceConfiguration) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    public void addHistoryData(String tenantId, List<ObjectNode> historyObjectNodes) {
+        synchronized (lock) {
+            pendingHistoryData.computeIfAbsent(tenantId, key -> new ArrayList<>()).addAll(historyObjectNodes);
+            pendingHistoryDataCount += historyObjectNodes.size();
+
+            if (pendingHistoryDataCount >= jobServiceConfiguration.getAsyncHistoryPayloadMergingMaxSize()) {
+                if (!writeScheduled) {
+                    writeScheduled = true;
+                    getExecutorService().execute(this::writePendingHistoryData);
+                }
+            } else if (!delayedWriteScheduled) {
+                delayedWriteScheduled = true;
+                getExecutorService().schedule(this::writePendingHistoryData, jobServiceConfiguration.getAsyncHistoryPayloadMergingMaxWaitTime(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes all the collected history data, in the calling thread.
+     */
+    public void writePendingHistoryData() {
+        Map<String, List<ObjectNode>> historyData;
+        int historyDataCount;
+        synchronized (lock) {
+            writeScheduled = false;
+            delayedWriteScheduled = false;
+            if (pendingHistoryData.isEmpty()) {
+                return;
+            }
+            historyData = pendingHistoryData;
+            historyDataCount = pendingHistoryDataCount;
+            pendingHistoryData = new LinkedHashMap<>();
+            pendingHistoryDataCount = 0;
+        }
+
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new CreateMergedHistoryJobsCmd(jobServiceConfiguration, historyData));
+
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write {} history json nodes, retrying later", historyDataCount, e);
+
+            // Put the data back in front of the data collected in the meantime, to keep the order
+            synchronized (lock) {
+                for (Map.Entry<String, List<ObjectNode>> entry : pendingHistoryData.entrySet()) {
+                    historyData.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).addAll(entry.getValue());
+                }
+                pendingHistoryData = historyData;
+                pendingHistoryDataCount += historyDataCount;
+                if (!delayedWriteScheduled && executorService != null && !executorService.isShutdown()) {
+                    delayedWriteScheduled = true;
+                    executorService.schedule(this::writePendingHistoryData, jobServiceConfiguration.getAsyncHistoryPayloadMergingMaxWaitTime(), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes the history data collected so far.
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            if (executorService != null) {
+                executorService.shutdownNow();
+                executorService = null;
+            }
+        }
+        writePendingHistoryData();
+    }
+
+    protected ScheduledExecutorService getExecutorService() {
+        if (executorService == null) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                    .namingPattern(threadNamingPattern)
+                    .daemon(true)
+                    .build();
+            ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+            scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+            executorService = scheduledThreadPoolExecutor;
+        }
+        return executorService;
+    }
+
+    public int getPendingHistoryDataCount() {
+        synchronized (lock) {
+            return pendingHistoryDataCount;
+        }
+    }
+
+    public String getThreadNamingPattern() {
+        return threadNamingPattern;
+    }
+
+    public void setThreadNamingPattern(String threadNamingPattern) {
+        this.threadNamingPattern = threadNamingPattern;
+    }
+
+}
@@ -20,9 +20,11 @@ import java.util.List;
 import java.util.zip.GZIPOutputStream;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryBinaryCodec;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -43,7 +45,24 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
             JobServiceConfiguration jobServiceConfiguration, List<ObjectNode> historyObjectNodes) {
         
         AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
-        if (jobServiceConfiguration.isAsyncHistoryJsonGroupingEnabled() && historyObjectNodes.size() >= jobServiceConfiguration.getAsyncHistoryJsonGroupingThreshold()) {
+        AsyncHistoryPayloadMerger asyncHistoryPayloadMerger = jobServiceConfiguration.getAsyncHistoryPayloadMerger();
+        if (asyncHistoryPayloadMerger != null && asyncHistorySession.getTransactionContext() != null) {
+            // The history data is only handed over once the transaction is committed, the merger creates the history job later on
+            String tenantId = asyncHistorySession.getTenantId();
+            asyncHistorySession.getTransactionContext().addTransactionListener(TransactionState.COMMITTED,
+                    transactionCommandContext -> asyncHistoryPayloadMerger.addHistoryData(tenantId, historyObjectNodes));
+            return Collections.emptyList();
+
+        } else if (jobServiceConfiguration.isAsyncHistoryBinaryEncodingEnabled()) {
+            HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobServiceConfiguration, 
+                    jobServiceConfiguration.getJobTypeAsyncHistoryBinary());
+            ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
+            arrayNode.addAll(historyObjectNodes);
+            jobEntity.setAdvancedJobHandlerConfigurationBytes(
+                    AsyncHistoryBinaryCodec.encode(arrayNode, jobServiceConfiguration.isAsyncHistoryJsonGzipCompressionEnabled()));
+            return Collections.singletonList(jobEntity);
+
+        } else if (jobServiceConfiguration.isAsyncHistoryJsonGroupingEnabled() && historyObjectNodes.size() >= jobServiceConfiguration.getAsyncHistoryJsonGroupingThreshold()) {
             String jobType = getJobType(jobServiceConfiguration, true);
             HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobServiceConfiguration, jobType);
             ArrayNode arrayNode = jobServiceConfiguration.getObjectMapper().createArrayNode();
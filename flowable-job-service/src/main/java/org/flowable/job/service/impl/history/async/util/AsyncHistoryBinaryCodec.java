@@ -0,0 +1,414 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.IoUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Compact binary encoding of the async history payloads.
+ * <p>
+ * Every value is written as a one byte type tag followed by its content: integers as zigzag varints, doubles as 8 bytes
+ * and strings as UTF-8. Field names, and string values up to {@link #MAX_DICTIONARY_STRING_LENGTH} characters, are written in full only the first time they occur
+ * in a payload and referenced by their index afterwards. Since the history data of one or more transactions repeats the same field names and ids
+ * over and over, this is a lot smaller than the json text, and decoding it doesn't need any parsing.
+ * <p>
+ * The payload can optionally be deflated as a whole. Decoding gives back the same Jackson tree as parsing the json of the encoded node,
+ * so the {@link org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer}s work on it unchanged.
+ */
+public class AsyncHistoryBinaryCodec {
+
+    public static final int MAX_DICTIONARY_STRING_LENGTH = 64;
+
+    protected static final byte MAGIC = (byte) 0xFB;
+    protected static final byte VERSION = 1;
+    protected static final byte FLAG_DEFLATED = 1;
+
+    protected static final byte TYPE_NULL = 0;
+    protected static final byte TYPE_FALSE = 1;
+    protected static final byte TYPE_TRUE = 2;
+    protected static final byte TYPE_INT = 3;
+    protected static final byte TYPE_LONG = 4;
+    protected static final byte TYPE_DOUBLE = 5;
+    protected static final byte TYPE_STRING = 6; // added to the dictionary
+    protected static final byte TYPE_STRING_REFERENCE = 7;
+    protected static final byte TYPE_LONG_STRING = 8; // not added to the dictionary
+    protected static final byte TYPE_BINARY = 9;
+    protected static final byte TYPE_ARRAY = 10;
+    protected static final byte TYPE_OBJECT = 11;
+    protected static final byte TYPE_BIG_DECIMAL = 12;
+    protected static final byte TYPE_BIG_INTEGER = 13;
+
+    public static byte[] encode(JsonNode node, boolean deflate) {
+        Encoder encoder = new Encoder();
+        encoder.writeByte(MAGIC);
+        encoder.writeByte(VERSION);
+        encoder.writeByte(deflate ? FLAG_DEFLATED : 0);
+
+        if (!deflate) {
+            encoder.writeValue(node);
+            return encoder.toByteArray();
+        }
+
+        Encoder bodyEncoder = new Encoder();
+        bodyEncoder.writeValue(node);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bodyEncoder.size / 4 + 16);
+        outputStream.write(encoder.bytes, 0, encoder.size);
+        try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream)) {
+            deflaterOutputStream.write(bodyEncoder.bytes, 0, bodyEncoder.size);
+        } catch (IOException e) {
+            throw new FlowableException("Error while compressing async history data", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    public static JsonNode decode(byte[] bytes) {
+        if (!isBinaryPayload(bytes)) {
+            throw new FlowableException("Async history data is not binary encoded");
+        }
+        if (bytes[1] != VERSION) {
+            throw new FlowableException("Unsupported async history binary encoding version " + bytes[1]);
+        }
+
+        byte[] body;
+        int offset;
+        if ((bytes[2] & FLAG_DEFLATED) != 0) {
+            try (InflaterInputStream inflaterInputStream = new InflaterInputStream(new ByteArrayInputStream(bytes, 3, bytes.length - 3))) {
+                body = IoUtil.readInputStream(inflaterInputStream, "async-history-data");
+            } catch (IOException e) {
+                throw new FlowableException("Error while decompressing async history data", e);
+            }
+            offset = 0;
+        } else {
+            body = bytes;
+            offset = 3;
+        }
+
+        Decoder decoder = new Decoder(body, offset);
+        JsonNode node = decoder.readValue();
+        if (decoder.position != body.length) {
+            throw new FlowableException("Unexpected data after the end of the async history data");
+        }
+        return node;
+    }
+
+    public static boolean isBinaryPayload(byte[] bytes) {
+        return bytes != null && bytes.length >= 3 && bytes[0] == MAGIC;
+    }
+
+    protected static class Encoder {
+
+        protected byte[] bytes = new byte[1024];
+        protected int size;
+        protected Map<String, Integer> fieldNames = new HashMap<>();
+        protected Map<String, Integer> strings = new HashMap<>();
+
+        protected void writeValue(JsonNode node) {
+            switch (node.getNodeType()) {
+                case NULL:
+                case MISSING:
+                    writeByte(TYPE_NULL);
+                    break;
+                case BOOLEAN:
+                    writeByte(node.booleanValue() ? TYPE_TRUE : TYPE_FALSE);
+                    break;
+                case NUMBER:
+                    writeNumber(node);
+                    break;
+                case STRING:
+                    writeString(node.textValue());
+                    break;
+                case BINARY:
+                    writeBinary(node);
+                    break;
+                case ARRAY:
+                    writeByte(TYPE_ARRAY);
+                    writeVarint(node.size());
+                    for (JsonNode element : node) {
+                        writeValue(element);
+                    }
+                    break;
+                case OBJECT:
+                    writeByte(TYPE_OBJECT);
+                    writeVarint(node.size());
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        writeFieldName(field.getKey());
+                        writeValue(field.getValue());
+                    }
+                    break;
+                default:
+                    // POJO nodes are not created for the history data, their json form is the best effort
+                    writeString(node.toString());
+            }
+        }
+
+        protected void writeNumber(JsonNode node) {
+            if (node.isInt() || node.isShort()) {
+                writeByte(TYPE_INT);
+                writeVarint(zigzag(node.intValue()));
+            } else if (node.isLong()) {
+                writeByte(TYPE_LONG);
+                writeVarint(zigzag(node.longValue()));
+            } else if (node.isBigInteger()) {
+                writeByte(TYPE_BIG_INTEGER);
+                writeUtf8(node.bigIntegerValue().toString());
+            } else if (node.isBigDecimal()) {
+                writeByte(TYPE_BIG_DECIMAL);
+                writeUtf8(node.decimalValue().toString());
+            } else {
+                writeByte(TYPE_DOUBLE);
+                long bits = Double.doubleToLongBits(node.doubleValue());
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    writeByte((byte) (bits >>> shift));
+                }
+            }
+        }
+
+        protected void writeString(String value) {
+            if (value.length() > MAX_DICTIONARY_STRING_LENGTH) {
+                writeByte(TYPE_LONG_STRING);
+                writeUtf8(value);
+                return;
+            }
+
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeByte(TYPE_STRING_REFERENCE);
+                writeVarint(index);
+            } else {
+                strings.put(value, strings.size());
+                writeByte(TYPE_STRING);
+                writeUtf8(value);
+            }
+        }
+
+        protected void writeFieldName(String fieldName) {
+            // The lowest bit tells whether the name follows or the index of an earlier name
+            Integer index = fieldNames.get(fieldName);
+            if (index != null) {
+                writeVarint((long) index << 1);
+            } else {
+                fieldNames.put(fieldName, fieldNames.size());
+                byte[] utf8 = fieldName.getBytes(StandardCharsets.UTF_8);
+                writeVarint(((long) utf8.length << 1) | 1);
+                writeBytes(utf8, utf8.length);
+            }
+        }
+
+        protected void writeBinary(JsonNode node) {
+            byte[] value;
+            try {
+                value = node.binaryValue();
+            } catch (IOException e) {
+                throw new FlowableException("Could not encode binary async history data", e);
+            }
+            writeByte(TYPE_BINARY);
+            writeVarint(value.length);
+            writeBytes(value, value.length);
+        }
+
+        protected void writeUtf8(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            writeBytes(utf8, utf8.length);
+        }
+
+        protected void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((byte) value);
+        }
+
+        protected void writeByte(byte value) {
+            ensureCapacity(1);
+            bytes[size++] = value;
+        }
+
+        protected void writeBytes(byte[] value, int length) {
+            ensureCapacity(length);
+            System.arraycopy(value, 0, bytes, size, length);
+            size += length;
+        }
+
+        protected void ensureCapacity(int additionalLength) {
+            if (size + additionalLength > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additionalLength));
+            }
+        }
+
+        protected byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        protected static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    protected static class Decoder {
+
+        protected final byte[] bytes;
+        protected int position;
+        protected List<String> fieldNames = new ArrayList<>();
+        protected List<String> strings = new ArrayList<>();
+        protected JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+        protected Decoder(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        protected JsonNode readValue() {
+            byte type = readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    return nodeFactory.nullNode();
+                case TYPE_FALSE:
+                    return nodeFactory.booleanNode(false);
+                case TYPE_TRUE:
+                    return nodeFactory.booleanNode(true);
+                case TYPE_INT:
+                    return nodeFactory.numberNode((int) unzigzag(readVarint()));
+                case TYPE_LONG:
+                    return nodeFactory.numberNode(unzigzag(readVarint()));
+                case TYPE_DOUBLE:
+                    long bits = 0;
+                    for (int i = 0; i < 8; i++) {
+                        bits = (bits << 8) | (readByte() & 0xFF);
+                    }
+                    return nodeFactory.numberNode(Double.longBitsToDouble(bits));
+                case TYPE_STRING:
+                    String value = readUtf8();
+                    strings.add(value);
+                    return nodeFactory.textNode(value);
+                case TYPE_STRING_REFERENCE:
+                    return nodeFactory.textNode(lookup(strings, readVarint()));
+                case TYPE_LONG_STRING:
+                    return nodeFactory.textNode(readUtf8());
+                case TYPE_BINARY:
+                    int length = readLength();
+                    byte[] binary = Arrays.copyOfRange(bytes, position, position + length);
+                    position += length;
+                    return nodeFactory.binaryNode(binary);
+                case TYPE_ARRAY:
+                    int elementCount = readLength();
+                    ArrayNode arrayNode = nodeFactory.arrayNode(elementCount);
+                    for (int i = 0; i < elementCount; i++) {
+                        arrayNode.add(readValue());
+                    }
+                    return arrayNode;
+                case TYPE_OBJECT:
+                    int fieldCount = readLength();
+                    ObjectNode objectNode = nodeFactory.objectNode();
+                    for (int i = 0; i < fieldCount; i++) {
+                        String fieldName = readFieldName();
+                        objectNode.set(fieldName, readValue());
+                    }
+                    return objectNode;
+                case TYPE_BIG_DECIMAL:
+                    return nodeFactory.numberNode(new BigDecimal(readUtf8()));
+                case TYPE_BIG_INTEGER:
+                    return nodeFactory.numberNode(new BigInteger(readUtf8()));
+                default:
+                    throw new FlowableException("Unknown type " + type + " in async history data at position " + (position - 1));
+            }
+        }
+
+        protected String readFieldName() {
+            long value = readVarint();
+            if ((value & 1) == 0) {
+                return lookup(fieldNames, value >>> 1);
+            }
+            int length = (int) (value >>> 1);
+            checkAvailable(length);
+            String fieldName = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            fieldNames.add(fieldName);
+            return fieldName;
+        }
+
+        protected String readUtf8() {
+            int length = readLength();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        protected int readLength() {
+            long length = readVarint();
+            if (length > bytes.length - position) {
+                throw new FlowableException("Invalid length " + length + " in async history data at position " + position);
+            }
+            return (int) length;
+        }
+
+        protected long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new FlowableException("Invalid varint in async history data at position " + position);
+        }
+
+        protected byte readByte() {
+            checkAvailable(1);
+            return bytes[position++];
+        }
+
+        protected void checkAvailable(int length) {
+            if (length > bytes.length - position) {
+                throw new FlowableException("Unexpected end of async history data");
+            }
+        }
+
+        protected String lookup(List<String> dictionary, long index) {
+            if (index >= dictionary.size()) {
+                throw new FlowableException("Invalid dictionary reference " + index + " in async history data at position " + position);
+            }
+            return dictionary.get((int) index);
+        }
+
+        protected static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+}
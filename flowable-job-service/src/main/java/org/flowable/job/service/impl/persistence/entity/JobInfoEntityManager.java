@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -26,6 +27,12 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Locks the given jobs for the lock owner with one set-based update, and returns the jobs that were locked.
+     * Jobs of which the revision changed in the meantime (e.g. locked by another executor) are not locked and not returned.
+     */
+    List<T> lockJobs(List<T> jobs, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
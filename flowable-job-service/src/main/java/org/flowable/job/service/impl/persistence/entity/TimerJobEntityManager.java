@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +41,12 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Locks the given timer jobs for the lock owner with one set-based update, and returns the timer jobs that were locked.
+     * Timer jobs of which the revision changed in the meantime (e.g. locked by another executor) are not locked and not returned.
+     */
+    List<TimerJobEntity> lockTimerJobs(List<TimerJobEntity> timerJobs, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
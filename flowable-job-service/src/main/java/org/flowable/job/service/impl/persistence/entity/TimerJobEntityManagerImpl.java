@@ -66,6 +66,11 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> lockTimerJobs(List<TimerJobEntity> timerJobs, String lockOwner, Date lockExpirationTime) {
+        return jobDataManager.lockTimerJobs(timerJobs, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return jobDataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.persistence.entity.data.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Locks a batch of jobs with one set-based update statement per chunk, instead of one optimistic update per job at flush time.
+ * <p>
+ * The update only changes the rows of which the revision still matches the selected job, so jobs that were locked or changed
+ * concurrently are skipped instead of failing the whole acquisition. The jobs that were locked are read back afterwards,
+ * by the lock owner, and returned with their new revision.
+ */
+public class BulkJobLockingUtil {
+
+    // Keeps the number of parameters per statement below the limits of all supported databases (e.g. 2100 for SQL Server)
+    public static final int MAX_JOBS_PER_STATEMENT = 500;
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Entity & HasRevision> List<T> lockJobs(DbSqlSession dbSqlSession, String updateStatement, String selectStatement,
+            List<T> jobs, String lockOwner, Date lockExpirationTime) {
+
+        List<T> lockedJobs = new ArrayList<>(jobs.size());
+        for (int fromIndex = 0; fromIndex < jobs.size(); fromIndex += MAX_JOBS_PER_STATEMENT) {
+            List<T> jobsToLock = jobs.subList(fromIndex, Math.min(jobs.size(), fromIndex + MAX_JOBS_PER_STATEMENT));
+
+            Map<String, Object> params = new HashMap<>();
+            params.put("jobs", jobsToLock);
+            params.put("lockOwner", lockOwner);
+            params.put("lockExpirationTime", lockExpirationTime);
+            int lockedJobsCount = dbSqlSession.update(updateStatement, params);
+
+            if (lockedJobsCount > 0) {
+                // The jobs were changed in the database, so the (stale) cached versions can't be used
+                lockedJobs.addAll(dbSqlSession.selectListWithRawParameterNoCacheCheck(selectStatement, params));
+            }
+        }
+        return lockedJobs;
+    }
+
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -63,7 +64,17 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         params.setFirstResult(page.getFirstResult());
         params.setMaxResults(page.getMaxResults());
         params.setOrderByColumns("CREATE_TIME_ ASC");
-        return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        String databaseType = dbSqlSession.getDbSqlSessionFactory().getDatabaseType();
+        if (JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_SKIP_LOCKED.equals(jobServiceConfiguration.getJobAcquisitionStrategy(databaseType))) {
+            return dbSqlSession.selectList("selectHistoryJobsToExecuteSkipLocked", params);
+        }
+        return dbSqlSession.selectList("selectHistoryJobsToExecute", params);
+    }
+
+    @Override
+    public List<HistoryJobEntity> lockJobs(List<HistoryJobEntity> jobs, String lockOwner, Date lockExpirationTime) {
+        return BulkJobLockingUtil.lockJobs(getDbSqlSession(), "bulkLockHistoryJobs", "selectHistoryJobsLockedByOwner", jobs, lockOwner, lockExpirationTime);
     }
 
     @Override
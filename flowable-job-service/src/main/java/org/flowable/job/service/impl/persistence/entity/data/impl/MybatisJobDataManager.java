@@ -20,6 +20,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -63,7 +64,20 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
         
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        String databaseType = dbSqlSession.getDbSqlSessionFactory().getDatabaseType();
+        if (JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_SKIP_LOCKED.equals(jobServiceConfiguration.getJobAcquisitionStrategy(databaseType))) {
+            // Oldest jobs first, like the history jobs: the jobs skipped because they are locked are picked up by another acquisition
+            ListQueryParameterObject listQueryParameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+            listQueryParameterObject.setOrderByColumns("RES.CREATE_TIME_ ASC");
+            return dbSqlSession.selectList("selectJobsToExecuteSkipLocked", listQueryParameterObject);
+        }
+        return dbSqlSession.selectList("selectJobsToExecute", params, page);
+    }
+
+    @Override
+    public List<JobEntity> lockJobs(List<JobEntity> jobs, String lockOwner, Date lockExpirationTime) {
+        return BulkJobLockingUtil.lockJobs(getDbSqlSession(), "bulkLockJobs", "selectJobsLockedByOwner", jobs, lockOwner, lockExpirationTime);
     }
 
     @Override
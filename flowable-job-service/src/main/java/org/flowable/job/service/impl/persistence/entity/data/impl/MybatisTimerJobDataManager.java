@@ -79,7 +79,17 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         Date now = jobServiceConfiguration.getClock().getCurrentTime();
         params.put("now", now);
         
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        String databaseType = dbSqlSession.getDbSqlSessionFactory().getDatabaseType();
+        if (JobServiceConfiguration.JOB_ACQUISITION_STRATEGY_SKIP_LOCKED.equals(jobServiceConfiguration.getJobAcquisitionStrategy(databaseType))) {
+            return dbSqlSession.selectList("selectTimerJobsToExecuteSkipLocked", params, page);
+        }
+        return dbSqlSession.selectList("selectTimerJobsToExecute", params, page);
+    }
+
+    @Override
+    public List<TimerJobEntity> lockTimerJobs(List<TimerJobEntity> timerJobs, String lockOwner, Date lockExpirationTime) {
+        return BulkJobLockingUtil.lockJobs(getDbSqlSession(), "bulkLockTimerJobs", "selectTimerJobsLockedByOwner", timerJobs, lockOwner, lockExpirationTime);
     }
 
     @Override
@@ -661,6 +661,19 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
 
     T endOr();
 
+    /**
+     * Only select tasks that come after the given task in the order of this query (keyset pagination).
+     * Use this instead of {@link #listPage(int, int)} to fetch the next page of a large result set:
+     * the database can seek to the start of the page using an index, instead of skipping all preceding tasks.
+     * 
+     * The query can be ordered on a single property, the task id is added as tie-breaker for tasks with an equal value for that property.
+     * Tasks for which that property is null are not returned.
+     * 
+     * @param lastSortKey the value of the ordered property of the last task of the previous page, can be null when ordering by task id only
+     * @param lastId the id of the last task of the previous page
+     */
+    T after(Object lastSortKey, String lastId);
+
     // ORDERING
 
     /**
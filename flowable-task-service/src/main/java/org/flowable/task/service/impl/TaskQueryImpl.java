@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -1534,6 +1535,15 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery after(Object lastSortKey, String lastId) {
+        if (orActive) {
+            throw new FlowableIllegalArgumentException("after() cannot be used in an or-statement");
+        }
+        setAfter(lastSortKey, lastId);
+        return this;
+    }
+
     // ordering ////////////////////////////////////////////////////////////////
 
     @Override
@@ -1653,6 +1663,20 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    protected Cursor<Task> executeCursor(CommandContext commandContext) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Including variables or identity links is not supported when streaming tasks");
+        }
+
+        ensureVariablesInitialized();
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
+        }
+        return CommandContextUtil.getTaskEntityManager(commandContext).findTasksByQueryCriteriaAsCursor(this);
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
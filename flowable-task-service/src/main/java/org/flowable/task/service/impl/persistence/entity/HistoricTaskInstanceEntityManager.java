@@ -15,6 +15,7 @@ package org.flowable.task.service.impl.persistence.entity;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
@@ -34,6 +35,12 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
+    /**
+     * Returns a cursor over the historic task instances matching the query, without adding them to the entity cache.
+     * Returns null when history is disabled.
+     */
+    Cursor<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteriaAsCursor(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
+
     List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
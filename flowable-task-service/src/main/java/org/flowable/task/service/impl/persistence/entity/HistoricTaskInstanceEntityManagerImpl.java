@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -73,6 +74,14 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public Cursor<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteriaAsCursor(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        if (taskServiceConfiguration.isHistoryEnabled()) {
+            return historicTaskInstanceDataManager.findHistoricTaskInstancesByQueryCriteriaAsCursor(historicTaskInstanceQuery);
+        }
+        return null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -181,6 +182,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
         return taskDataManager.findTasksByQueryCriteria(taskQuery);
     }
 
+    @Override
+    public Cursor<Task> findTasksByQueryCriteriaAsCursor(TaskQueryImpl taskQuery) {
+        return taskDataManager.findTasksByQueryCriteriaAsCursor(taskQuery);
+    }
+
     @Override
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
         return taskDataManager.findTasksWithRelatedEntitiesByQueryCriteria(taskQuery);
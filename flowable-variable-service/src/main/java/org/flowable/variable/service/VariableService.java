@@ -18,6 +18,7 @@ import java.util.Set;
 
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 /**
  * Service which provides access to variables.
@@ -37,6 +38,18 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Fetches the variables of the given executions in bulk, so they don't need to be fetched one execution at a time.
+     * When variable names are given, only those variables are fetched.
+     */
+    void prefetchExecutionVariableInstances(Collection<? extends VariableScopeImpl> executions, Collection<String> variableNames);
+
+    /**
+     * Fetches the variables of the given tasks in bulk, so they don't need to be fetched one task at a time.
+     * When variable names are given, only those variables are fetched.
+     */
+    void prefetchTaskVariableInstances(Collection<? extends VariableScopeImpl> tasks, Collection<String> variableNames);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> taskNames);
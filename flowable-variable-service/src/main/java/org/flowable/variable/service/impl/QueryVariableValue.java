@@ -22,6 +22,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEnt
 import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
 import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.types.JsonNodeTextCache;
 import org.flowable.variable.service.impl.util.CommandContextUtil;
 
 /**
@@ -47,16 +48,21 @@ public class QueryVariableValue implements Serializable {
 
     public void initialize(VariableTypes types) {
         if (variableInstanceEntity == null) {
-            VariableType type = types.findVariableType(value);
-            if (type instanceof ByteArrayType) {
-                throw new FlowableIllegalArgumentException("Variables of type ByteArray cannot be used to query");
-            } else if (type instanceof JPAEntityVariableType && operator != QueryOperator.EQUALS) {
-                throw new FlowableIllegalArgumentException("JPA entity variables can only be used in 'variableValueEquals'");
-            } else if (type instanceof JPAEntityListVariableType) {
-                throw new FlowableIllegalArgumentException("Variables containing a list of JPA entities cannot be used to query");
-            } else {
-                // Type implementation determines which fields are set on the entity
-                variableInstanceEntity = CommandContextUtil.getVariableInstanceEntityManager().create(name, type, value);
+            boolean jsonTextScopeOpened = JsonNodeTextCache.openScope();
+            try {
+                VariableType type = types.findVariableType(value);
+                if (type instanceof ByteArrayType) {
+                    throw new FlowableIllegalArgumentException("Variables of type ByteArray cannot be used to query");
+                } else if (type instanceof JPAEntityVariableType && operator != QueryOperator.EQUALS) {
+                    throw new FlowableIllegalArgumentException("JPA entity variables can only be used in 'variableValueEquals'");
+                } else if (type instanceof JPAEntityListVariableType) {
+                    throw new FlowableIllegalArgumentException("Variables containing a list of JPA entities cannot be used to query");
+                } else {
+                    // Type implementation determines which fields are set on the entity
+                    variableInstanceEntity = CommandContextUtil.getVariableInstanceEntityManager().create(name, type, value);
+                }
+            } finally {
+                JsonNodeTextCache.closeScope(jsonTextScopeOpened);
             }
         }
     }
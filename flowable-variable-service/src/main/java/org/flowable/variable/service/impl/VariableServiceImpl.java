@@ -22,6 +22,7 @@ import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityManager;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 /**
  * @author Tom Baeyens
@@ -58,6 +59,16 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public void prefetchExecutionVariableInstances(Collection<? extends VariableScopeImpl> executions, Collection<String> variableNames) {
+        getVariableInstanceEntityManager().prefetchExecutionVariableInstances(executions, variableNames);
+    }
+
+    @Override
+    public void prefetchTaskVariableInstances(Collection<? extends VariableScopeImpl> tasks, Collection<String> variableNames) {
+        getVariableInstanceEntityManager().prefetchTaskVariableInstances(tasks, variableNames);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName) {
         return getVariableInstanceEntityManager().findVariableInstanceByTaskAndName(taskId, taskName);
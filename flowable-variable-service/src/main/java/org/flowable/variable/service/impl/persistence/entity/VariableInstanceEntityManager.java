@@ -65,6 +65,21 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
     
     List<VariableInstanceEntity> findVariableInstancesBySubScopeIdAndScopeTypeAndNames(String subScopeId, String scopeType, Collection<String> variableNames);
 
+    /**
+     * Fetches the variables of all given execution scopes with a single query (or a few, for a large number of scopes)
+     * and makes them available on the scopes, so no query per scope is needed when they are used.
+     * Scopes for which all variables were fetched before are ignored.
+     *
+     * @param executions the execution scopes to fetch the variables for
+     * @param variableNames the names of the variables to fetch, or null to fetch all variables of the scopes
+     */
+    void prefetchExecutionVariableInstances(Collection<? extends VariableScopeImpl> executions, Collection<String> variableNames);
+
+    /**
+     * Same as {@link #prefetchExecutionVariableInstances(Collection, Collection)}, for task scopes.
+     */
+    void prefetchTaskVariableInstances(Collection<? extends VariableScopeImpl> tasks, Collection<String> variableNames);
+
     void deleteVariablesByTaskId(String taskId);
 
     void deleteVariablesByExecutionId(String executionId);
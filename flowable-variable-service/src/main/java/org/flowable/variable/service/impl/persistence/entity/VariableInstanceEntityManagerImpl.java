@@ -13,8 +13,12 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -29,6 +33,8 @@ import org.flowable.variable.service.impl.persistence.entity.data.VariableInstan
  */
 public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<VariableInstanceEntity> implements VariableInstanceEntityManager {
 
+    protected static final int MAX_PREFETCH_IDS_PER_QUERY = 1000;
+
     protected VariableInstanceDataManager variableInstanceDataManager;
 
     public VariableInstanceEntityManagerImpl(VariableServiceConfiguration variableServiceConfiguration, VariableInstanceDataManager variableInstanceDataManager) {
@@ -127,6 +133,59 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesBySubScopeIdAndScopeTypeAndNames(subScopeId, scopeType, variableNames);
     }
 
+    @Override
+    public void prefetchExecutionVariableInstances(Collection<? extends VariableScopeImpl> executions, Collection<String> variableNames) {
+        prefetchVariableInstances(executions, variableNames, false);
+    }
+
+    @Override
+    public void prefetchTaskVariableInstances(Collection<? extends VariableScopeImpl> tasks, Collection<String> variableNames) {
+        prefetchVariableInstances(tasks, variableNames, true);
+    }
+
+    protected void prefetchVariableInstances(Collection<? extends VariableScopeImpl> scopes, Collection<String> variableNames, boolean taskScopes) {
+        if (scopes == null || scopes.isEmpty() || (variableNames != null && variableNames.isEmpty())) {
+            return;
+        }
+
+        Map<String, VariableScopeImpl> scopesById = new LinkedHashMap<>();
+        for (VariableScopeImpl scope : scopes) {
+            if (scope.getId() != null && !scope.isVariableInstancesInitialized()) {
+                scopesById.put(scope.getId(), scope);
+            }
+        }
+        if (scopesById.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<String, VariableInstanceEntity>> variablesByScopeId = new HashMap<>();
+        List<String> scopeIds = new ArrayList<>(scopesById.keySet());
+        for (int i = 0; i < scopeIds.size(); i += MAX_PREFETCH_IDS_PER_QUERY) {
+            List<String> scopeIdsChunk = scopeIds.subList(i, Math.min(scopeIds.size(), i + MAX_PREFETCH_IDS_PER_QUERY));
+            List<VariableInstanceEntity> variableInstances = taskScopes
+                    ? variableInstanceDataManager.findVariableInstancesByTaskIdsAndNames(scopeIdsChunk, variableNames)
+                    : variableInstanceDataManager.findVariableInstancesByExecutionIdsAndNames(scopeIdsChunk, variableNames);
+
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                String scopeId = taskScopes ? variableInstance.getTaskId() : variableInstance.getExecutionId();
+                variablesByScopeId.computeIfAbsent(scopeId, key -> new HashMap<>()).put(variableInstance.getName(), variableInstance);
+            }
+        }
+
+        for (Map.Entry<String, VariableScopeImpl> entry : scopesById.entrySet()) {
+            VariableScopeImpl scope = entry.getValue();
+            Map<String, VariableInstanceEntity> scopeVariables = variablesByScopeId.get(entry.getKey());
+            if (variableNames == null) {
+                scope.internalSetVariableInstances(scopeVariables != null ? scopeVariables : new HashMap<>());
+
+            } else if (scopeVariables != null) {
+                for (VariableInstanceEntity variableInstance : scopeVariables.values()) {
+                    scope.internalAddUsedVariableInstance(variableInstance);
+                }
+            }
+        }
+    }
+
     @Override
     public void delete(VariableInstanceEntity entity, boolean fireDeleteEvent) {
         super.delete(entity, false);
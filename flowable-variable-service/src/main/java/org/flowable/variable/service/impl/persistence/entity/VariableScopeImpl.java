@@ -34,6 +34,7 @@ import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.event.impl.FlowableVariableEventBuilder;
+import org.flowable.variable.service.impl.types.JsonNodeTextCache;
 import org.flowable.variable.service.impl.util.CommandContextUtil;
 
 /**
@@ -84,6 +85,20 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
+    /**
+     * Only to be used when variables were fetched in bulk for multiple scopes, to avoid a call to the database per variable.
+     * Ignored when all variables of this scope are already fetched, or when the variable is already used.
+     */
+    public void internalAddUsedVariableInstance(VariableInstanceEntity variableInstance) {
+        if (variableInstances == null) {
+            usedVariablesCache.putIfAbsent(variableInstance.getName(), variableInstance);
+        }
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -849,15 +864,20 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         VariableTypes variableTypes = CommandContextUtil.getVariableServiceConfiguration().getVariableTypes();
 
-        VariableType newType = variableTypes.findVariableType(value);
+        boolean jsonTextScopeOpened = JsonNodeTextCache.openScope();
+        try {
+            VariableType newType = variableTypes.findVariableType(value);
 
-        if (newType != null && !newType.equals(variableInstance.getType())) {
-            variableInstance.setValue(null);
-            variableInstance.setType(newType);
-            variableInstance.forceUpdate();
-            variableInstance.setValue(value);
-        } else {
-            variableInstance.setValue(value);
+            if (newType != null && !newType.equals(variableInstance.getType())) {
+                variableInstance.setValue(null);
+                variableInstance.setType(newType);
+                variableInstance.forceUpdate();
+                variableInstance.setValue(value);
+            } else {
+                variableInstance.setValue(value);
+            }
+        } finally {
+            JsonNodeTextCache.closeScope(jsonTextScopeOpened);
         }
 
         initializeVariableInstanceBackPointer(variableInstance);
@@ -883,13 +903,19 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     protected VariableInstanceEntity createVariableInstance(String variableName, Object value) {
         VariableTypes variableTypes = CommandContextUtil.getVariableServiceConfiguration().getVariableTypes();
 
-        VariableType type = variableTypes.findVariableType(value);
-
         VariableInstanceEntityManager variableInstanceEntityManager = CommandContextUtil.getVariableInstanceEntityManager();
-        VariableInstanceEntity variableInstance = variableInstanceEntityManager.create(variableName, type);
-        initializeVariableInstanceBackPointer(variableInstance);
-        // Set the value after initializing the back pointer
-        variableInstance.setValue(value);
+        VariableInstanceEntity variableInstance;
+        boolean jsonTextScopeOpened = JsonNodeTextCache.openScope();
+        try {
+            VariableType type = variableTypes.findVariableType(value);
+
+            variableInstance = variableInstanceEntityManager.create(variableName, type);
+            initializeVariableInstanceBackPointer(variableInstance);
+            // Set the value after initializing the back pointer
+            variableInstance.setValue(value);
+        } finally {
+            JsonNodeTextCache.closeScope(jsonTextScopeOpened);
+        }
         variableInstanceEntityManager.insert(variableInstance);
 
         if (variableInstances != null) {
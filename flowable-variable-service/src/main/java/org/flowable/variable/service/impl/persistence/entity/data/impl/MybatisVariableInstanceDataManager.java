@@ -14,6 +14,7 @@ package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,6 +27,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEnt
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByExecutionIdMatcher;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByExecutionIdsAndNamesMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByScopeIdAndScopeTypeAndVariableNameMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByScopeIdAndScopeTypeMatcher;
@@ -33,6 +35,7 @@ import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematc
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceBySubScopeIdAndScopeTypeAndVariableNamesMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceBySubScopeIdAndScopeTypeMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByTaskIdMatcher;
+import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.VariableInstanceByTaskIdsAndNamesMatcher;
 
 /**
  * @author Joram Barrez
@@ -44,6 +47,12 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByTaskIdMatcher
         = new VariableInstanceByTaskIdMatcher();
+
+    protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByExecutionIdsAndNamesMatcher
+        = new VariableInstanceByExecutionIdsAndNamesMatcher();
+
+    protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByTaskIdsAndNamesMatcher
+        = new VariableInstanceByTaskIdsAndNamesMatcher();
     
     protected CachedEntityMatcher<VariableInstanceEntity> variableInstanceByScopeIdAndScopeTypeMatcher 
         = new VariableInstanceByScopeIdAndScopeTypeMatcher();
@@ -93,6 +102,14 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariablesByExecutionIds", executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> names) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("executionIds", new HashSet<>(executionIds));
+        params.put("names", names != null ? new HashSet<>(names) : null);
+        return getList("selectVariablesByExecutionIdsAndNames", params, variableInstanceByExecutionIdsAndNamesMatcher, true);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         Map<String, String> params = new HashMap<>(2);
@@ -110,6 +127,14 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariableInstancesByExecutionAndNames", params);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByTaskIdsAndNames(Collection<String> taskIds, Collection<String> names) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("taskIds", new HashSet<>(taskIds));
+        params.put("names", names != null ? new HashSet<>(names) : null);
+        return getList("selectVariablesByTaskIdsAndNames", params, variableInstanceByTaskIdsAndNamesMatcher, true);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName) {
         Map<String, String> params = new HashMap<>(2);
@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Frederik Heremans
  */
-public class BooleanType implements VariableType {
+public class BooleanType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "boolean";
     private static final long serialVersionUID = 1L;
@@ -62,4 +61,9 @@ public class BooleanType implements VariableType {
         }
         return Boolean.class.isAssignableFrom(value.getClass()) || boolean.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return Boolean.class.isAssignableFrom(valueClass) || boolean.class.isAssignableFrom(valueClass);
+    }
 }
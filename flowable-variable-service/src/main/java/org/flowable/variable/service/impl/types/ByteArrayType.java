@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class ByteArrayType implements VariableType {
+public class ByteArrayType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "bytes";
 
@@ -51,4 +50,9 @@ public class ByteArrayType implements VariableType {
         }
         return byte[].class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return byte[].class.isAssignableFrom(valueClass);
+    }
 }
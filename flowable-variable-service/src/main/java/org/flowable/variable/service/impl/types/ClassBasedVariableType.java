@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import org.flowable.variable.api.types.VariableType;
+
+/**
+ * A {@link VariableType} that can tell from the class of a value whether it is able to store it, without looking at the value itself.
+ * {@link DefaultVariableTypes} uses this to remember per value class which types need to be checked in {@link DefaultVariableTypes#findVariableType(Object)}.
+ * <p>
+ * The answer is only used when {@link #isAbleToStore(Object)} and {@link #isAbleToStoreValuesOf(Class)} are declared by the same class,
+ * so a subclass overriding only {@link #isAbleToStore(Object)} is always checked with the value.
+ */
+public interface ClassBasedVariableType extends VariableType {
+
+    /**
+     * Returns {@link Boolean#TRUE} or {@link Boolean#FALSE} when {@link #isAbleToStore(Object)} gives that result for any non-null value of the given class,
+     * or null when the result depends on the value (e.g. on the length of a string).
+     */
+    Boolean isAbleToStoreValuesOf(Class<?> valueClass);
+
+}
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
@@ -32,6 +33,12 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    /**
+     * The types that need to be checked for a non-null value of a class, in order. Types that can tell from the class alone that they are not able
+     * to store the value are left out, and the list ends at the first type that can tell from the class alone that it is able to store the value.
+     */
+    private transient volatile Map<Class<?>, VariableType[]> typesByValueClass;
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +48,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesByValueClass = null;
         return this;
     }
 
@@ -51,6 +59,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        typesByValueClass = null;
     }
 
     @Override
@@ -60,14 +69,66 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
-                return type;
+        if (value != null) {
+            for (VariableType type : getTypesForValueClass(value.getClass())) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
+
+        } else {
+            for (VariableType type : typesList) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected VariableType[] getTypesForValueClass(Class<?> valueClass) {
+        Map<Class<?>, VariableType[]> typesByValueClass = this.typesByValueClass;
+        if (typesByValueClass == null) {
+            typesByValueClass = new ConcurrentHashMap<>();
+            this.typesByValueClass = typesByValueClass;
+        }
+
+        VariableType[] types = typesByValueClass.get(valueClass);
+        if (types == null) {
+            List<VariableType> typesToCheck = new ArrayList<>();
+            for (VariableType type : typesList) {
+                Boolean ableToStore = isAbleToStoreValuesOf(type, valueClass);
+                if (ableToStore == null || ableToStore) {
+                    typesToCheck.add(type);
+                    if (ableToStore != null) {
+                        break;
+                    }
+                }
+            }
+            types = typesToCheck.toArray(new VariableType[0]);
+            typesByValueClass.put(valueClass, types);
+        }
+        return types;
+    }
+
+    protected Boolean isAbleToStoreValuesOf(VariableType type, Class<?> valueClass) {
+        if (!(type instanceof ClassBasedVariableType)) {
+            return null;
+        }
+
+        try {
+            // A subclass could override isAbleToStore, without knowing about the class based check
+            Class<?> isAbleToStoreClass = type.getClass().getMethod("isAbleToStore", Object.class).getDeclaringClass();
+            Class<?> isAbleToStoreValuesOfClass = type.getClass().getMethod("isAbleToStoreValuesOf", Class.class).getDeclaringClass();
+            if (isAbleToStoreClass != isAbleToStoreValuesOfClass) {
+                return null;
+            }
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return ((ClassBasedVariableType) type).isAbleToStoreValuesOf(valueClass);
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
@@ -87,6 +148,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesByValueClass = null;
         return this;
     }
 }
@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class DoubleType implements VariableType {
+public class DoubleType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "double";
 
@@ -51,4 +50,9 @@ public class DoubleType implements VariableType {
         }
         return Double.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return Double.class.isAssignableFrom(valueClass);
+    }
 }
@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Joram Barrez
  */
-public class IntegerType implements VariableType {
+public class IntegerType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "integer";
 
@@ -60,4 +59,9 @@ public class IntegerType implements VariableType {
         }
         return Integer.class.isAssignableFrom(value.getClass()) || int.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return Integer.class.isAssignableFrom(valueClass) || int.class.isAssignableFrom(valueClass);
+    }
 }
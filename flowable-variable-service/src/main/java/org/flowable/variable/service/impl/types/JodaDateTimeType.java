@@ -13,13 +13,12 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 import org.joda.time.DateTime;
 
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateTimeType implements VariableType {
+public class JodaDateTimeType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "jodadatetime";
 
@@ -41,6 +40,11 @@ public class JodaDateTimeType implements VariableType {
         return DateTime.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return DateTime.class.isAssignableFrom(valueClass);
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -13,13 +13,12 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 import org.joda.time.LocalDate;
 
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateType implements VariableType {
+public class JodaDateType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "jodadate";
 
@@ -41,6 +40,11 @@ public class JodaDateType implements VariableType {
         return LocalDate.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return LocalDate.class.isAssignableFrom(valueClass);
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
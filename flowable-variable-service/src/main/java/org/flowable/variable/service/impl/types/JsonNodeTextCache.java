@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Remembers the text of the last {@link JsonNode} serialized for a length check within a scope on the current thread, so {@link JsonType} and
+ * {@link LongJsonType} serialize a json variable only once: for the length checks in isAbleToStore and for storing the value that follows.
+ * <p>
+ * Text is only remembered between {@link #openScope()} and {@link #closeScope(boolean)}, which callers wrap around finding the type of a value
+ * and storing it. Outside of a scope every node is serialized again, so a node changed between two writes never gets stale text.
+ */
+public final class JsonNodeTextCache {
+
+    private static final ThreadLocal<SerializedNode> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private JsonNodeTextCache() {
+    }
+
+    /**
+     * Opens a scope in which the text of a checked node is remembered for storing it.
+     * 
+     * @return true when the scope was opened by this call, false when a scope was already open on the current thread
+     */
+    public static boolean openScope() {
+        if (CURRENT_SCOPE.get() != null) {
+            return false;
+        }
+        CURRENT_SCOPE.set(new SerializedNode());
+        return true;
+    }
+
+    /**
+     * Closes the scope and forgets the remembered text, when the scope was opened by the matching {@link #openScope()}.
+     */
+    public static void closeScope(boolean opened) {
+        if (opened) {
+            CURRENT_SCOPE.remove();
+        }
+    }
+
+    /**
+     * Returns the text of the node for a length check, remembering it for the following {@link #takeText(JsonNode)} within the current scope.
+     */
+    public static String getText(JsonNode node) {
+        SerializedNode serializedNode = CURRENT_SCOPE.get();
+        if (serializedNode == null) {
+            return node.toString();
+        }
+        if (serializedNode.node == node) {
+            return serializedNode.text;
+        }
+
+        String text = node.toString();
+        serializedNode.node = node;
+        serializedNode.text = text;
+        return text;
+    }
+
+    /**
+     * Returns the text of the node to store it, and forgets the remembered text.
+     */
+    public static String takeText(JsonNode node) {
+        SerializedNode serializedNode = CURRENT_SCOPE.get();
+        if (serializedNode == null) {
+            return node.toString();
+        }
+
+        String text = serializedNode.node == node ? serializedNode.text : node.toString();
+        serializedNode.node = null;
+        serializedNode.text = null;
+        return text;
+    }
+
+    private static class SerializedNode {
+
+        private JsonNode node;
+        private String text;
+    }
+
+}
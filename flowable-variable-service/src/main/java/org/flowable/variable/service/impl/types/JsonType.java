@@ -13,7 +13,6 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,7 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * @author Tijs Rademakers
  */
-public class JsonType implements VariableType {
+public class JsonType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "json";
 
@@ -62,7 +61,11 @@ public class JsonType implements VariableType {
 
     @Override
     public void setValue(Object value, ValueFields valueFields) {
-        valueFields.setTextValue(value != null ? value.toString() : null);
+        if (value instanceof JsonNode) {
+            valueFields.setTextValue(JsonNodeTextCache.takeText((JsonNode) value));
+        } else {
+            valueFields.setTextValue(value != null ? value.toString() : null);
+        }
     }
 
     @Override
@@ -72,8 +75,14 @@ public class JsonType implements VariableType {
         }
         if (JsonNode.class.isAssignableFrom(value.getClass())) {
             JsonNode jsonValue = (JsonNode) value;
-            return jsonValue.toString().length() <= maxLength;
+            return JsonNodeTextCache.getText(jsonValue).length() <= maxLength;
         }
         return false;
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        // The length of the value decides
+        return JsonNode.class.isAssignableFrom(valueClass) ? null : Boolean.FALSE;
+    }
 }
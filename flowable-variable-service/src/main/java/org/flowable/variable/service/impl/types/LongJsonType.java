@@ -47,11 +47,17 @@ public class LongJsonType extends SerializableType {
         }
         if (JsonNode.class.isAssignableFrom(value.getClass())) {
             JsonNode jsonValue = (JsonNode) value;
-            return jsonValue.toString().length() >= minLength;
+            return JsonNodeTextCache.getText(jsonValue).length() >= minLength;
         }
         return false;
     }
 
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        // The length of the value decides
+        return JsonNode.class.isAssignableFrom(valueClass) ? null : Boolean.FALSE;
+    }
+
     @Override
     public byte[] serialize(Object value, ValueFields valueFields) {
         if (value == null) {
@@ -59,7 +65,7 @@ public class LongJsonType extends SerializableType {
         }
         JsonNode valueNode = (JsonNode) value;
         try {
-            return valueNode.toString().getBytes(StandardCharsets.UTF_8);
+            return JsonNodeTextCache.takeText(valueNode).getBytes(StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw new FlowableException("Error getting bytes from json variable", e);
         }
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Martin Grofcik
  */
-public class LongStringType extends SerializableType {
+public class LongStringType extends SerializableType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "longString";
     private final int minLength;
@@ -40,4 +40,10 @@ public class LongStringType extends SerializableType {
         }
         return false;
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        // The length of the value decides
+        return String.class.isAssignableFrom(valueClass) ? null : Boolean.FALSE;
+    }
 }
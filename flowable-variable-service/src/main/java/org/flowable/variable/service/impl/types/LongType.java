@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class LongType implements VariableType {
+public class LongType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "long";
 
@@ -56,4 +55,9 @@ public class LongType implements VariableType {
         }
         return Long.class.isAssignableFrom(value.getClass()) || long.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return Long.class.isAssignableFrom(valueClass) || long.class.isAssignableFrom(valueClass);
+    }
 }
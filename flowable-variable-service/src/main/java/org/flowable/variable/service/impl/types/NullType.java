@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class NullType implements VariableType {
+public class NullType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "null";
 
@@ -44,6 +43,11 @@ public class NullType implements VariableType {
         return (value == null);
     }
 
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return false;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
     }
@@ -126,6 +126,11 @@ public class SerializableType extends ByteArrayType {
         return value instanceof Serializable;
     }
 
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return Serializable.class.isAssignableFrom(valueClass);
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
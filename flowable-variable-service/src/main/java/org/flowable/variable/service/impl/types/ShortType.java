@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Joram Barrez
  */
-public class ShortType implements VariableType {
+public class ShortType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "short";
 
@@ -60,4 +59,9 @@ public class ShortType implements VariableType {
         }
         return Short.class.isAssignableFrom(value.getClass()) || short.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return Short.class.isAssignableFrom(valueClass) || short.class.isAssignableFrom(valueClass);
+    }
 }
@@ -13,12 +13,11 @@
 package org.flowable.variable.service.impl.types;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class StringType implements VariableType {
+public class StringType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "string";
     private final int maxLength;
@@ -58,4 +57,10 @@ public class StringType implements VariableType {
         }
         return false;
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        // The length of the value decides
+        return String.class.isAssignableFrom(valueClass) ? null : Boolean.FALSE;
+    }
 }
@@ -15,12 +15,11 @@ package org.flowable.variable.service.impl.types;
 import java.util.UUID;
 
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Birger Zimmermann
  */
-public class UUIDType implements VariableType {
+public class UUIDType implements ClassBasedVariableType {
 
     public static final String TYPE_NAME = "uuid";
 
@@ -60,4 +59,9 @@ public class UUIDType implements VariableType {
         }
         return UUID.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public Boolean isAbleToStoreValuesOf(Class<?> valueClass) {
+        return UUID.class.isAssignableFrom(valueClass);
+    }
 }
\ No newline at end of file